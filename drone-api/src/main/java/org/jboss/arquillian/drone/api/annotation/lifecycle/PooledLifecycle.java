@@ -0,0 +1,36 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.api.annotation.lifecycle;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.jboss.arquillian.drone.api.annotation.DroneLifecycle;
+
+/**
+ * Declaration of pooled lifecycle, which means the drone will be prepared in {@link BeforeClass} like a class scoped
+ * one, but instead of being destroyed in {@link AfterClass} it is reset and kept warm for the next test class that
+ * declares the same drone point. The pooled instances are destroyed in {@link AfterSuite}.
+ * <p/>
+ * NOTE: The drone type has to provide a {@code Resetter}, otherwise the instance is destroyed as a class scoped one.
+ */
+@DroneLifecycle
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PooledLifecycle {
+}
@@ -17,17 +17,23 @@
 package org.jboss.arquillian.drone.configuration;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
 import org.jboss.arquillian.config.descriptor.api.ExtensionDef;
 import org.jboss.arquillian.core.spi.Validate;
+import org.jboss.arquillian.drone.configuration.ConfigurationMappingPlan.FieldMapping;
+import org.jboss.arquillian.drone.configuration.ConfigurationMappingPlan.MapFieldMapping;
+import org.jboss.arquillian.drone.configuration.ConfigurationMappingPlan.PropertyTarget;
 import org.jboss.arquillian.drone.configuration.legacy.LegacyConfigurationMapper;
 import org.jboss.arquillian.drone.configuration.mapping.BooleanValueMapper;
 import org.jboss.arquillian.drone.configuration.mapping.DoubleValueMapper;
@@ -50,17 +56,27 @@ import org.jboss.arquillian.drone.spi.DroneConfiguration;
  * <p>
  * All properties, which does not have an appropriate fields to be assigned, are stored in each available map, given that
  * configuration provides a {@code Map<String,String>} fields. Properties using their name as a key.
+ * <p>
+ * Inspection of a configuration class is done only once, the result is kept in a {@link ConfigurationMappingPlan}.
+ * <p>
+ * Values are converted by the first {@link ValueMapper} from {@link #VALUE_MAPPERS} that handles the type of the field.
+ * Besides the built-in mappers, additional ones can be registered as services of {@link ValueMapper} in
+ * {@code META-INF/services}. These are used for the types not handled by the built-in mappers.
  *
  * @author <a href="mailto:kpiwko@redhat.com">Karel Piwko</a>
  * @see DroneConfiguration
  */
 public class ConfigurationMapper {
     // FIXME this should be in SPI with a proper event model
+    // mappers should only be appended to the list, as resolved mappers are remembered per type
     public static final List<ValueMapper<?>> VALUE_MAPPERS;
     private static final Logger log = Logger.getLogger(ConfigurationMapper.class.getName());
 
+    private static final ConcurrentMap<Class<?>, ValueMapper<?>> VALUE_MAPPERS_BY_TYPE =
+        new ConcurrentHashMap<Class<?>, ValueMapper<?>>();
+
     static {
-        VALUE_MAPPERS = new ArrayList<ValueMapper<?>>();
+        VALUE_MAPPERS = new CopyOnWriteArrayList<ValueMapper<?>>();
         VALUE_MAPPERS.add(BooleanValueMapper.INSTANCE);
         VALUE_MAPPERS.add(DoubleValueMapper.INSTANCE);
         VALUE_MAPPERS.add(IntegerValueMapper.INSTANCE);
@@ -70,6 +86,7 @@ public class ConfigurationMapper {
         VALUE_MAPPERS.add(URLValueMapper.INSTANCE);
         VALUE_MAPPERS.add(FileValueMapper.INSTANCE);
         VALUE_MAPPERS.add(LogLevelMapper.INSTANCE);
+        VALUE_MAPPERS.addAll(loadValueMapperServices());
     }
 
     // FIXME this should not be a static helper class but a proper observer on ArquillianDescriptor
@@ -97,8 +114,31 @@ public class ConfigurationMapper {
         Validate.notNull(configuration, "Configuration object must not be null");
         Validate.notNull(qualifier, "Qualifier object must not be null");
 
+        return fromArquillianDescriptor(descriptor, configuration, qualifier.getSimpleName().toLowerCase());
+    }
+
+    /**
+     * Maps a configuration using Arquillian Descriptor file, the qualifier is given by its name as used in the
+     * descriptor, e.g. {@code different} for {@code <extension qualifier="webdriver-different">}
+     *
+     * @param <T>
+     *     Type of the configuration
+     * @param descriptor
+     *     Arquillian Descriptor
+     * @param configuration
+     *     Configuration object
+     * @param qualifierName
+     *     Lower case name of the qualifier
+     *
+     * @return Configured configuration
+     */
+    public static <T extends DroneConfiguration<T>> T fromArquillianDescriptor(ArquillianDescriptor descriptor,
+        T configuration, String qualifierName) {
+        Validate.notNull(descriptor, "Descriptor must not be null");
+        Validate.notNull(configuration, "Configuration object must not be null");
+        Validate.notNull(qualifierName, "Qualifier name must not be null");
+
         String descriptorQualifier = configuration.getConfigurationName();
-        String qualifierName = qualifier.getSimpleName().toLowerCase();
 
         Map<String, String> nameValuePairs = loadNameValuePairs(descriptor, descriptorQualifier, qualifierName);
         // ARQ-1882
@@ -122,23 +162,16 @@ public class ConfigurationMapper {
      *
      * @return Configured configuration of given type
      */
-    // @SuppressWarnings("unchecked")
     static <T extends DroneConfiguration<T>> T mapFromNameValuePairs(T configuration,
         Map<String, String> nameValuePairs) {
-        Map<String, Field> fields = SecurityActions.getAccessableFields(configuration.getClass());
+        ConfigurationMappingPlan plan = ConfigurationMappingPlan.forClass(configuration.getClass());
 
         // extract all Map<String,Object> in the configuration and initialize them
-        List<Field> maps = SecurityActions.getMapFields(configuration.getClass(), String.class, Object.class);
-        for (Field mapField : maps) {
+        for (MapFieldMapping mapField : plan.getMaps()) {
             try {
                 // get or create a map
-                @SuppressWarnings("unchecked")
-                Map<String, Object> map = (Map<String, Object>) mapField.get(configuration);
-                if (map == null) {
-                    map = new HashMap<String, Object>();
-                }
-                mapField.set(configuration, map);
-            } catch (Exception e) {
+                mapField.getOrCreate(configuration);
+            } catch (Throwable e) {
                 throw new RuntimeException("Could not map Drone configuration(" + configuration.getConfigurationName()
                     + ") for " + configuration.getClass().getName() + " from Arquillian Descriptor", e);
             }
@@ -147,26 +180,20 @@ public class ConfigurationMapper {
         // map basic fields
         for (Map.Entry<String, String> nameValue : nameValuePairs.entrySet()) {
             String name = nameValue.getKey();
+            PropertyTarget target = plan.resolve(name);
 
-            String reversedName = keyTransformReverse(name);
-            // map a field which has a field directly available in the configuration
-            if (fields.containsKey(name)) {
-                injectField(configuration, maps, fields, name, nameValue.getValue());
+            if (target.getFieldName() == null) {
+                injectMapProperty(configuration, plan, name, nameValue.getValue());
+                continue;
             }
-            // map a field which comes from a system property which has a field available in the configuration
-            // note, due to multiple deprecation, it might be possible that field we deprecated in favor of capability
-            // has reversed name value exactly the same as capability - ARQ-1638
-            else if (fields.containsKey(reversedName) && !LegacyConfigurationMapper.isLegacy(reversedName)) {
+
+            if (target.isReversedName()) {
                 // we prefer new format arquillian.mockdriver.intField over arquillian.mockdriver.int.field
                 log.log(Level.WARNING,
                     "The system property \"{0}\" used in Arquillian \"{1}\" configuration is deprecated, please rather use new format \"{2}\"",
-                    new Object[] {name, configuration.getConfigurationName(), keyTransformReverse(name)});
-                injectField(configuration, maps, fields, keyTransformReverse(name), nameValue.getValue());
-            }
-            // map a field which does not have this luck into all available maps in configuration
-            else {
-                injectMapProperty(configuration, maps, fields, name, nameValue.getValue());
+                    new Object[] {name, configuration.getConfigurationName(), target.getFieldName()});
             }
+            injectField(configuration, plan, target.getFieldName(), nameValue.getValue());
         }
 
         return configuration;
@@ -242,53 +269,49 @@ public class ConfigurationMapper {
         return sb.toString();
     }
 
-    static <T extends DroneConfiguration<T>> Field injectField(T configuration, List<Field> maps,
-        Map<String, Field> fields,
+    static <T extends DroneConfiguration<T>> void injectField(T configuration, ConfigurationMappingPlan plan,
         String fieldName, String value) {
         try {
-            Field f = fields.get(fieldName);
-            if (f.getAnnotation(Deprecated.class) != null) {
+            FieldMapping f = plan.getField(fieldName);
+            if (f.isDeprecated()) {
                 log.log(Level.WARNING, "The property \"{0}\" used in Arquillian \"{1}\" configuration is deprecated.",
                     new Object[] {f.getName(), configuration.getConfigurationName()});
             }
 
             // remap the property into capability if this is a legacy one
             // or remap the property into different property field
-            if (LegacyConfigurationMapper.isLegacy(fieldName)) {
+            if (f.isLegacy()) {
                 String newKey = LegacyConfigurationMapper.remapKey(fieldName);
                 String newValue = LegacyConfigurationMapper.remapValue(fieldName, value);
 
                 if (LegacyConfigurationMapper.remapsToCapability(fieldName)) {
-                    injectMapProperty(configuration, maps, fields, newKey, newValue);
+                    injectMapProperty(configuration, plan, newKey, newValue);
                 } else {
-                    injectField(configuration, maps, fields, newKey, newValue);
+                    injectField(configuration, plan, newKey, newValue);
                 }
             }
 
-            f.set(configuration, convert(f.getType(), value));
-            return f;
-        } catch (Exception e) {
+            f.set(configuration, value);
+        } catch (Throwable e) {
             throw new RuntimeException(
                 "Could not map Drone configuration(" + configuration.getConfigurationName() + ") for "
                     + configuration.getClass().getName() + " from Arquillian Descriptor", e);
         }
     }
 
-    static <T extends DroneConfiguration<T>> void injectMapProperty(T configuration, List<Field> maps,
-        Map<String, Field> fields, String propertyName, String value) {
+    static <T extends DroneConfiguration<T>> void injectMapProperty(T configuration, ConfigurationMappingPlan plan,
+        String propertyName, String value) {
 
         try {
-            for (Field mapField : maps) {
+            for (MapFieldMapping mapField : plan.getMaps()) {
                 Object typedValue = value;
                 if (CapabilityTypeMapper.isCastNeeded(propertyName)) {
                     typedValue = CapabilityTypeMapper.createTypedObjectFromString(propertyName, value);
                 }
                 // put property into a map
-                @SuppressWarnings("unchecked")
-                Map<String, Object> map = (Map<String, Object>) mapField.get(configuration);
-                map.put(propertyName, typedValue);
+                mapField.get(configuration).put(propertyName, typedValue);
             }
-        } catch (Exception e) {
+        } catch (Throwable e) {
             throw new RuntimeException(
                 "Could not map Drone configuration(" + configuration.getConfigurationName() + ") for "
                     + configuration.getClass().getName() + " from Arquillian Descriptor", e);
@@ -311,12 +334,43 @@ public class ConfigurationMapper {
      */
     static Object convert(Class<?> clazz, String value) {
 
+        ValueMapper<?> mapper = valueMapperFor(clazz);
+        if (mapper != null) {
+            return mapper.transform(value);
+        }
+
+        throw new IllegalArgumentException("Unable to convert value " + value + "to a class: " + clazz.getName());
+    }
+
+    /**
+     * Returns the first value mapper handling given type or {@code null} if there is none
+     */
+    static ValueMapper<?> valueMapperFor(Class<?> clazz) {
+        ValueMapper<?> resolved = VALUE_MAPPERS_BY_TYPE.get(clazz);
+        if (resolved != null) {
+            return resolved;
+        }
+
         for (ValueMapper<?> mapper : VALUE_MAPPERS) {
             if (mapper.handles(clazz)) {
-                return mapper.transform(value);
+                VALUE_MAPPERS_BY_TYPE.putIfAbsent(clazz, mapper);
+                return mapper;
             }
         }
+        return null;
+    }
 
-        throw new IllegalArgumentException("Unable to convert value " + value + "to a class: " + clazz.getName());
+    @SuppressWarnings("rawtypes")
+    private static List<ValueMapper<?>> loadValueMapperServices() {
+        List<ValueMapper<?>> mappers = new CopyOnWriteArrayList<ValueMapper<?>>();
+        try {
+            for (ValueMapper mapper : ServiceLoader.load(ValueMapper.class, ConfigurationMapper.class.getClassLoader())) {
+                log.log(Level.FINE, "Registering value mapper {0}", mapper.getClass().getName());
+                mappers.add(mapper);
+            }
+        } catch (ServiceConfigurationError e) {
+            log.log(Level.WARNING, "Unable to load value mappers registered as services", e);
+        }
+        return mappers;
     }
 }
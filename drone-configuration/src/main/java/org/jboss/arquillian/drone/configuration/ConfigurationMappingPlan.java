@@ -0,0 +1,263 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.configuration;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.jboss.arquillian.drone.configuration.legacy.LegacyConfigurationMapper;
+import org.jboss.arquillian.drone.configuration.mapping.ValueMapper;
+
+/**
+ * Mapping plan of a configuration class. It is built once per class and contains setters of all the fields that can be
+ * configured, getters and setters of {@code Map<String, Object>} fields and resolution of property names to fields.
+ * <p>
+ * Method handles of a field are created when the field is mapped for the first time, so a field which cannot be
+ * accessed fails only the mapping of that field.
+ *
+ * @see ConfigurationMapper
+ */
+final class ConfigurationMappingPlan {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<ConfigurationMappingPlan> PLANS = new ClassValue<ConfigurationMappingPlan>() {
+        @Override
+        protected ConfigurationMappingPlan computeValue(Class<?> type) {
+            return new ConfigurationMappingPlan(type);
+        }
+    };
+
+    private final Map<String, FieldMapping> fields;
+    private final List<MapFieldMapping> maps;
+
+    // property names seen so far, resolved to the way they are mapped
+    private final ConcurrentMap<String, PropertyTarget> targets = new ConcurrentHashMap<String, PropertyTarget>();
+
+    private ConfigurationMappingPlan(Class<?> configurationClass) {
+        Map<String, FieldMapping> fieldMappings = new LinkedHashMap<String, FieldMapping>();
+        for (Field field : SecurityActions.getAccessableFields(configurationClass).values()) {
+            fieldMappings.put(field.getName(), new FieldMapping(field));
+        }
+        this.fields = Collections.unmodifiableMap(fieldMappings);
+
+        List<MapFieldMapping> mapMappings = new ArrayList<MapFieldMapping>();
+        for (Field field : SecurityActions.getMapFields(configurationClass, String.class, Object.class)) {
+            mapMappings.add(new MapFieldMapping(field));
+        }
+        this.maps = Collections.unmodifiableList(mapMappings);
+    }
+
+    static ConfigurationMappingPlan forClass(Class<?> configurationClass) {
+        return PLANS.get(configurationClass);
+    }
+
+    /**
+     * Returns mapping of field with given name or {@code null} if there is no such field
+     */
+    FieldMapping getField(String fieldName) {
+        return fields.get(fieldName);
+    }
+
+    List<MapFieldMapping> getMaps() {
+        return maps;
+    }
+
+    /**
+     * Resolves where a property of given name is mapped to
+     */
+    PropertyTarget resolve(String propertyName) {
+        PropertyTarget target = targets.get(propertyName);
+        if (target == null) {
+            target = computeTarget(propertyName);
+            targets.putIfAbsent(propertyName, target);
+        }
+        return target;
+    }
+
+    private PropertyTarget computeTarget(String propertyName) {
+        // map a field which has a field directly available in the configuration
+        if (fields.containsKey(propertyName)) {
+            return new PropertyTarget(propertyName, false);
+        }
+
+        // map a field which comes from a system property which has a field available in the configuration
+        // note, due to multiple deprecation, it might be possible that field we deprecated in favor of capability
+        // has reversed name value exactly the same as capability - ARQ-1638
+        String reversedName = ConfigurationMapper.keyTransformReverse(propertyName);
+        if (fields.containsKey(reversedName) && !LegacyConfigurationMapper.isLegacy(reversedName)) {
+            return new PropertyTarget(reversedName, true);
+        }
+
+        // map a field which does not have this luck into all available maps in configuration
+        return new PropertyTarget(null, false);
+    }
+
+    private static MethodHandle setterFor(Field field) {
+        try {
+            MethodHandle setter = LOOKUP.unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                // a static field is set regardless of the configuration instance
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            }
+            return setter.asType(SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Unable to access field " + field.getName() + " of "
+                + field.getDeclaringClass().getName(), e);
+        }
+    }
+
+    private static MethodHandle getterFor(Field field) {
+        try {
+            MethodHandle getter = LOOKUP.unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            return getter.asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Unable to access field " + field.getName() + " of "
+                + field.getDeclaringClass().getName(), e);
+        }
+    }
+
+    /**
+     * Target of a property, either a field or all the maps of the configuration
+     */
+    static final class PropertyTarget {
+        private final String fieldName;
+        private final boolean reversedName;
+
+        PropertyTarget(String fieldName, boolean reversedName) {
+            this.fieldName = fieldName;
+            this.reversedName = reversedName;
+        }
+
+        /**
+         * Returns name of the field the property is mapped to or {@code null} if it is mapped to maps
+         */
+        String getFieldName() {
+            return fieldName;
+        }
+
+        /**
+         * Returns {@code true} if the field was found using deprecated dotted format of the property name
+         */
+        boolean isReversedName() {
+            return reversedName;
+        }
+    }
+
+    static final class FieldMapping {
+        private final Field field;
+        private final String name;
+        private final Class<?> type;
+        private final boolean deprecated;
+        private final boolean legacy;
+        private volatile MethodHandle setter;
+        private volatile ValueMapper<?> valueMapper;
+
+        FieldMapping(Field field) {
+            this.field = field;
+            this.name = field.getName();
+            this.type = field.getType();
+            this.deprecated = field.getAnnotation(Deprecated.class) != null;
+            this.legacy = LegacyConfigurationMapper.isLegacy(name);
+            this.valueMapper = ConfigurationMapper.valueMapperFor(type);
+        }
+
+        String getName() {
+            return name;
+        }
+
+        boolean isDeprecated() {
+            return deprecated;
+        }
+
+        boolean isLegacy() {
+            return legacy;
+        }
+
+        void set(Object configuration, String value) throws Throwable {
+            ValueMapper<?> mapper = valueMapper;
+            if (mapper == null) {
+                // a mapper might have been added since the plan was created
+                mapper = ConfigurationMapper.valueMapperFor(type);
+                if (mapper == null) {
+                    throw new IllegalArgumentException("Unable to convert value " + value + "to a class: "
+                        + type.getName());
+                }
+                valueMapper = mapper;
+            }
+            MethodHandle handle = setter;
+            if (handle == null) {
+                handle = setterFor(field);
+                setter = handle;
+            }
+            handle.invokeExact(configuration, (Object) mapper.transform(value));
+        }
+    }
+
+    static final class MapFieldMapping {
+        private final Field field;
+        private volatile MethodHandle getter;
+        private volatile MethodHandle setter;
+
+        MapFieldMapping(Field field) {
+            this.field = field;
+        }
+
+        /**
+         * Returns the map of given configuration, creates an empty one if not set
+         */
+        Map<String, Object> getOrCreate(Object configuration) throws Throwable {
+            Map<String, Object> map = get(configuration);
+            if (map == null) {
+                map = new HashMap<String, Object>();
+            }
+            MethodHandle handle = setter;
+            if (handle == null) {
+                handle = setterFor(field);
+                setter = handle;
+            }
+            handle.invokeExact(configuration, (Object) map);
+            return map;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> get(Object configuration) throws Throwable {
+            MethodHandle handle = getter;
+            if (handle == null) {
+                handle = getterFor(field);
+                getter = handle;
+            }
+            return (Map<String, Object>) (Object) handle.invokeExact(configuration);
+        }
+    }
+}
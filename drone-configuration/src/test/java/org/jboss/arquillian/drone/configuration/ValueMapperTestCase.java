@@ -16,10 +16,14 @@
  */
 package org.jboss.arquillian.drone.configuration;
 
+import java.lang.annotation.Annotation;
+import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.time.Duration;
 import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
 import org.jboss.arquillian.drone.api.annotation.Default;
+import org.jboss.arquillian.drone.spi.DroneConfiguration;
 import org.jboss.shrinkwrap.descriptor.api.Descriptors;
 import org.junit.Assert;
 import org.junit.Test;
@@ -48,4 +52,72 @@ public class ValueMapperTestCase {
         Assert.assertEquals("urlField is set", new URL("http://foo.org"), configuration.getUrlField());
         Assert.assertEquals("uriField is set", new URI("http://foo.org"), configuration.getUriField());
     }
+
+    @Test
+    public void valueMapperRegisteredAsServiceTest() throws Exception {
+        ArquillianDescriptor descriptor = Descriptors.create(ArquillianDescriptor.class).extension("durationdrone")
+            .property("timeout", "PT30S");
+
+        // the mapping plan is reused for the second configuration
+        for (int i = 0; i < 2; i++) {
+            DurationConfiguration configuration = ConfigurationMapper.fromArquillianDescriptor(descriptor,
+                new DurationConfiguration(), Default.class);
+
+            Assert.assertEquals("timeout is set", Duration.ofSeconds(30), configuration.timeout);
+        }
+    }
+
+    @Test
+    public void configurationWithStaticFieldTest() throws Exception {
+        ArquillianDescriptor descriptor = Descriptors.create(ArquillianDescriptor.class).extension("staticdrone")
+            .property("browser", "chrome");
+
+        StaticFieldConfiguration configuration = ConfigurationMapper.fromArquillianDescriptor(descriptor,
+            new StaticFieldConfiguration(), Default.class);
+
+        Assert.assertEquals("browser is set", "chrome", configuration.browser);
+        Assert.assertEquals("static field is kept", new URL("http://localhost:4444/wd/hub"),
+            StaticFieldConfiguration.DEFAULT_URL);
+    }
+
+    static class StaticFieldConfiguration implements DroneConfiguration<StaticFieldConfiguration> {
+
+        static URL DEFAULT_URL = createDefaultUrl();
+
+        private String browser;
+
+        @Override
+        public String getConfigurationName() {
+            return "staticdrone";
+        }
+
+        @Override
+        public StaticFieldConfiguration configure(ArquillianDescriptor descriptor,
+            Class<? extends Annotation> qualifier) {
+            return ConfigurationMapper.fromArquillianDescriptor(descriptor, this, qualifier);
+        }
+
+        private static URL createDefaultUrl() {
+            try {
+                return new URL("http://localhost:4444/wd/hub");
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    static class DurationConfiguration implements DroneConfiguration<DurationConfiguration> {
+
+        private Duration timeout;
+
+        @Override
+        public String getConfigurationName() {
+            return "durationdrone";
+        }
+
+        @Override
+        public DurationConfiguration configure(ArquillianDescriptor descriptor, Class<? extends Annotation> qualifier) {
+            return ConfigurationMapper.fromArquillianDescriptor(descriptor, this, qualifier);
+        }
+    }
 }
@@ -20,8 +20,10 @@ import org.jboss.arquillian.core.spi.LoadableExtension;
 import org.jboss.arquillian.drone.impl.DroneConfigurator;
 import org.jboss.arquillian.drone.impl.DroneDestructor;
 import org.jboss.arquillian.drone.impl.DroneEnhancer;
+import org.jboss.arquillian.drone.impl.DroneInstantiationReaper;
 import org.jboss.arquillian.drone.impl.DroneLifecycleManager;
 import org.jboss.arquillian.drone.impl.DroneRegistrar;
+import org.jboss.arquillian.drone.impl.DroneResetter;
 import org.jboss.arquillian.drone.impl.DroneTestEnrichBeforeClassObserver;
 import org.jboss.arquillian.drone.impl.DroneTestEnricher;
 import org.jboss.arquillian.test.spi.TestEnricher;
@@ -40,6 +42,8 @@ public class DroneExtension implements LoadableExtension {
         builder.observer(DroneConfigurator.class);
         builder.observer(DroneEnhancer.class);
         builder.observer(DroneDestructor.class);
+        builder.observer(DroneResetter.class);
+        builder.observer(DroneInstantiationReaper.class);
         builder.observer(DroneTestEnrichBeforeClassObserver.class);
     }
 }
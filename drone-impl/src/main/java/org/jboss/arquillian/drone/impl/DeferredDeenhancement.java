@@ -0,0 +1,66 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.jboss.arquillian.drone.spi.DroneInstanceEnhancer;
+import org.jboss.arquillian.drone.spi.DronePointContext;
+
+/**
+ * De-enhancement of a drone instance which is destroyed entirely in background. It is put into the metadata of the
+ * drone point by {@link DroneDestructor} before {@link org.jboss.arquillian.drone.spi.event.BeforeDroneDestroyed} is
+ * fired, {@link DroneEnhancer} then sets the enhancers to be used instead of de-enhancing the instance in the test
+ * thread.
+ * <p>
+ * The enhancers which de-enhanced the instance are remembered, so their events can be fired in the test thread once the
+ * destruction is joined.
+ */
+class DeferredDeenhancement {
+
+    private volatile Chain chain;
+
+    // written by the destruction thread, read after the destruction is joined
+    private final List<DroneInstanceEnhancer<?>> appliedEnhancers = new ArrayList<DroneInstanceEnhancer<?>>();
+
+    void setChain(Chain chain) {
+        this.chain = chain;
+    }
+
+    /**
+     * De-enhances the instance, the instance is returned as it is if there are no enhancers
+     */
+    Object deenhance(Object drone) {
+        Chain current = chain;
+        return current == null ? drone : current.deenhance(drone, appliedEnhancers);
+    }
+
+    List<DroneInstanceEnhancer<?>> getAppliedEnhancers() {
+        return Collections.unmodifiableList(appliedEnhancers);
+    }
+
+    /**
+     * De-enhances an instance using all the enhancers able to de-enhance it, without firing any events
+     */
+    interface Chain {
+        Object deenhance(Object drone, List<DroneInstanceEnhancer<?>> appliedEnhancers);
+    }
+
+    static final class Key implements DronePointContext.MetadataKey<DeferredDeenhancement> {
+    }
+}
@@ -3,6 +3,7 @@ package org.jboss.arquillian.drone.impl;
 import java.lang.annotation.Annotation;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.jboss.arquillian.container.test.api.OperateOnDeployment;
 import org.jboss.arquillian.drone.spi.DronePoint;
 
@@ -12,11 +13,14 @@ import org.jboss.arquillian.drone.spi.DronePoint;
  */
 public class DeploymentDronePointsRegistry {
 
+    // concurrent map does not allow null values
+    private static final Object NO_TEST_CLASS = new Object();
+
     private final Map<DronePoint<?>, Object> deploymentDronePoints;
     private Object testClass = null;
 
     public DeploymentDronePointsRegistry() {
-        this.deploymentDronePoints = new HashMap<DronePoint<?>, Object>();
+        this.deploymentDronePoints = new ConcurrentHashMap<DronePoint<?>, Object>();
     }
 
     /**
@@ -31,7 +35,7 @@ public class DeploymentDronePointsRegistry {
      */
     public boolean addDronePoint(DronePoint<?> deploymentDronePoint, Object testClass) {
         if (deploymentDronePoint.getLifecycle() == DronePoint.Lifecycle.DEPLOYMENT) {
-            deploymentDronePoints.put(deploymentDronePoint, testClass);
+            deploymentDronePoints.put(deploymentDronePoint, testClass == null ? NO_TEST_CLASS : testClass);
             return true;
         }
         return false;
@@ -47,9 +51,10 @@ public class DeploymentDronePointsRegistry {
      */
     public Map<DronePoint<?>, Object> filterDeploymentDronePoints(String deploymentName) {
         Map<DronePoint<?>, Object> matched = new HashMap<DronePoint<?>, Object>();
-        for (DronePoint dronePoint : deploymentDronePoints.keySet()) {
-            if (deploymentName.equals(getDeploymentName(dronePoint))) {
-                matched.put(dronePoint, deploymentDronePoints.get(dronePoint));
+        for (Map.Entry<DronePoint<?>, Object> entry : deploymentDronePoints.entrySet()) {
+            if (deploymentName.equals(getDeploymentName(entry.getKey()))) {
+                Object testClass = entry.getValue();
+                matched.put(entry.getKey(), testClass == NO_TEST_CLASS ? null : testClass);
             }
         }
         return matched;
@@ -16,10 +16,13 @@
  */
 package org.jboss.arquillian.drone.impl;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Logger;
 import org.jboss.arquillian.core.api.Injector;
 import org.jboss.arquillian.core.api.Instance;
@@ -28,26 +31,44 @@ import org.jboss.arquillian.drone.spi.DroneConfiguration;
 import org.jboss.arquillian.drone.spi.DroneContext;
 import org.jboss.arquillian.drone.spi.DronePoint;
 import org.jboss.arquillian.drone.spi.DronePointContext;
+import org.jboss.arquillian.drone.spi.DronePointFilter;
 import org.jboss.arquillian.drone.spi.FilterableResult;
+import org.jboss.arquillian.drone.spi.deployment.DeploymentNameKey;
+import org.jboss.arquillian.drone.spi.filter.DeploymentFilter;
+import org.jboss.arquillian.drone.spi.filter.LifecycleFilter;
 
 /**
- * Default implementation of {@link DroneContext}
+ * Default implementation of {@link DroneContext}. It is safe to use from multiple threads, so tests executed in
+ * parallel can work with their own drone points.
+ * <p/>
+ * Drone points are indexed by their lifecycle, drone type and deployment name, so {@link LifecycleFilter} and
+ * {@link DeploymentFilter} queries do not need to go through all the registered drone points.
  *
  * @author <a href="mailto:kpiwko@redhat.com">Karel Piwko</a>
  */
 public class DroneContextImpl implements DroneContext {
     private static final Logger LOGGER = Logger.getLogger(DroneContextImpl.class.getName());
 
-    private final Map<DronePoint<?>, DronePointContext<?>> droneContextMap;
+    private final ConcurrentMap<DronePoint<?>, DronePointContext<?>> droneContextMap;
+
+    private final Map<DronePoint.Lifecycle, Set<DronePoint<?>>> lifecycleIndex;
+    private final ConcurrentMap<Class<?>, Set<DronePoint<?>>> typeIndex;
+    private final ConcurrentMap<String, Set<DronePoint<?>>> deploymentIndex;
 
     @Inject
     private Instance<Injector> injector;
 
     @Deprecated
-    private DroneConfiguration<?> globalDroneConfiguration;
+    private volatile DroneConfiguration<?> globalDroneConfiguration;
 
     public DroneContextImpl() {
-        droneContextMap = new HashMap<DronePoint<?>, DronePointContext<?>>();
+        droneContextMap = new ConcurrentHashMap<DronePoint<?>, DronePointContext<?>>();
+        lifecycleIndex = new EnumMap<DronePoint.Lifecycle, Set<DronePoint<?>>>(DronePoint.Lifecycle.class);
+        for (DronePoint.Lifecycle lifecycle : DronePoint.Lifecycle.values()) {
+            lifecycleIndex.put(lifecycle, newIndexSet());
+        }
+        typeIndex = new ConcurrentHashMap<Class<?>, Set<DronePoint<?>>>();
+        deploymentIndex = new ConcurrentHashMap<String, Set<DronePoint<?>>>();
     }
 
     @Override
@@ -62,12 +83,17 @@ public class DroneContextImpl implements DroneContext {
 
     @Override
     public <DRONE> DronePointContext<DRONE> get(DronePoint<DRONE> dronePoint) {
-        if (!droneContextMap.containsKey(dronePoint)) {
-            DronePointContext pointContext = injector.get().inject(new DronePointContextImpl<DRONE>(dronePoint));
-            droneContextMap.put(dronePoint, pointContext);
+        DronePointContext<?> pointContext = droneContextMap.get(dronePoint);
+        if (pointContext == null) {
+            pointContext = droneContextMap.computeIfAbsent(dronePoint, point -> {
+                DronePointContext<DRONE> created =
+                    injector.get().inject(new DronePointContextImpl<DRONE>(dronePoint, this));
+                addToIndexes(dronePoint);
+                return created;
+            });
         }
 
-        return (DronePointContext<DRONE>) droneContextMap.get(dronePoint);
+        return (DronePointContext<DRONE>) pointContext;
     }
 
     @Override
@@ -78,25 +104,110 @@ public class DroneContextImpl implements DroneContext {
     @Override
     public <DRONE> void remove(DronePoint<DRONE> dronePoint) {
         // FIXME should we return the removed context?
-        droneContextMap.remove(dronePoint);
+        // indexes are updated while the entry is locked, so a drone point created again by get() stays indexed
+        droneContextMap.computeIfPresent(dronePoint, (point, removed) -> {
+            removeFromIndexes(point, removed.getMetadata(DeploymentNameKey.class));
+            return null;
+        });
     }
 
     @Override
     public <DRONE> FilterableResult<DRONE> find(final Class<DRONE> droneClass) {
+        return new FilterableResultImpl<DRONE>(this, droneClass);
+    }
+
+    /**
+     * Returns all registered drone points conforming to the given type
+     */
+    <DRONE> Set<DronePoint<DRONE>> findAll(Class<DRONE> droneClass) {
         Set<DronePoint<DRONE>> matchedDronePoints = new HashSet<DronePoint<DRONE>>();
 
         // We need to drop the generic type in order to be able to call 'accepts' on filters with <? super T>
-        for (DronePoint<?> dronePoint : droneContextMap.keySet()) {
-            if (!dronePoint.conformsTo(droneClass)) {
+        for (Map.Entry<Class<?>, Set<DronePoint<?>>> entry : typeIndex.entrySet()) {
+            if (droneClass != null && !droneClass.isAssignableFrom(entry.getKey())) {
                 continue;
             }
+            for (DronePoint<?> dronePoint : entry.getValue()) {
+                @SuppressWarnings("unchecked")
+                DronePoint<DRONE> castDronePoint = (DronePoint<DRONE>) dronePoint;
+
+                matchedDronePoints.add(castDronePoint);
+            }
+        }
+
+        return matchedDronePoints;
+    }
+
+    /**
+     * Returns a superset of drone points accepted by the filter, answered from indexes, or {@code null} if the filter
+     * cannot be answered from indexes. Subclasses of the indexed filters can accept other drone points, so only the
+     * exact filter classes are answered from indexes.
+     */
+    Set<DronePoint<?>> findIndexed(DronePointFilter<?> filter) {
+        if (filter.getClass() == LifecycleFilter.class) {
+            Set<DronePoint.Lifecycle> lifecycles = ((LifecycleFilter) filter).getLifecycles();
+            if (lifecycles.size() == 1) {
+                return lifecycleIndex.get(lifecycles.iterator().next());
+            }
+            Set<DronePoint<?>> dronePoints = new HashSet<DronePoint<?>>();
+            for (DronePoint.Lifecycle lifecycle : lifecycles) {
+                dronePoints.addAll(lifecycleIndex.get(lifecycle));
+            }
+            return dronePoints;
+        }
+        if (filter.getClass() == DeploymentFilter.class) {
+            Set<DronePoint<?>> dronePoints = new HashSet<DronePoint<?>>();
+            for (Map.Entry<String, Set<DronePoint<?>>> entry : deploymentIndex.entrySet()) {
+                if (((DeploymentFilter) filter).getPattern().matcher(entry.getKey()).matches()) {
+                    dronePoints.addAll(entry.getValue());
+                }
+            }
+            return dronePoints;
+        }
+        return null;
+    }
+
+    /**
+     * Updates deployment index when a deployment name of a drone point is changed. Changes of a context which is not
+     * registered anymore are ignored.
+     */
+    void deploymentNameChanged(DronePointContext<?> pointContext, DronePoint<?> dronePoint, String oldDeploymentName,
+        String newDeploymentName) {
+        droneContextMap.computeIfPresent(dronePoint, (point, current) -> {
+            if (current == pointContext) {
+                if (oldDeploymentName != null) {
+                    removeFromIndex(deploymentIndex, oldDeploymentName, point);
+                }
+                if (newDeploymentName != null) {
+                    deploymentIndex.computeIfAbsent(newDeploymentName, name -> newIndexSet()).add(point);
+                }
+            }
+            return current;
+        });
+    }
+
+    private void addToIndexes(DronePoint<?> dronePoint) {
+        lifecycleIndex.get(dronePoint.getLifecycle()).add(dronePoint);
+        typeIndex.computeIfAbsent(dronePoint.getDroneType(), type -> newIndexSet()).add(dronePoint);
+    }
 
-            @SuppressWarnings("unchecked")
-            DronePoint<DRONE> castDronePoint = (DronePoint<DRONE>) dronePoint;
+    private void removeFromIndexes(DronePoint<?> dronePoint, String deploymentName) {
+        lifecycleIndex.get(dronePoint.getLifecycle()).remove(dronePoint);
+        removeFromIndex(typeIndex, dronePoint.getDroneType(), dronePoint);
+        if (deploymentName != null) {
+            removeFromIndex(deploymentIndex, deploymentName, dronePoint);
+        }
+    }
 
-            matchedDronePoints.add(castDronePoint);
+    private static <K> void removeFromIndex(ConcurrentMap<K, Set<DronePoint<?>>> index, K key,
+        DronePoint<?> dronePoint) {
+        Set<DronePoint<?>> dronePoints = index.get(key);
+        if (dronePoints != null) {
+            dronePoints.remove(dronePoint);
         }
+    }
 
-        return new FilterableResultImpl<DRONE>(this, matchedDronePoints);
+    private static Set<DronePoint<?>> newIndexSet() {
+        return Collections.newSetFromMap(new ConcurrentHashMap<DronePoint<?>, Boolean>());
     }
 }
@@ -0,0 +1,276 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.impl;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jboss.arquillian.core.api.threading.ContextSnapshot;
+import org.jboss.arquillian.drone.impl.DroneLifecycleManager.GlobalDroneConfiguration;
+import org.jboss.arquillian.drone.spi.DronePoint;
+
+/**
+ * Executor owned by Drone that is used to destroy drone instances off the test thread, so closing of many browsers
+ * runs in parallel and does not delay the next test. The number of threads is set by {@code destructionThreads}
+ * property of {@code drone} extension and the number of destructions waiting for a free thread is bounded by
+ * {@code destructionQueueSize}. If the queue is full, the drone is destroyed in the calling thread.
+ * <p/>
+ * Only the part of the destruction which is safe to run in any thread is executed here, see
+ * {@link org.jboss.arquillian.drone.spi.Destructor#prepareDestroyInstance(Object)}. Arquillian contexts active at
+ * the time of submission are propagated to the executing thread. Callbacks announcing the destruction, which fire
+ * events, are run in the thread which joins the destruction, either by {@link #completeFinishedDestructions()}, which
+ * does not wait, or by {@link #awaitPendingDestructions(long)}.
+ */
+public class DroneDestructionExecutor {
+    private static final Logger log = Logger.getLogger(DroneDestructionExecutor.class.getName());
+
+    private static final String THREAD_NAME_PREFIX = "drone-destruction-";
+
+    private final ThreadPoolExecutor executor;
+
+    private final Queue<PendingDestruction> pending = new ConcurrentLinkedQueue<PendingDestruction>();
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong destroyedInCaller = new AtomicLong();
+
+    public DroneDestructionExecutor(int threads, int queueSize) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of destruction threads must be positive, was " + threads);
+        }
+        executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<Runnable>(Math.max(1, queueSize)), new PlatformThreadFactory());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Creates executor for given configuration
+     *
+     * @return the executor or {@code null} if drones are to be destroyed synchronously
+     */
+    static DroneDestructionExecutor from(GlobalDroneConfiguration configuration) {
+        if (configuration.getDestructionThreads() < 1) {
+            return null;
+        }
+        return new DroneDestructionExecutor(configuration.getDestructionThreads(),
+            configuration.getDestructionQueueSize());
+    }
+
+    /**
+     * Submits the destruction for execution. The given snapshot of Arquillian contexts is activated in the executing
+     * thread for the time of the destruction. If the queue of pending destructions is full, the destruction is
+     * executed in the calling thread and its failure is propagated to the caller.
+     *
+     * @param dronePoint drone point the destroyed instance belongs to
+     * @param destruction the part of the destruction which is safe to run in any thread
+     * @param contextSnapshot contexts to be activated in the executing thread
+     * @param afterDestroyed run in the joining thread once the destruction succeeded in background
+     *
+     * @return {@code true} if the destruction runs in background, {@code false} if it was executed in the calling
+     * thread, {@code afterDestroyed} is not run then
+     */
+    public boolean destroy(final DronePoint<?> dronePoint, final Runnable destruction,
+        final ContextSnapshot contextSnapshot, Runnable afterDestroyed) {
+        FutureTask<Boolean> task = new FutureTask<Boolean>(new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                if (contextSnapshot != null) {
+                    contextSnapshot.activate();
+                }
+                try {
+                    destruction.run();
+                    completed.incrementAndGet();
+                    return true;
+                } catch (RuntimeException e) {
+                    failed.incrementAndGet();
+                    log.log(Level.WARNING, "Unable to destroy drone instance", e);
+                    return false;
+                } finally {
+                    if (contextSnapshot != null) {
+                        contextSnapshot.deactivate();
+                    }
+                }
+            }
+        });
+
+        PendingDestruction pendingDestruction = new PendingDestruction(dronePoint, task, afterDestroyed);
+        try {
+            pending.add(pendingDestruction);
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            pending.remove(pendingDestruction);
+            log.log(Level.FINE, "Drone destruction queue is full, destroying drone in thread {0}",
+                Thread.currentThread().getName());
+            destroyedInCaller.incrementAndGet();
+            destruction.run();
+            return false;
+        }
+    }
+
+    /**
+     * Announces destructions which are already finished, without waiting for the others. Callbacks of the successful
+     * ones are run in the calling thread.
+     *
+     * @return number of announced destructions
+     */
+    public int completeFinishedDestructions() {
+        int announced = 0;
+        Iterator<PendingDestruction> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            PendingDestruction pendingDestruction = iterator.next();
+            if (pendingDestruction.future.isDone() && pending.remove(pendingDestruction)
+                && join(pendingDestruction, 0)) {
+                announced++;
+            }
+        }
+        return announced;
+    }
+
+    /**
+     * Waits until all destructions submitted so far are finished. Callbacks of the successful ones are run in the
+     * calling thread, failures of destructions are logged at the time they happen.
+     *
+     * @param timeoutInSeconds maximal time to wait for each of the destructions, {@code 0} to wait without limit
+     *
+     * @return number of announced destructions
+     */
+    public int awaitPendingDestructions(long timeoutInSeconds) {
+        int announced = 0;
+        PendingDestruction pendingDestruction;
+        while ((pendingDestruction = pending.poll()) != null) {
+            if (join(pendingDestruction, timeoutInSeconds)) {
+                announced++;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                log.log(Level.WARNING, "Interrupted while waiting for pending drone destructions");
+                return announced;
+            }
+        }
+        return announced;
+    }
+
+    // returns true if the destruction succeeded and was announced
+    private boolean join(PendingDestruction pendingDestruction, long timeoutInSeconds) {
+        Future<Boolean> future = pendingDestruction.future;
+        try {
+            boolean succeeded = timeoutInSeconds > 0 ? future.get(timeoutInSeconds, TimeUnit.SECONDS)
+                : future.get();
+            if (succeeded && pendingDestruction.afterDestroyed != null) {
+                pendingDestruction.afterDestroyed.run();
+            }
+            return succeeded;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.log(Level.WARNING, "Unable to destroy drone instance", e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.log(Level.WARNING, "Drone instance of {0} was not destroyed within {1} seconds",
+                new Object[] {pendingDestruction.dronePoint, timeoutInSeconds});
+        }
+        return false;
+    }
+
+    /**
+     * @return number of destructions that were submitted and are not joined yet
+     */
+    public int getPendingCount() {
+        int count = 0;
+        for (PendingDestruction pendingDestruction : pending) {
+            if (!pendingDestruction.future.isDone()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return number of successfully finished destructions executed by this executor
+     */
+    public long getCompletedCount() {
+        return completed.get();
+    }
+
+    /**
+     * @return number of failed destructions executed by this executor
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * @return number of destructions executed in the calling thread because the queue was full
+     */
+    public long getDestroyedInCallerCount() {
+        return destroyedInCaller.get();
+    }
+
+    public void shutdown() {
+        log.log(Level.FINE,
+            "Shutting down drone destruction executor, completed: {0}, failed: {1}, destroyed in caller thread: {2}",
+            new Object[] {getCompletedCount(), getFailedCount(), getDestroyedInCallerCount()});
+        executor.shutdown();
+    }
+
+    @Override
+    public String toString() {
+        return "DroneDestructionExecutor{" +
+            "pending=" + getPendingCount() +
+            ", completed=" + getCompletedCount() +
+            ", failed=" + getFailedCount() +
+            ", destroyedInCaller=" + getDestroyedInCallerCount() +
+            '}';
+    }
+
+    private static final class PlatformThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    private static final class PendingDestruction {
+        private final DronePoint<?> dronePoint;
+        private final Future<Boolean> future;
+        private final Runnable afterDestroyed;
+
+        private PendingDestruction(DronePoint<?> dronePoint, Future<Boolean> future, Runnable afterDestroyed) {
+            this.dronePoint = dronePoint;
+            this.future = future;
+            this.afterDestroyed = afterDestroyed;
+        }
+    }
+}
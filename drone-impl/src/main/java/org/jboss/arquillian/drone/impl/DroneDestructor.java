@@ -16,20 +16,26 @@
  */
 package org.jboss.arquillian.drone.impl;
 
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.jboss.arquillian.core.api.Event;
 import org.jboss.arquillian.core.api.Instance;
 import org.jboss.arquillian.core.api.annotation.Inject;
 import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.core.api.threading.ExecutorService;
 import org.jboss.arquillian.core.spi.ServiceLoader;
 import org.jboss.arquillian.drone.spi.Destructor;
 import org.jboss.arquillian.drone.spi.DroneContext;
+import org.jboss.arquillian.drone.spi.DroneInstanceEnhancer;
 import org.jboss.arquillian.drone.spi.DronePoint;
 import org.jboss.arquillian.drone.spi.DroneRegistry;
 import org.jboss.arquillian.drone.spi.command.DestroyDrone;
+import org.jboss.arquillian.drone.spi.event.AfterDroneDeenhanced;
 import org.jboss.arquillian.drone.spi.event.AfterDroneDestroyed;
+import org.jboss.arquillian.drone.spi.event.BeforeDroneDeenhanced;
 import org.jboss.arquillian.drone.spi.event.BeforeDroneDestroyed;
+import org.jboss.arquillian.drone.spi.event.DroneEnhancementEvent;
 import org.jboss.arquillian.drone.spi.event.DroneLifecycleEvent;
 import org.jboss.arquillian.test.spi.event.suite.After;
 import org.jboss.arquillian.test.spi.event.suite.AfterClass;
@@ -46,6 +52,15 @@ import org.jboss.arquillian.test.spi.event.suite.AfterClass;
  * Fires:
  * </p>
  * {@link BeforeDroneDestroyed} {@link AfterDroneDestroyed}
+ * <p/>
+ * <p>
+ * If {@code destructionThreads} property of {@code drone} extension is set, drones are destroyed in background by
+ * {@link DroneDestructionExecutor}. If the destructor provides {@link Destructor#prepareDestroyInBackground()}, the
+ * instance is both de-enhanced and destroyed in background, otherwise only the part of the destruction returned by
+ * {@link Destructor#prepareDestroyInstance(Object)} is. The events are still fired in the test thread, de-enhancement
+ * events and {@link AfterDroneDestroyed} of such instance are fired once the destruction is joined by
+ * {@link DroneLifecycleManager}.
+ * </p>
  *
  * @author <a href="mailto:kpiwko@redhat.com">Karel Piwko</a>
  */
@@ -64,9 +79,18 @@ public class DroneDestructor {
     @Inject
     private Event<DestroyDrone> destroyDroneCommand;
 
+    @Inject
+    private Event<DroneEnhancementEvent> droneEnhancementEvent;
+
     @Inject
     private Instance<DroneContext> droneContext;
 
+    @Inject
+    private Instance<DroneDestructionExecutor> destructionExecutor;
+
+    @Inject
+    private Instance<ExecutorService> executorService;
+
     public void destroyDrone(@Observes DestroyDrone command) {
         DroneContext context = droneContext.get();
         DronePoint<?> dronePoint = command.getDronePoint();
@@ -78,20 +102,68 @@ public class DroneDestructor {
         boolean wasInstantiated = context.get(dronePoint).isInstantiated();
         if (wasInstantiated) {
             Destructor destructor = getDestructorFor(dronePoint.getDroneType());
+            DroneDestructionExecutor executor = destructionExecutor.get();
+            Consumer backgroundDestruction = executor == null ? null : destructor.prepareDestroyInBackground();
+
+            DeferredDeenhancement deenhancement = null;
+            if (backgroundDestruction != null) {
+                // the enhancers leave the de-enhancement to the background thread
+                deenhancement = new DeferredDeenhancement();
+                context.get(dronePoint).setMetadata(DeferredDeenhancement.Key.class, deenhancement);
+            }
 
             droneLifecycleEvent.fire(new BeforeDroneDestroyed(dronePoint));
 
             // we need to get drone once again, at it might get modified by observers on previous event
             Object drone = context.get(dronePoint).getInstance();
 
+            boolean destroyedInBackground = backgroundDestruction != null
+                ? destroyInBackground(executor, backgroundDestruction, deenhancement, dronePoint, drone)
+                : destroyInstance(executor, destructor, dronePoint, drone);
+
+            // instances destroyed in background are announced when the destruction is joined
+            if (!destroyedInBackground) {
+                announceDestroyed(dronePoint, deenhancement);
+            }
+        }
+
+        context.remove(dronePoint);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private boolean destroyInBackground(DroneDestructionExecutor executor, Consumer backgroundDestruction,
+        DeferredDeenhancement deenhancement, DronePoint<?> dronePoint, Object drone) {
+        Runnable destruction = () -> backgroundDestruction.accept(deenhancement.deenhance(drone));
+        return executor.destroy(dronePoint, destruction, executorService.get().createSnapshotContext(),
+            () -> announceDestroyed(dronePoint, deenhancement));
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private boolean destroyInstance(DroneDestructionExecutor executor, Destructor destructor,
+        DronePoint<?> dronePoint, Object drone) {
+        if (executor == null) {
             destructor.destroyInstance(drone);
+            return false;
         }
 
-        if (wasInstantiated) {
-            droneLifecycleEvent.fire(new AfterDroneDestroyed(dronePoint));
+        // events and Arquillian instances are touched only here, in the test thread
+        Runnable rest = destructor.prepareDestroyInstance(drone);
+        if (rest == null) {
+            return false;
         }
+        return executor.destroy(dronePoint, rest, executorService.get().createSnapshotContext(),
+            () -> announceDestroyed(dronePoint, null));
+    }
 
-        context.remove(dronePoint);
+    // fires the events of de-enhancement done in background, if any, and the event of destroyed drone
+    private void announceDestroyed(DronePoint<?> dronePoint, DeferredDeenhancement deenhancement) {
+        if (deenhancement != null) {
+            for (DroneInstanceEnhancer<?> enhancer : deenhancement.getAppliedEnhancers()) {
+                droneEnhancementEvent.fire(new BeforeDroneDeenhanced(enhancer, dronePoint));
+                droneEnhancementEvent.fire(new AfterDroneDeenhanced(dronePoint));
+            }
+        }
+        droneLifecycleEvent.fire(new AfterDroneDestroyed(dronePoint));
     }
 
     @SuppressWarnings("rawtypes")
@@ -31,6 +31,7 @@ import org.jboss.arquillian.drone.spi.CachingCallable;
 import org.jboss.arquillian.drone.spi.DroneContext;
 import org.jboss.arquillian.drone.spi.DroneInstanceEnhancer;
 import org.jboss.arquillian.drone.spi.DronePoint;
+import org.jboss.arquillian.drone.spi.DronePointContext;
 import org.jboss.arquillian.drone.spi.InstanceOrCallableInstance;
 import org.jboss.arquillian.drone.spi.event.AfterDroneDeenhanced;
 import org.jboss.arquillian.drone.spi.event.AfterDroneEnhanced;
@@ -39,6 +40,7 @@ import org.jboss.arquillian.drone.spi.event.BeforeDroneDeenhanced;
 import org.jboss.arquillian.drone.spi.event.BeforeDroneDestroyed;
 import org.jboss.arquillian.drone.spi.event.BeforeDroneEnhanced;
 import org.jboss.arquillian.drone.spi.event.DroneEnhancementEvent;
+import org.jboss.arquillian.test.spi.event.suite.BeforeSuite;
 
 /**
  * DroneInstanceEnhancer/deenhancer of Drone instance with {@link DroneInstanceEnhancer} implementation available on the
@@ -49,12 +51,17 @@ import org.jboss.arquillian.drone.spi.event.DroneEnhancementEvent;
  * <p>
  * Observes:
  * </p>
- * {@link AfterDroneInstantiated} {@link BeforeDroneDestroyed}
+ * {@link AfterDroneInstantiated} {@link BeforeDroneDestroyed} {@link BeforeSuite}
  * <p/>
  * <p>
  * Fires:
  * </p>
  * {@link BeforeDroneEnhanced} {@link AfterDroneEnhanced} {@link BeforeDroneDeenhanced} {@link AfterDroneDeenhanced}
+ * <p/>
+ * Instances destroyed entirely in background are de-enhanced there as well, see {@link DeferredDeenhancement}, their
+ * {@link BeforeDroneDeenhanced} and {@link AfterDroneDeenhanced} events are fired once the destruction is joined.
+ * <p/>
+ * Enhancers are sorted once per suite.
  *
  * @author <a href="mailto:kpiwko@redhat.com">Karel Piwko</a>
  */
@@ -68,22 +75,25 @@ public class DroneEnhancer {
     @Inject
     private Event<DroneEnhancementEvent> droneEnhancementEvent;
 
+    private volatile EnhancerChain enhancerChain;
+
+    public void resetEnhancerChain(@Observes BeforeSuite event) {
+        enhancerChain = null;
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     public <T> void enhanceDrone(@Observes AfterDroneInstantiated event, DroneContext context) {
 
-        List<DroneInstanceEnhancer> enhancers = new ArrayList<DroneInstanceEnhancer>(serviceLoader.get().all(
-            DroneInstanceEnhancer.class));
-
-        Collections.sort(enhancers, PrecedenceComparator.getInstance());
+        EnhancerChain chain = getEnhancerChain();
 
         DronePoint<T> dronePoint = (DronePoint<T>) event.getDronePoint();
         T drone = context.get(dronePoint).getInstance();
 
-        for (DroneInstanceEnhancer<?> enhancer : enhancers) {
+        // the read-only wrapper is shared by all the enhancers until the instance is replaced
+        InstanceOrCallableInstance wrapper = new CompatibilityInstanceOrCallableInstance(drone);
+        for (DroneInstanceEnhancer<?> enhancer : chain.sorted) {
 
-            InstanceOrCallableInstance instanceOrCallableInstance = new CompatibilityInstanceOrCallableInstance(drone);
-
-            if (enhancer.canEnhance(instanceOrCallableInstance, dronePoint.getDroneType(), dronePoint.getQualifier())) {
+            if (enhancer.canEnhance(wrapper, dronePoint.getDroneType(), dronePoint.getQualifier())) {
                 log.log(Level.FINE,
                     "Enhancing Drone {0} using enhancer {2} with precedence {3}",
                     new Object[] {dronePoint, enhancer.getClass().getName(), enhancer.getPrecedence()});
@@ -97,46 +107,103 @@ public class DroneEnhancer {
                 if (enhancedDrone != drone) {
                     context.get(dronePoint).setFutureInstance(new ConstantValueCachingCallable<T>(enhancedDrone));
                     drone = enhancedDrone;
+                    wrapper = new CompatibilityInstanceOrCallableInstance(drone);
                 }
                 droneEnhancementEvent.fire(new AfterDroneEnhanced(dronePoint));
             }
         }
     }
 
-    @SuppressWarnings({"rawtypes", "unchecked"})
+    @SuppressWarnings("unchecked")
     public <T> void deenhanceDrone(@Observes BeforeDroneDestroyed event, DroneContext context) {
 
-        List<DroneInstanceEnhancer> enhancers = new ArrayList<DroneInstanceEnhancer>(serviceLoader.get().all(
-            DroneInstanceEnhancer.class));
+        final EnhancerChain chain = getEnhancerChain();
 
-        // here we are deenhancing in reversed order
-        Collections.sort(enhancers, PrecedenceComparator.getReversedOrder());
+        final DronePoint<T> dronePoint = (DronePoint<T>) event.getDronePoint();
+        DronePointContext<T> dronePointContext = context.get(dronePoint);
 
-        DronePoint<T> dronePoint = (DronePoint<T>) event.getDronePoint();
-        T drone = context.get(dronePoint).getInstance();
+        if (dronePointContext.hasMetadata(DeferredDeenhancement.Key.class)) {
+            // the instance is destroyed in background, it is de-enhanced there as well, without events
+            dronePointContext.getMetadata(DeferredDeenhancement.Key.class).setChain(
+                (drone, appliedEnhancers) -> deenhance(chain, dronePoint, (T) drone, null, appliedEnhancers));
+            return;
+        }
 
-        for (DroneInstanceEnhancer<?> enhancer : enhancers) {
+        deenhance(chain, dronePoint, dronePointContext.getInstance(), dronePointContext, null);
+    }
+
+    /**
+     * De-enhances the instance in reversed order. If the context is given, events are fired and the context is updated
+     * with the de-enhanced instance, otherwise the applied enhancers are collected.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private <T> T deenhance(EnhancerChain chain, DronePoint<T> dronePoint, T drone,
+        DronePointContext<T> dronePointContext, List<DroneInstanceEnhancer<?>> appliedEnhancers) {
 
-            InstanceOrCallableInstance instanceOrCallableInstance = new CompatibilityInstanceOrCallableInstance(drone);
+        // the read-only wrapper is shared by all the enhancers until the instance is replaced
+        InstanceOrCallableInstance wrapper = new CompatibilityInstanceOrCallableInstance(drone);
+        for (DroneInstanceEnhancer<?> enhancer : chain.reversed) {
 
-            if (enhancer.canEnhance(instanceOrCallableInstance, dronePoint.getDroneType(), dronePoint.getQualifier())) {
+            if (enhancer.canEnhance(wrapper, dronePoint.getDroneType(), dronePoint.getQualifier())) {
                 log.log(Level.FINER,
                     "Deenhancing {0} using enhancer {1} with precedence {2}",
                     new Object[] {dronePoint, enhancer.getClass().getName(), enhancer.getPrecedence()});
 
-                droneEnhancementEvent.fire(new BeforeDroneDeenhanced(enhancer, dronePoint));
+                if (dronePointContext != null) {
+                    droneEnhancementEvent.fire(new BeforeDroneDeenhanced(enhancer, dronePoint));
+                }
                 DroneInstanceEnhancer<T> supportedEnhancer = (DroneInstanceEnhancer<T>) enhancer;
                 T deenhancedDrone = supportedEnhancer.deenhance(drone, dronePoint.getQualifier());
                 if (deenhancedDrone == null) {
                     throw new IllegalStateException("Deenahnced drone cannot be null!");
                 }
                 if (deenhancedDrone != drone) {
-                    context.get(dronePoint).setFutureInstance(new ConstantValueCachingCallable<T>(deenhancedDrone));
+                    if (dronePointContext != null) {
+                        dronePointContext.setFutureInstance(new ConstantValueCachingCallable<T>(deenhancedDrone));
+                    }
                     drone = deenhancedDrone;
+                    wrapper = new CompatibilityInstanceOrCallableInstance(drone);
+                }
+                if (dronePointContext != null) {
+                    droneEnhancementEvent.fire(new AfterDroneDeenhanced(dronePoint));
+                } else {
+                    appliedEnhancers.add(enhancer);
                 }
-                droneEnhancementEvent.fire(new AfterDroneDeenhanced(dronePoint));
             }
         }
+        return drone;
+    }
+
+    private EnhancerChain getEnhancerChain() {
+        ServiceLoader loader = serviceLoader.get();
+        EnhancerChain chain = enhancerChain;
+        if (chain == null || chain.loader != loader) {
+            chain = new EnhancerChain(loader);
+            enhancerChain = chain;
+        }
+        return chain;
+    }
+
+    /**
+     * Enhancers sorted by precedence
+     */
+    @SuppressWarnings("rawtypes")
+    private class EnhancerChain {
+        private final ServiceLoader loader;
+        private final List<DroneInstanceEnhancer> sorted;
+        private final List<DroneInstanceEnhancer> reversed;
+
+        EnhancerChain(ServiceLoader loader) {
+            this.loader = loader;
+
+            List<DroneInstanceEnhancer> enhancers = new ArrayList<DroneInstanceEnhancer>(loader.all(
+                DroneInstanceEnhancer.class));
+            Collections.sort(enhancers, PrecedenceComparator.getInstance());
+            this.sorted = Collections.unmodifiableList(new ArrayList<DroneInstanceEnhancer>(enhancers));
+
+            Collections.sort(enhancers, PrecedenceComparator.getReversedOrder());
+            this.reversed = Collections.unmodifiableList(enhancers);
+        }
     }
 
     private class ConstantValueCachingCallable<V> implements CachingCallable<V> {
@@ -0,0 +1,164 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jboss.arquillian.drone.spi.CachingCallable;
+import org.jboss.arquillian.drone.spi.Destructor;
+import org.jboss.arquillian.drone.spi.DronePoint;
+
+/**
+ * A single submitted creation of drone instance. If the test thread gives up waiting for the instance, the
+ * instantiation is abandoned; its future is cancelled and an instance that is created anyway is destroyed right after
+ * it arrives, so no browser is leaked.
+ */
+class DroneInstantiation<DRONE> implements Callable<DRONE> {
+    private static final Logger log = Logger.getLogger(DroneInstantiation.class.getName());
+
+    private final DronePoint<DRONE> dronePoint;
+    private final CachingCallable<DRONE> callable;
+
+    private volatile Future<DRONE> future;
+
+    // guarded by this
+    private boolean started;
+    private boolean finished;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private DRONE instance;
+    private boolean abandoned;
+    private Destructor<? super DRONE> destructor;
+
+    DroneInstantiation(DronePoint<DRONE> dronePoint, CachingCallable<DRONE> callable) {
+        this.dronePoint = dronePoint;
+        this.callable = callable;
+    }
+
+    @Override
+    public DRONE call() throws Exception {
+        synchronized (this) {
+            // the instantiation was abandoned before it got a thread
+            if (abandoned) {
+                finished = true;
+                throw new CancellationException("Instantiation of drone point " + dronePoint + " was abandoned");
+            }
+            started = true;
+            startedAt = Instant.now();
+        }
+        DRONE drone = null;
+        try {
+            drone = callable.call();
+            return drone;
+        } finally {
+            Destructor<? super DRONE> lateDestructor;
+            synchronized (this) {
+                finished = true;
+                finishedAt = Instant.now();
+                instance = drone;
+                lateDestructor = abandoned ? destructor : null;
+            }
+            if (lateDestructor != null && drone != null) {
+                log.log(Level.WARNING, "Drone point {0} was created after its instantiation timed out, destroying it",
+                    dronePoint);
+                destroy(lateDestructor, drone);
+            }
+        }
+    }
+
+    /**
+     * Gives up the instantiation. If the instance was already created, it is destroyed immediately, otherwise the
+     * running creation is cancelled and the instance is destroyed as soon as it arrives.
+     *
+     * @param destructor destructor to be used for the instance, can be {@code null} if there is none
+     */
+    void abandon(Destructor<? super DRONE> destructor) {
+        DRONE createdInstance;
+        synchronized (this) {
+            if (abandoned) {
+                return;
+            }
+            this.abandoned = true;
+            this.destructor = destructor;
+            createdInstance = finished ? instance : null;
+        }
+
+        if (createdInstance != null) {
+            destroy(destructor, createdInstance);
+        } else if (future != null && future.cancel(true)) {
+            synchronized (this) {
+                // a creation cancelled before it started is never going to run
+                if (!started) {
+                    finished = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the instantiation was abandoned and the creation of instance is still running
+     */
+    synchronized boolean isAbandonedAndRunning() {
+        return abandoned && !finished;
+    }
+
+    /**
+     * @param instant the instant to check
+     * @param tolerance how much can the instant differ from the times recorded by the instantiation
+     * @return {@code true} if the instantiation was abandoned and its creation of instance was running at given instant
+     */
+    synchronized boolean wasAbandonedAndRunningAt(Instant instant, Duration tolerance) {
+        if (!abandoned || startedAt == null || instant.isBefore(startedAt.minus(tolerance))) {
+            return false;
+        }
+        return finishedAt == null || !instant.isAfter(finishedAt.plus(tolerance));
+    }
+
+    CachingCallable<DRONE> getCallable() {
+        return callable;
+    }
+
+    DronePoint<DRONE> getDronePoint() {
+        return dronePoint;
+    }
+
+    Future<DRONE> getFuture() {
+        return future;
+    }
+
+    void setFuture(Future<DRONE> future) {
+        this.future = future;
+    }
+
+    private void destroy(Destructor<? super DRONE> destructor, DRONE drone) {
+        if (destructor == null) {
+            log.log(Level.WARNING, "There is no destructor for drone point {0}, instance created after timeout "
+                + "is leaked", dronePoint);
+            return;
+        }
+        try {
+            destructor.destroyInstance(drone);
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Unable to destroy drone point " + dronePoint + " created after timeout", e);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.impl;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jboss.arquillian.core.api.threading.ContextSnapshot;
+import org.jboss.arquillian.drone.impl.DroneLifecycleManager.GlobalDroneConfiguration;
+
+/**
+ * Executor owned by Drone that is used to create drone instances, so the blocking creation of many drones does not
+ * serialize behind other tasks submitted to Arquillian executor. The number of threads is set by
+ * {@code instantiationThreads} property of {@code drone} extension, {@code 0} stands for an unbounded pool. If
+ * {@code useVirtualThreads} is set and the JVM supports them, the drones are created in virtual threads.
+ * <p/>
+ * Arquillian contexts active at the time of submission are propagated to the executing thread.
+ */
+public class DroneInstantiationExecutor {
+    private static final Logger log = Logger.getLogger(DroneInstantiationExecutor.class.getName());
+
+    private static final String THREAD_NAME_PREFIX = "drone-instantiation-";
+
+    private final ExecutorService executor;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public DroneInstantiationExecutor(int threads, boolean useVirtualThreads) {
+        ThreadFactory threadFactory = null;
+        if (useVirtualThreads) {
+            threadFactory = virtualThreadFactory();
+        }
+        if (threadFactory == null) {
+            threadFactory = new PlatformThreadFactory();
+        }
+
+        if (threads > 0) {
+            executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), threadFactory);
+        } else {
+            executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<Runnable>(), threadFactory);
+        }
+    }
+
+    static DroneInstantiationExecutor from(GlobalDroneConfiguration configuration) {
+        return new DroneInstantiationExecutor(configuration.getInstantiationThreads(),
+            configuration.isUseVirtualThreads());
+    }
+
+    /**
+     * Submits the callable for execution. The given snapshot of Arquillian contexts is activated in the executing
+     * thread for the time of the call.
+     */
+    public <T> Future<T> submit(final Callable<T> callable, final ContextSnapshot contextSnapshot) {
+        final AtomicBoolean dequeued = new AtomicBoolean();
+        FutureTask<T> task = new FutureTask<T>(new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                if (dequeued.compareAndSet(false, true)) {
+                    queued.decrementAndGet();
+                }
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                if (contextSnapshot != null) {
+                    contextSnapshot.activate();
+                }
+                try {
+                    T result = callable.call();
+                    completed.incrementAndGet();
+                    return result;
+                } catch (Exception | Error e) {
+                    failed.incrementAndGet();
+                    throw e;
+                } finally {
+                    if (contextSnapshot != null) {
+                        contextSnapshot.deactivate();
+                    }
+                    active.decrementAndGet();
+                }
+            }
+        }) {
+            @Override
+            protected void done() {
+                // a creation cancelled while waiting for a thread is never going to run
+                if (dequeued.compareAndSet(false, true)) {
+                    queued.decrementAndGet();
+                }
+            }
+        };
+
+        queued.incrementAndGet();
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            if (dequeued.compareAndSet(false, true)) {
+                queued.decrementAndGet();
+            }
+            throw e;
+        }
+        return task;
+    }
+
+    /**
+     * @return number of creations waiting for a free thread
+     */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    /**
+     * @return number of creations currently in progress
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * @return the highest number of creations that were in progress at the same time
+     */
+    public int getMaxActiveCount() {
+        return maxActive.get();
+    }
+
+    /**
+     * @return number of successfully finished creations
+     */
+    public long getCompletedCount() {
+        return completed.get();
+    }
+
+    /**
+     * @return number of failed creations
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    public void shutdown() {
+        log.log(Level.FINE,
+            "Shutting down drone instantiation executor, completed: {0}, failed: {1}, max parallel creations: {2}",
+            new Object[] {getCompletedCount(), getFailedCount(), getMaxActiveCount()});
+        executor.shutdown();
+    }
+
+    @Override
+    public String toString() {
+        return "DroneInstantiationExecutor{" +
+            "queued=" + getQueueDepth() +
+            ", active=" + getActiveCount() +
+            ", completed=" + getCompletedCount() +
+            ", failed=" + getFailedCount() +
+            '}';
+    }
+
+    // virtual threads are available since JDK 21, they are accessed via reflection to keep JDK 11 compatibility
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Object builder = ofVirtual.invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.log(Level.WARNING, "Virtual threads are not supported by current JVM {0}, using platform threads "
+                + "to create drone instances", SecurityActions.getProperty("java.version"));
+            return null;
+        }
+    }
+
+    private static final class PlatformThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
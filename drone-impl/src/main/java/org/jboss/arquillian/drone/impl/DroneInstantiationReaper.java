@@ -0,0 +1,182 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.jboss.arquillian.core.api.Instance;
+import org.jboss.arquillian.core.api.InstanceProducer;
+import org.jboss.arquillian.core.api.annotation.ApplicationScoped;
+import org.jboss.arquillian.core.api.annotation.Inject;
+import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.drone.impl.DroneLifecycleManager.GlobalDroneConfiguration;
+import org.jboss.arquillian.drone.spi.DroneContext;
+import org.jboss.arquillian.test.spi.event.suite.AfterSuite;
+import org.jboss.arquillian.test.spi.event.suite.BeforeSuite;
+
+/**
+ * Keeps track of drone instantiations that timed out and reaps what they left behind at the end of the suite.
+ * <p/>
+ * <p>
+ * Observes:
+ * </p>
+ * {@link BeforeSuite} {@link AfterSuite}
+ * <p/>
+ * <p>
+ * At the end of the suite, once all drones are destroyed, the instantiations that are still running are reported. If
+ * {@code orphanedProcessPattern} property of {@code drone} extension is set, driver processes matching the pattern that
+ * were started by this JVM while a timed out instantiation was running and that are still alive are killed. The
+ * pattern is empty by default, so no process is killed unless it is configured.
+ * </p>
+ */
+public class DroneInstantiationReaper {
+    private static final Logger log = Logger.getLogger(DroneInstantiationReaper.class.getName());
+
+    // runs after all other observers, so drones and driver services are already disposed
+    static final int REAPER_PRECEDENCE = -1000;
+
+    private static final long DESTROY_TIMEOUT_IN_SECONDS = 5;
+
+    // start time of a process is derived from the boot time, which is reported with a precision of seconds
+    private static final Duration PROCESS_START_TOLERANCE = Duration.ofSeconds(1);
+
+    @Inject
+    @ApplicationScoped
+    private InstanceProducer<AbandonedInstantiations> abandonedInstantiations;
+
+    @Inject
+    private Instance<DroneContext> droneContext;
+
+    public void trackInstantiations(@Observes BeforeSuite event) {
+        if (abandonedInstantiations.get() == null) {
+            abandonedInstantiations.set(new AbandonedInstantiations());
+        }
+    }
+
+    public void reap(@Observes(precedence = REAPER_PRECEDENCE) AfterSuite event) {
+        AbandonedInstantiations abandoned = abandonedInstantiations.get();
+        if (abandoned == null || abandoned.isEmpty()) {
+            return;
+        }
+        for (DroneInstantiation<?> instantiation : abandoned.getRunning()) {
+            log.log(Level.WARNING, "Instantiation of drone point {0} timed out and is still running, the instance "
+                + "will be destroyed if it is created before JVM exits", instantiation.getDronePoint());
+        }
+
+        Pattern pattern = getOrphanedProcessPattern();
+        if (pattern == null) {
+            return;
+        }
+
+        List<ProcessHandle> orphans = ProcessHandle.current().children()
+            .filter(ProcessHandle::isAlive)
+            .filter(process -> startedByAbandoned(abandoned, process))
+            .filter(process -> matches(pattern, process))
+            .collect(Collectors.toList());
+
+        for (ProcessHandle orphan : orphans) {
+            log.log(Level.WARNING, "Killing orphaned driver process {0} ({1}) that was left running by the test suite",
+                new Object[] {orphan.pid(), orphan.info().command().orElse("unknown")});
+            kill(orphan);
+        }
+    }
+
+    private Pattern getOrphanedProcessPattern() {
+        DroneContext context = droneContext.get();
+        Object configuration = context == null ? null
+            : context.getGlobalDroneConfiguration(GlobalDroneConfiguration.class);
+        String pattern = configuration instanceof GlobalDroneConfiguration
+            ? ((GlobalDroneConfiguration) configuration).getOrphanedProcessPattern()
+            : GlobalDroneConfiguration.DEFAULT_ORPHANED_PROCESS_PATTERN;
+
+        if (pattern == null || pattern.trim().isEmpty()) {
+            return null;
+        }
+        return Pattern.compile(pattern);
+    }
+
+    // a process with unknown start time is never considered to be left behind
+    private static boolean startedByAbandoned(AbandonedInstantiations abandoned, ProcessHandle process) {
+        return process.info().startInstant()
+            .map(abandoned::wereRunningAt)
+            .orElse(false);
+    }
+
+    private static boolean matches(Pattern pattern, ProcessHandle process) {
+        return process.info().command()
+            .map(command -> pattern.matcher(fileName(command)).matches())
+            .orElse(false);
+    }
+
+    // the command is not necessarily a valid path of this platform, so it is not parsed by Paths
+    static String fileName(String command) {
+        int separator = Math.max(command.lastIndexOf('/'), command.lastIndexOf('\\'));
+        return command.substring(separator + 1);
+    }
+
+    private static void kill(ProcessHandle process) {
+        process.destroy();
+        try {
+            process.onExit().get(DESTROY_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            process.destroyForcibly();
+        }
+    }
+
+    /**
+     * Instantiations that timed out during the suite
+     */
+    public static class AbandonedInstantiations {
+        private final Queue<DroneInstantiation<?>> instantiations = new ConcurrentLinkedQueue<DroneInstantiation<?>>();
+
+        void add(DroneInstantiation<?> instantiation) {
+            instantiations.add(instantiation);
+        }
+
+        boolean isEmpty() {
+            return instantiations.isEmpty();
+        }
+
+        boolean wereRunningAt(Instant instant) {
+            return instantiations.stream()
+                .anyMatch(instantiation -> instantiation.wasAbandonedAndRunningAt(instant, PROCESS_START_TOLERANCE));
+        }
+
+        List<DroneInstantiation<?>> getRunning() {
+            return instantiations.stream()
+                .filter(DroneInstantiation::isAbandonedAndRunning)
+                .collect(Collectors.toList());
+        }
+
+        /**
+         * @return number of abandoned instantiations that are still running
+         */
+        public int getRunningCount() {
+            return getRunning().size();
+        }
+    }
+}
@@ -17,6 +17,8 @@
 package org.jboss.arquillian.drone.impl;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
@@ -38,9 +40,12 @@ import org.jboss.arquillian.drone.configuration.ConfigurationMapper;
 import org.jboss.arquillian.drone.spi.DroneConfiguration;
 import org.jboss.arquillian.drone.spi.DroneContext;
 import org.jboss.arquillian.drone.spi.DronePoint;
+import org.jboss.arquillian.drone.spi.DronePointContext;
 import org.jboss.arquillian.drone.spi.FilterableResult;
 import org.jboss.arquillian.drone.spi.command.DestroyDrone;
 import org.jboss.arquillian.drone.spi.command.PrepareDrone;
+import org.jboss.arquillian.drone.spi.command.ReleaseDrone;
+import org.jboss.arquillian.drone.spi.event.AfterDroneDestroyed;
 import org.jboss.arquillian.drone.spi.event.AfterDroneExtensionConfigured;
 import org.jboss.arquillian.drone.spi.event.BeforeDroneExtensionConfigured;
 import org.jboss.arquillian.drone.spi.filter.DeploymentFilter;
@@ -48,6 +53,7 @@ import org.jboss.arquillian.drone.spi.filter.LifecycleFilter;
 import org.jboss.arquillian.test.spi.TestClass;
 import org.jboss.arquillian.test.spi.event.suite.After;
 import org.jboss.arquillian.test.spi.event.suite.AfterClass;
+import org.jboss.arquillian.test.spi.event.suite.AfterSuite;
 import org.jboss.arquillian.test.spi.event.suite.Before;
 import org.jboss.arquillian.test.spi.event.suite.BeforeClass;
 import org.jboss.arquillian.test.spi.event.suite.BeforeSuite;
@@ -69,6 +75,14 @@ public class DroneLifecycleManager {
     @ApplicationScoped
     private InstanceProducer<DeploymentDronePointsRegistry> deploymentDronePointsRegistry;
 
+    @Inject
+    @ApplicationScoped
+    private InstanceProducer<DroneInstantiationExecutor> instantiationExecutor;
+
+    @Inject
+    @ApplicationScoped
+    private InstanceProducer<DroneDestructionExecutor> destructionExecutor;
+
     @Inject
     private Event<BeforeDroneExtensionConfigured> beforeDroneExtensionConfiguredEvent;
 
@@ -81,6 +95,9 @@ public class DroneLifecycleManager {
     @Inject
     private Event<DestroyDrone> destroyDroneCommand;
 
+    @Inject
+    private Event<ReleaseDrone> releaseDroneCommand;
+
     @Inject
     private Instance<TestClass> testClassInstance;
 
@@ -101,6 +118,7 @@ public class DroneLifecycleManager {
         DroneContext context = droneContext.get();
 
         if (context.getGlobalDroneConfiguration(DroneConfiguration.class) != null) {
+            createExecutors();
             return;
         }
 
@@ -113,12 +131,32 @@ public class DroneLifecycleManager {
         }
 
         afterDroneExtensionConfiguredEvent.fire(new AfterDroneExtensionConfigured());
+
+        createExecutors();
+    }
+
+    private void createExecutors() {
+        Object configuration = droneContext.get().getGlobalDroneConfiguration(GlobalDroneConfiguration.class);
+        if (!(configuration instanceof GlobalDroneConfiguration)) {
+            return;
+        }
+        GlobalDroneConfiguration globalConfiguration = (GlobalDroneConfiguration) configuration;
+        if (instantiationExecutor.get() == null) {
+            instantiationExecutor.set(DroneInstantiationExecutor.from(globalConfiguration));
+        }
+        if (destructionExecutor.get() == null) {
+            DroneDestructionExecutor executor = DroneDestructionExecutor.from(globalConfiguration);
+            if (executor != null) {
+                destructionExecutor.set(executor);
+            }
+        }
     }
 
     @SuppressWarnings("unused")
     public void beforeClass(@Observes(precedence = CLASS_SCAN_PRECEDENCE) BeforeClass event) {
         Class<?> testClass = event.getTestClass().getJavaClass();
         Set<DronePoint<?>> dronePoints = InjectionPoints.allInClass(droneContext.get(), testClass);
+        List<DronePoint<?>> preparedDronePoints = new ArrayList<DronePoint<?>>();
 
         for (DronePoint<?> dronePoint : dronePoints) {
 
@@ -131,8 +169,39 @@ public class DroneLifecycleManager {
             if (dronePoint.getLifecycle() == DronePoint.Lifecycle.METHOD) {
                 continue;
             }
+            // The pooled drones are prepared only once, then they are kept in the context among the test classes
+            if (dronePoint.getLifecycle() == DronePoint.Lifecycle.POOLED
+                && droneContext.get().get(dronePoint).hasFutureInstance()) {
+                continue;
+            }
 
             createDroneConfigurationCommand.fire(new PrepareDrone(dronePoint));
+            preparedDronePoints.add(dronePoint);
+        }
+
+        if (isEagerInstantiationEnabled()) {
+            startInstantiation(preparedDronePoints);
+        }
+    }
+
+    private boolean isEagerInstantiationEnabled() {
+        GlobalDroneConfiguration configuration =
+            droneContext.get().getGlobalDroneConfiguration(GlobalDroneConfiguration.class);
+        return configuration != null && configuration.isEagerInstantiation()
+            && !Boolean.parseBoolean(SecurityActions.getProperty(DroneTestEnricher.ARQUILLIAN_DRONE_CREATION_PROPERTY));
+    }
+
+    /**
+     * Submits instantiation of all given drone points at once, so the browsers are started in parallel. The enrichment
+     * then only waits for the instances that are already being created.
+     */
+    private void startInstantiation(List<DronePoint<?>> dronePoints) {
+        DroneContext context = droneContext.get();
+        for (DronePoint<?> dronePoint : dronePoints) {
+            DronePointContext<?> dronePointContext = context.get(dronePoint);
+            if (dronePointContext instanceof DronePointContextImpl) {
+                ((DronePointContextImpl<?>) dronePointContext).startInstantiation();
+            }
         }
     }
 
@@ -212,6 +281,57 @@ public class DroneLifecycleManager {
         for (DronePoint<?> dronePoint : dronePoints) {
             destroyDroneCommand.fire(new DestroyDrone(dronePoint));
         }
+
+        FilterableResult<Object> pooledDronePoints = context.find(Object.class)
+            .filter(new LifecycleFilter(DronePoint.Lifecycle.POOLED));
+
+        for (DronePoint<?> dronePoint : pooledDronePoints) {
+            releaseDroneCommand.fire(new ReleaseDrone(dronePoint));
+        }
+
+        // drones of previous classes might be still closing, only the finished ones are announced here
+        DroneDestructionExecutor destruction = destructionExecutor.get();
+        if (destruction != null) {
+            destruction.completeFinishedDestructions();
+        }
+    }
+
+    public void afterSuite(@Observes AfterSuite event) {
+        DroneContext context = droneContext.get();
+
+        LifecycleFilter lifecycleFilter = new LifecycleFilter(DronePoint.Lifecycle.POOLED);
+        FilterableResult<Object> dronePoints = context.find(Object.class).filter(lifecycleFilter);
+
+        for (DronePoint<?> dronePoint : dronePoints) {
+            destroyDroneCommand.fire(new DestroyDrone(dronePoint));
+        }
+
+        awaitPendingDestructions();
+        DroneDestructionExecutor destruction = destructionExecutor.get();
+        if (destruction != null) {
+            destruction.shutdown();
+        }
+
+        DroneInstantiationExecutor executor = instantiationExecutor.get();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * The only join point for drones destroyed in background. Waits for their destruction and fires
+     * {@link AfterDroneDestroyed} for them in the test thread.
+     */
+    private void awaitPendingDestructions() {
+        DroneDestructionExecutor destruction = destructionExecutor.get();
+        if (destruction == null) {
+            return;
+        }
+        Object configuration = droneContext.get().getGlobalDroneConfiguration(GlobalDroneConfiguration.class);
+        long timeout = configuration instanceof GlobalDroneConfiguration
+            ? ((GlobalDroneConfiguration) configuration).getDestructionTimeoutInSeconds()
+            : GlobalDroneConfiguration.DEFAULT_DESTRUCTION_TIMEOUT;
+        destruction.awaitPendingDestructions(timeout);
     }
 
     /**
@@ -226,8 +346,29 @@ public class DroneLifecycleManager {
 
         public static final int DEFAULT_INSTANTIATION_TIMEOUT = 60;
 
+        public static final int DEFAULT_DESTRUCTION_QUEUE_SIZE = 32;
+
+        public static final int DEFAULT_DESTRUCTION_TIMEOUT = 60;
+
+        // orphaned driver processes are reaped only if a pattern is configured
+        public static final String DEFAULT_ORPHANED_PROCESS_PATTERN = "";
+
         private int instantiationTimeoutInSeconds = DEFAULT_INSTANTIATION_TIMEOUT;
 
+        private boolean eagerInstantiation = false;
+
+        private int instantiationThreads = 0;
+
+        private boolean useVirtualThreads = false;
+
+        private int destructionThreads = 0;
+
+        private int destructionQueueSize = DEFAULT_DESTRUCTION_QUEUE_SIZE;
+
+        private int destructionTimeoutInSeconds = DEFAULT_DESTRUCTION_TIMEOUT;
+
+        private String orphanedProcessPattern = DEFAULT_ORPHANED_PROCESS_PATTERN;
+
         @Override
         public String getConfigurationName() {
             return CONFIGURATION_NAME;
@@ -254,5 +395,61 @@ public class DroneLifecycleManager {
         public void setInstantiationTimeoutInSeconds(int instantiationTimeoutInSeconds) {
             this.instantiationTimeoutInSeconds = instantiationTimeoutInSeconds;
         }
+
+        public boolean isEagerInstantiation() {
+            return eagerInstantiation;
+        }
+
+        public void setEagerInstantiation(boolean eagerInstantiation) {
+            this.eagerInstantiation = eagerInstantiation;
+        }
+
+        public int getInstantiationThreads() {
+            return instantiationThreads;
+        }
+
+        public void setInstantiationThreads(int instantiationThreads) {
+            this.instantiationThreads = instantiationThreads;
+        }
+
+        public boolean isUseVirtualThreads() {
+            return useVirtualThreads;
+        }
+
+        public void setUseVirtualThreads(boolean useVirtualThreads) {
+            this.useVirtualThreads = useVirtualThreads;
+        }
+
+        public int getDestructionThreads() {
+            return destructionThreads;
+        }
+
+        public void setDestructionThreads(int destructionThreads) {
+            this.destructionThreads = destructionThreads;
+        }
+
+        public int getDestructionQueueSize() {
+            return destructionQueueSize;
+        }
+
+        public void setDestructionQueueSize(int destructionQueueSize) {
+            this.destructionQueueSize = destructionQueueSize;
+        }
+
+        public int getDestructionTimeoutInSeconds() {
+            return destructionTimeoutInSeconds;
+        }
+
+        public void setDestructionTimeoutInSeconds(int destructionTimeoutInSeconds) {
+            this.destructionTimeoutInSeconds = destructionTimeoutInSeconds;
+        }
+
+        public String getOrphanedProcessPattern() {
+            return orphanedProcessPattern;
+        }
+
+        public void setOrphanedProcessPattern(String orphanedProcessPattern) {
+            this.orphanedProcessPattern = orphanedProcessPattern;
+        }
     }
 }
@@ -17,8 +17,8 @@
 package org.jboss.arquillian.drone.impl;
 
 import java.text.MessageFormat;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -29,22 +29,38 @@ import org.jboss.arquillian.core.api.Event;
 import org.jboss.arquillian.core.api.Instance;
 import org.jboss.arquillian.core.api.annotation.Inject;
 import org.jboss.arquillian.core.api.threading.ExecutorService;
+import org.jboss.arquillian.drone.impl.DroneInstantiationReaper.AbandonedInstantiations;
 import org.jboss.arquillian.drone.spi.CachingCallable;
+import org.jboss.arquillian.drone.spi.Destructor;
 import org.jboss.arquillian.drone.spi.DroneConfiguration;
 import org.jboss.arquillian.drone.spi.DroneContext;
 import org.jboss.arquillian.drone.spi.DronePoint;
 import org.jboss.arquillian.drone.spi.DronePointContext;
+import org.jboss.arquillian.drone.spi.DroneRegistry;
+import org.jboss.arquillian.drone.spi.deployment.DeploymentNameKey;
 import org.jboss.arquillian.drone.spi.event.AfterDroneInstantiated;
 import org.jboss.arquillian.drone.spi.event.BeforeDroneInstantiated;
 
 public class DronePointContextImpl<DRONE> implements DronePointContext<DRONE> {
     private static final Logger LOGGER = Logger.getLogger(DronePointContextImpl.class.getName());
 
+    // concurrent map does not allow null values
+    private static final Object NULL_METADATA = new Object();
+
     private final DronePoint<DRONE> dronePoint;
     private final Map<Class<? extends MetadataKey<?>>, Object> metadataMap;
 
-    private CachingCallable<DRONE> futureInstance;
-    private DroneConfiguration<?> configuration;
+    // context this drone point is registered in, notified about changes of indexed metadata
+    private final DroneContextImpl owner;
+
+    private volatile CachingCallable<DRONE> futureInstance;
+    private volatile DroneConfiguration<?> configuration;
+
+    // instantiation started ahead of the first getInstance() call, see startInstantiation()
+    private volatile DroneInstantiation<DRONE> startedInstantiation;
+
+    // callable whose instantiation timed out, its late instance is destroyed and must not be handed out
+    private volatile CachingCallable<DRONE> abandonedCallable;
 
     @Inject
     private Instance<DroneContext> droneContext;
@@ -52,6 +68,15 @@ public class DronePointContextImpl<DRONE> implements DronePointContext<DRONE> {
     @Inject
     private Instance<ExecutorService> executorService;
 
+    @Inject
+    private Instance<DroneInstantiationExecutor> instantiationExecutor;
+
+    @Inject
+    private Instance<AbandonedInstantiations> abandonedInstantiations;
+
+    @Inject
+    private Instance<DroneRegistry> registry;
+
     @Inject
     private Event<BeforeDroneInstantiated> beforeDroneInstantiatedEvent;
 
@@ -59,8 +84,13 @@ public class DronePointContextImpl<DRONE> implements DronePointContext<DRONE> {
     private Event<AfterDroneInstantiated> afterDroneInstantiatedEvent;
 
     public DronePointContextImpl(DronePoint<DRONE> dronePoint) {
+        this(dronePoint, null);
+    }
+
+    DronePointContextImpl(DronePoint<DRONE> dronePoint, DroneContextImpl owner) {
         this.dronePoint = dronePoint;
-        metadataMap = new HashMap<Class<? extends MetadataKey<?>>, Object>();
+        this.owner = owner;
+        metadataMap = new ConcurrentHashMap<Class<? extends MetadataKey<?>>, Object>();
     }
 
     @Override
@@ -75,13 +105,27 @@ public class DronePointContextImpl<DRONE> implements DronePointContext<DRONE> {
             throw new IllegalStateException(MessageFormat.format("Future instance callable is not stored for drone " +
                 "point {0}!", dronePoint));
         }
+        if (futureInstance == abandonedCallable) {
+            throw new IllegalStateException(MessageFormat.format("Instantiation of drone point {0} has timed out, " +
+                "the instance is not available", dronePoint));
+        }
 
-        boolean newInstance = !futureInstance.isValueCached();
-        if (newInstance) {
+        final DroneInstantiation<DRONE> started = startedInstantiationOf(futureInstance);
+        boolean newInstance = started != null || !futureInstance.isValueCached();
+        if (newInstance && started == null) {
             beforeDroneInstantiatedEvent.fire(new BeforeDroneInstantiated(dronePoint));
         }
 
-        DRONE drone = instantiateDrone(futureInstance);
+        DRONE drone;
+        if (started != null) {
+            try {
+                drone = awaitDrone(started);
+            } finally {
+                this.startedInstantiation = null;
+            }
+        } else {
+            drone = instantiateDrone(futureInstance);
+        }
 
         if (newInstance) {
             afterDroneInstantiatedEvent.fire(new AfterDroneInstantiated(dronePoint));
@@ -95,6 +139,27 @@ public class DronePointContextImpl<DRONE> implements DronePointContext<DRONE> {
         }
     }
 
+    /**
+     * Starts the instantiation of the drone in the background without waiting for the result. The
+     * {@link BeforeDroneInstantiated} event is fired immediately, while the {@link AfterDroneInstantiated} event is
+     * fired once the instance is retrieved via {@link #getInstance()}.
+     * <p/>
+     * Does nothing if there is no future instance stored, if the drone is already instantiated or if the instantiation
+     * has already been started.
+     */
+    public void startInstantiation() {
+        final CachingCallable<DRONE> futureInstance = this.futureInstance;
+        if (futureInstance == null || futureInstance == abandonedCallable || futureInstance.isValueCached()
+            || startedInstantiationOf(futureInstance) != null) {
+            return;
+        }
+
+        beforeDroneInstantiatedEvent.fire(new BeforeDroneInstantiated(dronePoint));
+
+        LOGGER.log(Level.FINE, "Starting instantiation of drone point {0} in background", dronePoint);
+        this.startedInstantiation = submit(futureInstance);
+    }
+
     @Override
     public <CAST_DRONE> CAST_DRONE getInstanceAs(Class<CAST_DRONE> droneClass) throws IllegalArgumentException,
         IllegalStateException {
@@ -132,12 +197,16 @@ public class DronePointContextImpl<DRONE> implements DronePointContext<DRONE> {
         IllegalArgumentException {
         Validate.notNull(keyClass, "Given key class canoot be null!");
 
-        return (VALUE) metadataMap.get(keyClass);
+        Object metadata = metadataMap.get(keyClass);
+        return metadata == NULL_METADATA ? null : (VALUE) metadata;
     }
 
     @Override
     public boolean isInstantiated() {
-        return hasFutureInstance() && futureInstance.isValueCached();
+        final CachingCallable<DRONE> futureInstance = this.futureInstance;
+        // a drone with started instantiation is treated as instantiated, so it is not leaked on destruction
+        return futureInstance != null && futureInstance != abandonedCallable
+            && (futureInstance.isValueCached() || startedInstantiationOf(futureInstance) != null);
     }
 
     @Override
@@ -178,7 +247,11 @@ public class DronePointContextImpl<DRONE> implements DronePointContext<DRONE> {
     public <KEY extends MetadataKey<VALUE>, VALUE> void setMetadata(Class<KEY> keyClass, VALUE metadata) {
         Validate.notNull(keyClass, "Given key class cannot be null!");
 
-        metadataMap.put(keyClass, metadata);
+        Object previous = metadataMap.put(keyClass, metadata == null ? NULL_METADATA : metadata);
+        if (owner != null && keyClass == DeploymentNameKey.class) {
+            owner.deploymentNameChanged(this, dronePoint, previous == NULL_METADATA ? null : (String) previous,
+                (String) metadata);
+        }
     }
 
     @Override
@@ -203,10 +276,38 @@ public class DronePointContextImpl<DRONE> implements DronePointContext<DRONE> {
     public <KEY extends MetadataKey<VALUE>, VALUE> void removeMetadata(Class<KEY> keyClass) {
         Validate.notNull(keyClass, "Given key class canoot be null!");
 
-        metadataMap.remove(keyClass);
+        Object previous = metadataMap.remove(keyClass);
+        if (owner != null && keyClass == DeploymentNameKey.class && previous != null && previous != NULL_METADATA) {
+            owner.deploymentNameChanged(this, dronePoint, (String) previous, null);
+        }
     }
 
-    private <T> T instantiateDrone(CachingCallable<T> droneCallable) {
+    private DroneInstantiation<DRONE> startedInstantiationOf(CachingCallable<DRONE> futureInstance) {
+        final DroneInstantiation<DRONE> started = this.startedInstantiation;
+        if (started != null && started.getCallable() == futureInstance) {
+            return started;
+        }
+        return null;
+    }
+
+    private DRONE instantiateDrone(CachingCallable<DRONE> droneCallable) {
+        return awaitDrone(submit(droneCallable));
+    }
+
+    private DroneInstantiation<DRONE> submit(CachingCallable<DRONE> droneCallable) {
+        DroneInstantiation<DRONE> instantiation = new DroneInstantiation<DRONE>(dronePoint, droneCallable);
+        DroneInstantiationExecutor executor = instantiationExecutor.get();
+        // executor is created in BeforeSuite, fall back to the Arquillian one if not available
+        if (executor == null) {
+            instantiation.setFuture(executorService.get().submit(instantiation));
+        } else {
+            instantiation.setFuture(executor.submit(instantiation, executorService.get().createSnapshotContext()));
+        }
+        return instantiation;
+    }
+
+    private DRONE awaitDrone(DroneInstantiation<DRONE> instantiation) {
+        Future<DRONE> futureDrone = instantiation.getFuture();
         // FIXME we need to make some kind of global drone configuration!
 
         int timeout = droneContext.get().getGlobalDroneConfiguration(DroneLifecycleManager.GlobalDroneConfiguration
@@ -214,8 +315,7 @@ public class DronePointContextImpl<DRONE> implements DronePointContext<DRONE> {
             .getInstantiationTimeoutInSeconds();
 
         try {
-            T drone;
-            Future<T> futureDrone = executorService.get().submit(droneCallable);
+            DRONE drone;
             if (timeout > 0) {
                 drone = futureDrone.get(timeout, TimeUnit.SECONDS);
             }
@@ -237,7 +337,27 @@ public class DronePointContextImpl<DRONE> implements DronePointContext<DRONE> {
             }
             throw new RuntimeException(cause.getMessage(), cause);
         } catch (TimeoutException e) {
+            abandon(instantiation);
             throw new DroneTimeoutException(timeout, e);
         }
     }
+
+    @SuppressWarnings("unchecked")
+    private void abandon(DroneInstantiation<DRONE> instantiation) {
+        Destructor<? super DRONE> destructor = null;
+        try {
+            destructor = registry.get().getEntryFor(dronePoint.getDroneType(), Destructor.class);
+        } catch (IllegalStateException e) {
+            LOGGER.log(Level.WARNING, "Unable to find destructor for drone point {0}: {1}",
+                new Object[] {dronePoint, e.getMessage()});
+        }
+
+        this.abandonedCallable = instantiation.getCallable();
+        instantiation.abandon(destructor);
+
+        AbandonedInstantiations abandoned = abandonedInstantiations.get();
+        if (abandoned != null) {
+            abandoned.add(instantiation);
+        }
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jboss.arquillian.core.api.Event;
+import org.jboss.arquillian.core.api.Instance;
+import org.jboss.arquillian.core.api.annotation.Inject;
+import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.core.spi.ServiceLoader;
+import org.jboss.arquillian.drone.spi.DroneContext;
+import org.jboss.arquillian.drone.spi.DronePoint;
+import org.jboss.arquillian.drone.spi.DronePointContext;
+import org.jboss.arquillian.drone.spi.Resetter;
+import org.jboss.arquillian.drone.spi.command.DestroyDrone;
+import org.jboss.arquillian.drone.spi.command.ReleaseDrone;
+import org.jboss.arquillian.test.spi.event.suite.AfterClass;
+
+/**
+ * Resetter of pooled Drone instances. Instead of destroying the instance, it is reset into a clean state by a
+ * {@link Resetter} available on the classpath and kept in the {@link DroneContext} for the next test class. If there is
+ * no {@link Resetter} able to reset the instance or the reset fails, the instance is destroyed.
+ * <p/>
+ * <p>
+ * Observes:
+ * </p>
+ * {@link ReleaseDrone} fired in {@link AfterClass}
+ * <p/>
+ * <p>
+ * Fires:
+ * </p>
+ * {@link DestroyDrone}
+ */
+public class DroneResetter {
+    private static final Logger log = Logger.getLogger(DroneResetter.class.getName());
+
+    @Inject
+    private Instance<ServiceLoader> serviceLoader;
+
+    @Inject
+    private Instance<DroneContext> droneContext;
+
+    @Inject
+    private Event<DestroyDrone> destroyDroneCommand;
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void releaseDrone(@Observes ReleaseDrone command) {
+        DroneContext context = droneContext.get();
+        DronePoint<?> dronePoint = command.getDronePoint();
+        if (dronePoint == null || !context.contains(dronePoint)) {
+            return;
+        }
+
+        // prepared but never instantiated drone is kept as it is
+        DronePointContext<?> dronePointContext = context.get(dronePoint);
+        if (!dronePointContext.isInstantiated()) {
+            return;
+        }
+
+        Resetter resetter = getResetterFor(dronePoint);
+        if (resetter == null) {
+            log.log(Level.FINE, "There is no resetter able to reset {0}, it will be destroyed", dronePoint);
+            destroyDroneCommand.fire(new DestroyDrone(dronePoint));
+            return;
+        }
+
+        Object drone = dronePointContext.getInstance();
+        boolean reset;
+        try {
+            reset = resetter.resetInstance(drone);
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Unable to reset " + dronePoint + ", it will be destroyed", e);
+            reset = false;
+        }
+
+        if (!reset) {
+            destroyDroneCommand.fire(new DestroyDrone(dronePoint));
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Resetter getResetterFor(DronePoint<?> dronePoint) {
+        List<Resetter> resetters = new ArrayList<Resetter>(serviceLoader.get().all(Resetter.class));
+        Collections.sort(resetters, PrecedenceComparator.getInstance());
+
+        for (Resetter resetter : resetters) {
+            if (resetter.canReset(dronePoint.getDroneType(), dronePoint.getQualifier())) {
+                log.log(Level.FINER, "Using resetter defined in class: {0}, with precedence {1}",
+                    new Object[] {resetter.getClass().getName(), resetter.getPrecedence()});
+                return resetter;
+            }
+        }
+        return null;
+    }
+}
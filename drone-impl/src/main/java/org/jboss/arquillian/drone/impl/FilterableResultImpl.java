@@ -27,7 +27,9 @@ import org.jboss.arquillian.drone.spi.FilterableResult;
 public class FilterableResultImpl<DRONE> implements FilterableResult<DRONE> {
 
     private final DroneContext context;
-    private final Set<DronePoint<DRONE>> wrapped;
+    // type of drone points of not yet filtered result of DroneContextImpl, materialized lazily
+    private final Class<DRONE> droneClass;
+    private Set<DronePoint<DRONE>> wrapped;
 
     public FilterableResultImpl(DroneContext context, Set<DronePoint<DRONE>> wrapped) {
         if (context == null) {
@@ -38,14 +40,47 @@ public class FilterableResultImpl<DRONE> implements FilterableResult<DRONE> {
         }
         this.context = context;
         this.wrapped = wrapped;
+        this.droneClass = null;
+    }
+
+    FilterableResultImpl(DroneContextImpl context, Class<DRONE> droneClass) {
+        if (context == null) {
+            throw new IllegalArgumentException("DroneContext cannot be null!");
+        }
+        this.context = context;
+        this.droneClass = droneClass;
     }
 
     @Override
     public FilterableResult<DRONE> filter(DronePointFilter<? super DRONE> filter) {
+        Set<DronePoint<?>> indexed = null;
+        if (context instanceof DroneContextImpl) {
+            indexed = ((DroneContextImpl) context).findIndexed(filter);
+        }
+
         Set<DronePoint<DRONE>> dronePoints = new HashSet<DronePoint<DRONE>>();
-        for (DronePoint<DRONE> dronePoint : wrapped) {
-            if (filter.accepts(context, dronePoint)) {
-                dronePoints.add(dronePoint);
+        if (indexed != null && wrapped == null) {
+            // not filtered yet, only the type needs to be checked
+            for (DronePoint<?> dronePoint : indexed) {
+                @SuppressWarnings("unchecked")
+                DronePoint<DRONE> castDronePoint = (DronePoint<DRONE>) dronePoint;
+                if (dronePoint.conformsTo(droneClass) && filter.accepts(context, castDronePoint)) {
+                    dronePoints.add(castDronePoint);
+                }
+            }
+        } else if (indexed != null && indexed.size() < getWrapped().size()) {
+            for (DronePoint<?> dronePoint : indexed) {
+                @SuppressWarnings("unchecked")
+                DronePoint<DRONE> castDronePoint = (DronePoint<DRONE>) dronePoint;
+                if (wrapped.contains(castDronePoint) && filter.accepts(context, castDronePoint)) {
+                    dronePoints.add(castDronePoint);
+                }
+            }
+        } else {
+            for (DronePoint<DRONE> dronePoint : getWrapped()) {
+                if (filter.accepts(context, dronePoint)) {
+                    dronePoints.add(dronePoint);
+                }
             }
         }
 
@@ -74,11 +109,18 @@ public class FilterableResultImpl<DRONE> implements FilterableResult<DRONE> {
 
     @Override
     public int size() {
-        return wrapped.size();
+        return getWrapped().size();
     }
 
     @Override
     public Iterator<DronePoint<DRONE>> iterator() {
-        return wrapped.iterator();
+        return getWrapped().iterator();
+    }
+
+    private Set<DronePoint<DRONE>> getWrapped() {
+        if (wrapped == null) {
+            wrapped = ((DroneContextImpl) context).findAll(droneClass);
+        }
+        return wrapped;
     }
 }
@@ -20,15 +20,20 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.jboss.arquillian.container.test.api.OperateOnDeployment;
 import org.jboss.arquillian.drone.api.annotation.Drone;
 import org.jboss.arquillian.drone.api.annotation.lifecycle.ClassLifecycle;
 import org.jboss.arquillian.drone.api.annotation.lifecycle.MethodLifecycle;
+import org.jboss.arquillian.drone.api.annotation.lifecycle.PooledLifecycle;
 import org.jboss.arquillian.drone.spi.DroneContext;
 import org.jboss.arquillian.drone.spi.DronePoint;
 import org.jboss.arquillian.drone.spi.deployment.DeploymentNameKey;
@@ -36,6 +41,14 @@ import org.jboss.arquillian.drone.spi.deployment.DeploymentNameKey;
 // FIXME make this class not static and do the API a better way
 final class InjectionPoints {
 
+    // results of reflection scan are computed once per class, drone points are still registered on each call
+    private static final ClassValue<ClassInjectionPoints> INJECTION_POINTS = new ClassValue<ClassInjectionPoints>() {
+        @Override
+        protected ClassInjectionPoints computeValue(Class<?> type) {
+            return new ClassInjectionPoints(type);
+        }
+    };
+
     private InjectionPoints() {
     }
 
@@ -58,12 +71,9 @@ final class InjectionPoints {
 
     static Map<Field, DronePoint<?>> fieldsInClass(DroneContext context, Class<?> cls) {
         Map<Field, DronePoint<?>> injectionPoints = new HashMap<Field, DronePoint<?>>();
-        List<Field> fields = SecurityActions.getFieldsWithAnnotation(cls, Drone.class);
 
-        for (Field field : fields) {
-            DronePoint<?> dronePoint = resolveInjectionPoint(context, field);
-
-            injectionPoints.put(field, dronePoint);
+        for (Map.Entry<Field, ResolvedInjectionPoint> entry : INJECTION_POINTS.get(cls).fields.entrySet()) {
+            injectionPoints.put(entry.getKey(), entry.getValue().register(context));
         }
 
         return injectionPoints;
@@ -71,8 +81,7 @@ final class InjectionPoints {
 
     static Map<Method, DronePoint<?>[]> parametersInClass(DroneContext context, Class<?> cls) {
         Map<Method, DronePoint<?>[]> mergedInjectionPoints = new HashMap<Method, DronePoint<?>[]>();
-        Method[] methods = cls.getMethods();
-        for (Method method : methods) {
+        for (Method method : INJECTION_POINTS.get(cls).getMethods()) {
             DronePoint<?>[] dronePoints = parametersInMethod(context, method);
 
             mergedInjectionPoints.put(method, dronePoints);
@@ -82,34 +91,20 @@ final class InjectionPoints {
     }
 
     static DronePoint<?>[] parametersInMethod(DroneContext context, Method method) {
-        Class<?>[] parameters = method.getParameterTypes();
-        Map<Integer, Annotation[]> droneParameters = SecurityActions.getParametersWithAnnotation(method, Drone.class);
+        ResolvedInjectionPoint[] parameters = INJECTION_POINTS.get(method.getDeclaringClass()).parameters(method);
         DronePoint<?>[] dronePoints = new DronePoint<?>[parameters.length];
 
         for (int i = 0; i < parameters.length; i++) {
-            if (!droneParameters.containsKey(i)) {
-                dronePoints[i] = null;
-                continue;
+            if (parameters[i] != null) {
+                dronePoints[i] = parameters[i].register(context);
             }
-
-            Annotation[] parameterAnnotations = droneParameters.get(i);
-
-            Class<?> droneType = parameters[i];
-
-            DronePoint<?> dronePoint = resolveInjectionPoint(context, droneType, parameterAnnotations);
-
-            dronePoints[i] = dronePoint;
         }
 
         return dronePoints;
     }
 
     static DronePoint<?> resolveInjectionPoint(DroneContext context, Field field) {
-
-        Class<?> droneType = field.getType();
-        Annotation[] annotations = SecurityActions.getAnnotations(field);
-
-        return createInjectionPoint(context, droneType, annotations, DronePoint.Lifecycle.CLASS);
+        return resolveField(field).register(context);
     }
 
     static <T> DronePoint<T> resolveInjectionPoint(DroneContext context, Class<T> droneType,
@@ -120,6 +115,35 @@ final class InjectionPoints {
     // We can't instantiate class with wildcard generic parameter directly, so we delegate it through parameter <T>
     static <T> DronePoint<T> createInjectionPoint(DroneContext context, Class<T> droneType,
         Annotation[] annotations,
+        DronePoint.Lifecycle defaultLifecycle) {
+        ResolvedInjectionPoint resolved = resolve(droneType, annotations, defaultLifecycle);
+        resolved.register(context);
+        @SuppressWarnings("unchecked")
+        DronePoint<T> dronePoint = (DronePoint<T>) resolved.dronePoint;
+        return dronePoint;
+    }
+
+    private static ResolvedInjectionPoint resolveField(Field field) {
+        Class<?> droneType = field.getType();
+        Annotation[] annotations = SecurityActions.getAnnotations(field);
+
+        return resolve(droneType, annotations, DronePoint.Lifecycle.CLASS);
+    }
+
+    private static ResolvedInjectionPoint[] resolveParameters(Method method) {
+        Class<?>[] parameters = method.getParameterTypes();
+        Map<Integer, Annotation[]> droneParameters = SecurityActions.getParametersWithAnnotation(method, Drone.class);
+        ResolvedInjectionPoint[] resolved = new ResolvedInjectionPoint[parameters.length];
+
+        for (Map.Entry<Integer, Annotation[]> parameter : droneParameters.entrySet()) {
+            int i = parameter.getKey();
+            resolved[i] = resolve(parameters[i], parameter.getValue(), DronePoint.Lifecycle.METHOD);
+        }
+
+        return resolved;
+    }
+
+    private static <T> ResolvedInjectionPoint resolve(Class<T> droneType, Annotation[] annotations,
         DronePoint.Lifecycle defaultLifecycle) {
         Class<? extends Annotation> scopeAnnotation = SecurityActions.getScope(annotations);
         OperateOnDeployment operateOnDeployment = SecurityActions.findAnnotation(annotations,
@@ -128,13 +152,8 @@ final class InjectionPoints {
         DronePoint.Lifecycle lifecycle = scopeForAnnotation(scopeAnnotation, operateOnDeployment, defaultLifecycle);
 
         DronePoint<T> dronePoint = new DronePointImpl<T>(droneType, lifecycle, annotations);
-        // We register the drone point into context immediately
-        context.get(dronePoint);
-        if (lifecycle == DronePoint.Lifecycle.DEPLOYMENT) {
-            String deployment = operateOnDeployment.value();
-            context.get(dronePoint).setMetadata(DeploymentNameKey.class, deployment);
-        }
-        return dronePoint;
+        String deployment = lifecycle == DronePoint.Lifecycle.DEPLOYMENT ? operateOnDeployment.value() : null;
+        return new ResolvedInjectionPoint(dronePoint, deployment);
     }
 
     static DronePoint.Lifecycle scopeForAnnotation(Class<? extends Annotation> annotation,
@@ -144,6 +163,8 @@ final class InjectionPoints {
             return DronePoint.Lifecycle.CLASS;
         } else if (annotation == MethodLifecycle.class) {
             return DronePoint.Lifecycle.METHOD;
+        } else if (annotation == PooledLifecycle.class) {
+            return DronePoint.Lifecycle.POOLED;
         } else {
             if (deployment != null) {
                 return DronePoint.Lifecycle.DEPLOYMENT;
@@ -152,4 +173,62 @@ final class InjectionPoints {
             }
         }
     }
+
+    private static final class ResolvedInjectionPoint {
+        private final DronePoint<?> dronePoint;
+        private final String deployment;
+
+        ResolvedInjectionPoint(DronePoint<?> dronePoint, String deployment) {
+            this.dronePoint = dronePoint;
+            this.deployment = deployment;
+        }
+
+        // We register the drone point into context immediately
+        DronePoint<?> register(DroneContext context) {
+            context.get(dronePoint);
+            if (deployment != null) {
+                context.get(dronePoint).setMetadata(DeploymentNameKey.class, deployment);
+            }
+            return dronePoint;
+        }
+    }
+
+    private static final class ClassInjectionPoints {
+        private final Class<?> cls;
+        private final Map<Field, ResolvedInjectionPoint> fields;
+        private final ConcurrentMap<Method, ResolvedInjectionPoint[]> parameters =
+            new ConcurrentHashMap<Method, ResolvedInjectionPoint[]>();
+        private volatile Method[] methods;
+
+        ClassInjectionPoints(Class<?> cls) {
+            this.cls = cls;
+
+            Map<Field, ResolvedInjectionPoint> resolvedFields = new LinkedHashMap<Field, ResolvedInjectionPoint>();
+            for (Field field : SecurityActions.getFieldsWithAnnotation(cls, Drone.class)) {
+                resolvedFields.put(field, resolveField(field));
+            }
+            this.fields = Collections.unmodifiableMap(resolvedFields);
+        }
+
+        Method[] getMethods() {
+            Method[] methods = this.methods;
+            if (methods == null) {
+                methods = cls.getMethods();
+                this.methods = methods;
+            }
+            return methods;
+        }
+
+        ResolvedInjectionPoint[] parameters(Method method) {
+            ResolvedInjectionPoint[] resolved = parameters.get(method);
+            if (resolved == null) {
+                resolved = resolveParameters(method);
+                ResolvedInjectionPoint[] previous = parameters.putIfAbsent(method, resolved);
+                if (previous != null) {
+                    resolved = previous;
+                }
+            }
+            return resolved;
+        }
+    }
 }
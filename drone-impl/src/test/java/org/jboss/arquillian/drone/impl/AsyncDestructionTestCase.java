@@ -0,0 +1,328 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.impl;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
+import org.jboss.arquillian.core.api.annotation.ApplicationScoped;
+import org.jboss.arquillian.core.spi.ServiceLoader;
+import org.jboss.arquillian.drone.api.annotation.Drone;
+import org.jboss.arquillian.drone.impl.DroneLifecycleManager.GlobalDroneConfiguration;
+import org.jboss.arquillian.drone.impl.mockdrone.MockDrone;
+import org.jboss.arquillian.drone.impl.mockdrone.MockDroneFactory;
+import org.jboss.arquillian.drone.spi.Configurator;
+import org.jboss.arquillian.drone.spi.Destructor;
+import org.jboss.arquillian.drone.spi.DroneInstanceEnhancer;
+import org.jboss.arquillian.drone.spi.InstanceOrCallableInstance;
+import org.jboss.arquillian.drone.spi.Instantiator;
+import org.jboss.arquillian.drone.spi.event.AfterDroneDeenhanced;
+import org.jboss.arquillian.drone.spi.event.AfterDroneDestroyed;
+import org.jboss.arquillian.drone.spi.event.BeforeDroneDeenhanced;
+import org.jboss.arquillian.drone.spi.event.BeforeDroneDestroyed;
+import org.jboss.arquillian.test.spi.TestEnricher;
+import org.jboss.arquillian.test.spi.context.ClassContext;
+import org.jboss.arquillian.test.spi.event.suite.AfterClass;
+import org.jboss.arquillian.test.spi.event.suite.AfterSuite;
+import org.jboss.arquillian.test.spi.event.suite.BeforeClass;
+import org.jboss.arquillian.test.spi.event.suite.BeforeSuite;
+import org.jboss.arquillian.test.test.AbstractTestTestBase;
+import org.jboss.shrinkwrap.descriptor.api.Descriptors;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * Tests that drones are destroyed off the test thread when destruction threads are configured and joined at the end
+ * of the suite
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class AsyncDestructionTestCase extends AbstractTestTestBase {
+
+    @Mock
+    private ServiceLoader serviceLoader;
+
+    private TestEnricher testEnricher;
+
+    private BlockingDestructor destructor;
+
+    private RecordingEnhancer enhancer;
+
+    @Override
+    protected void addExtensions(List<Class<?>> extensions) {
+        extensions.add(DroneLifecycleManager.class);
+        extensions.add(DroneRegistrar.class);
+        extensions.add(DroneConfigurator.class);
+        extensions.add(DroneEnhancer.class);
+        extensions.add(DroneTestEnricher.class);
+        extensions.add(DroneDestructor.class);
+    }
+
+    private void setMocks(String destructionThreads) {
+        setMocks(destructionThreads, String.valueOf(GlobalDroneConfiguration.DEFAULT_DESTRUCTION_TIMEOUT));
+    }
+
+    @SuppressWarnings("rawtypes")
+    private void setMocks(String destructionThreads, String destructionTimeoutInSeconds) {
+        ArquillianDescriptor desc = Descriptors.create(ArquillianDescriptor.class)
+            .extension("drone").property("destructionThreads", destructionThreads)
+            .property("destructionTimeoutInSeconds", destructionTimeoutInSeconds);
+
+        testEnricher = new DroneTestEnricher();
+        getManager().inject(testEnricher);
+        destructor = new BlockingDestructor();
+        enhancer = new RecordingEnhancer();
+
+        bind(ApplicationScoped.class, ServiceLoader.class, serviceLoader);
+        bind(ApplicationScoped.class, ArquillianDescriptor.class, desc);
+        Mockito.when(serviceLoader.all(Configurator.class)).thenReturn(
+            Arrays.<Configurator>asList(new MockDroneFactory()));
+        Mockito.when(serviceLoader.all(Instantiator.class)).thenReturn(
+            Arrays.<Instantiator>asList(new MockDroneFactory()));
+        Mockito.when(serviceLoader.all(Destructor.class)).thenReturn(
+            Arrays.<Destructor>asList(destructor));
+        Mockito.when(serviceLoader.all(DroneInstanceEnhancer.class)).thenReturn(
+            Arrays.<DroneInstanceEnhancer>asList(enhancer));
+    }
+
+    @Test
+    public void dronesAreDestroyedInBackgroundAndJoinedAfterSuite() throws Exception {
+        setMocks("2");
+        getManager().getContext(ClassContext.class).activate(DestroyedClass.class);
+
+        fire(new BeforeSuite());
+        fire(new BeforeClass(DestroyedClass.class));
+        testEnricher.enrich(new DestroyedClass());
+        fire(new AfterClass(DestroyedClass.class));
+
+        // the next class does not wait for the drones of the previous one
+        Assert.assertTrue("Both drones are being destroyed in parallel", destructor.started.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue("No drone was destroyed before release", destructor.destroyed.isEmpty());
+        assertEventFired(BeforeDroneDestroyed.class, 2);
+        assertEventFired(AfterDroneDestroyed.class, 0);
+        Assert.assertEquals("Events were fired in test thread", 2, destructor.prepared.size());
+        for (String threadName : destructor.prepared) {
+            Assert.assertEquals(Thread.currentThread().getName(), threadName);
+        }
+
+        destructor.release.countDown();
+        fire(new AfterSuite());
+
+        Assert.assertEquals("All drones were destroyed at the end of the suite", 2, destructor.destroyed.size());
+        for (String threadName : destructor.destroyed) {
+            Assert.assertTrue("Drone was destroyed in background thread, was " + threadName,
+                threadName.startsWith("drone-destruction-"));
+        }
+        assertEventFired(AfterDroneDestroyed.class, 2);
+    }
+
+    @Test
+    public void finishedDestructionsAreAnnouncedAfterNextClass() throws Exception {
+        setMocks("2");
+        getManager().getContext(ClassContext.class).activate(DestroyedClass.class);
+        destructor.release.countDown();
+
+        fire(new BeforeSuite());
+        fire(new BeforeClass(DestroyedClass.class));
+        testEnricher.enrich(new DestroyedClass());
+        fire(new AfterClass(DestroyedClass.class));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (destructor.destroyed.size() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        // give the executor time to mark the futures as done
+        Thread.sleep(50);
+        fire(new AfterClass(DestroyedClass.class));
+
+        assertEventFired(AfterDroneDestroyed.class, 2);
+        fire(new AfterSuite());
+        assertEventFired(AfterDroneDestroyed.class, 2);
+    }
+
+    @Test
+    public void instancesAreDeenhancedAndDestroyedInBackground() throws Exception {
+        setMocks("2");
+        destructor.wholeInBackground = true;
+        getManager().getContext(ClassContext.class).activate(DestroyedClass.class);
+        destructor.release.countDown();
+
+        fire(new BeforeSuite());
+        fire(new BeforeClass(DestroyedClass.class));
+        testEnricher.enrich(new DestroyedClass());
+        fire(new AfterClass(DestroyedClass.class));
+        fire(new AfterSuite());
+
+        Assert.assertEquals("All drones were de-enhanced", 2, enhancer.deenhanced.size());
+        for (String threadName : enhancer.deenhanced) {
+            Assert.assertTrue("Drone was de-enhanced in background thread, was " + threadName,
+                threadName.startsWith("drone-destruction-"));
+        }
+        Assert.assertEquals("All drones were destroyed", 2, destructor.destroyed.size());
+        Assert.assertTrue("Nothing was prepared in test thread", destructor.prepared.isEmpty());
+        assertEventFired(BeforeDroneDeenhanced.class, 2);
+        assertEventFired(AfterDroneDeenhanced.class, 2);
+        assertEventFired(AfterDroneDestroyed.class, 2);
+    }
+
+    @Test
+    public void destructionIsNotAwaitedLongerThanTimeout() throws Exception {
+        setMocks("2", "1");
+        getManager().getContext(ClassContext.class).activate(DestroyedClass.class);
+
+        fire(new BeforeSuite());
+        fire(new BeforeClass(DestroyedClass.class));
+        testEnricher.enrich(new DestroyedClass());
+        fire(new AfterClass(DestroyedClass.class));
+
+        long start = System.nanoTime();
+        fire(new AfterSuite());
+        long waited = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start);
+
+        Assert.assertTrue("Destruction was awaited for " + waited + " seconds", waited < 4);
+        assertEventFired(AfterDroneDestroyed.class, 0);
+        destructor.release.countDown();
+    }
+
+    @Test
+    public void destructorWithoutBackgroundPartDestroysInTestThread() throws Exception {
+        setMocks("2");
+        destructor.background = false;
+        getManager().getContext(ClassContext.class).activate(DestroyedClass.class);
+        destructor.release.countDown();
+
+        fire(new BeforeSuite());
+        fire(new BeforeClass(DestroyedClass.class));
+        testEnricher.enrich(new DestroyedClass());
+        fire(new AfterClass(DestroyedClass.class));
+
+        Assert.assertEquals("Drones were destroyed synchronously", 2, destructor.destroyed.size());
+        for (String threadName : destructor.destroyed) {
+            Assert.assertEquals(Thread.currentThread().getName(), threadName);
+        }
+        assertEventFired(AfterDroneDestroyed.class, 2);
+    }
+
+    @Test
+    public void dronesAreDestroyedInTestThreadByDefault() throws Exception {
+        setMocks("0");
+        destructor.wholeInBackground = true;
+        getManager().getContext(ClassContext.class).activate(DestroyedClass.class);
+        destructor.release.countDown();
+
+        fire(new BeforeSuite());
+        fire(new BeforeClass(DestroyedClass.class));
+        testEnricher.enrich(new DestroyedClass());
+        fire(new AfterClass(DestroyedClass.class));
+
+        Assert.assertEquals("Drones were destroyed synchronously", 2, destructor.destroyed.size());
+        for (String threadName : destructor.destroyed) {
+            Assert.assertEquals(Thread.currentThread().getName(), threadName);
+        }
+        for (String threadName : enhancer.deenhanced) {
+            Assert.assertEquals(Thread.currentThread().getName(), threadName);
+        }
+    }
+
+    static class DestroyedClass {
+        @Drone
+        MockDrone first;
+
+        @Drone
+        @Different
+        MockDrone second;
+    }
+
+    private static class BlockingDestructor implements Destructor<MockDrone> {
+        private final CountDownLatch started = new CountDownLatch(2);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final Queue<String> destroyed = new ConcurrentLinkedQueue<String>();
+        private final Queue<String> prepared = new ConcurrentLinkedQueue<String>();
+        private volatile boolean background = true;
+        private volatile boolean wholeInBackground;
+
+        @Override
+        public int getPrecedence() {
+            return 0;
+        }
+
+        @Override
+        public void destroyInstance(MockDrone instance) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            destroyed.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public Runnable prepareDestroyInstance(final MockDrone instance) {
+            if (!background) {
+                return Destructor.super.prepareDestroyInstance(instance);
+            }
+            prepared.add(Thread.currentThread().getName());
+            return new Runnable() {
+                @Override
+                public void run() {
+                    destroyInstance(instance);
+                }
+            };
+        }
+
+        @Override
+        public Consumer<MockDrone> prepareDestroyInBackground() {
+            return wholeInBackground ? this::destroyInstance : null;
+        }
+    }
+
+    private static class RecordingEnhancer implements DroneInstanceEnhancer<MockDrone> {
+        private final Queue<String> deenhanced = new ConcurrentLinkedQueue<String>();
+
+        @Override
+        public int getPrecedence() {
+            return 0;
+        }
+
+        @Override
+        public boolean canEnhance(InstanceOrCallableInstance instance, Class<?> droneType,
+            Class<? extends Annotation> qualifier) {
+            return MockDrone.class.isAssignableFrom(droneType);
+        }
+
+        @Override
+        public MockDrone enhance(MockDrone instance, Class<? extends Annotation> qualifier) {
+            return instance;
+        }
+
+        @Override
+        public MockDrone deenhance(MockDrone enhancedInstance, Class<? extends Annotation> qualifier) {
+            deenhanced.add(Thread.currentThread().getName());
+            return enhancedInstance;
+        }
+    }
+}
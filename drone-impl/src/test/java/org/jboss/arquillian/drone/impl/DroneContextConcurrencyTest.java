@@ -0,0 +1,162 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jboss.arquillian.core.spi.context.ApplicationContext;
+import org.jboss.arquillian.drone.impl.mockdrone.MockDrone;
+import org.jboss.arquillian.drone.spi.DroneContext;
+import org.jboss.arquillian.drone.spi.DronePoint;
+import org.jboss.arquillian.drone.spi.DronePointContext;
+import org.jboss.arquillian.drone.spi.deployment.DeploymentNameKey;
+import org.jboss.arquillian.drone.spi.filter.DeploymentFilter;
+import org.jboss.arquillian.drone.spi.filter.LifecycleFilter;
+import org.jboss.arquillian.test.test.AbstractTestTestBase;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DroneContextConcurrencyTest extends AbstractTestTestBase {
+
+    private static final int THREADS = 8;
+
+    @Test
+    public void dronePointContextIsCreatedOnce() throws Exception {
+        final DroneContext context = new DroneContextImpl();
+        getManager().inject(context);
+
+        final DronePoint<MockDrone> dronePoint = new DronePointImpl<MockDrone>(MockDrone.class,
+            DronePoint.Lifecycle.METHOD, AnnotationMocks.defaultQualifier());
+
+        List<Future<DronePointContext<MockDrone>>> results = runConcurrently(
+            new Callable<DronePointContext<MockDrone>>() {
+                @Override
+                public DronePointContext<MockDrone> call() {
+                    return context.get(dronePoint);
+                }
+            });
+
+        DronePointContext<MockDrone> expected = context.get(dronePoint);
+        for (Future<DronePointContext<MockDrone>> result : results) {
+            Assert.assertSame(expected, result.get());
+        }
+    }
+
+    @Test
+    public void dronePointsAreRegisteredFromManyThreads() throws Exception {
+        final DroneContext context = new DroneContextImpl();
+        getManager().inject(context);
+
+        final List<DronePoint<MockDrone>> dronePoints = new ArrayList<DronePoint<MockDrone>>();
+        for (DronePoint.Lifecycle lifecycle : DronePoint.Lifecycle.values()) {
+            dronePoints.add(new DronePointImpl<MockDrone>(MockDrone.class, lifecycle,
+                AnnotationMocks.defaultQualifier()));
+            dronePoints.add(new DronePointImpl<MockDrone>(MockDrone.class, lifecycle,
+                AnnotationMocks.differentQualifier()));
+        }
+
+        runConcurrently(new Callable<Void>() {
+            @Override
+            public Void call() {
+                for (DronePoint<MockDrone> dronePoint : dronePoints) {
+                    context.get(dronePoint).setMetadata(DeploymentNameKey.class, AnnotationMocks.DEPLOYMENT_1);
+                }
+                return null;
+            }
+        });
+
+        Assert.assertEquals(dronePoints.size(), context.find(MockDrone.class).size());
+        for (DronePoint<MockDrone> dronePoint : dronePoints) {
+            Assert.assertEquals(AnnotationMocks.DEPLOYMENT_1,
+                context.get(dronePoint).getMetadata(DeploymentNameKey.class));
+        }
+        Assert.assertEquals(2, context.find(MockDrone.class)
+            .filter(new LifecycleFilter(DronePoint.Lifecycle.METHOD)).size());
+    }
+
+    @Test
+    public void dronePointRemovedAndCreatedAgainStaysIndexed() throws Exception {
+        final DroneContext context = new DroneContextImpl();
+        getManager().inject(context);
+
+        final DronePoint<MockDrone> dronePoint = new DronePointImpl<MockDrone>(MockDrone.class,
+            DronePoint.Lifecycle.CLASS, AnnotationMocks.defaultQualifier());
+        final AtomicInteger counter = new AtomicInteger();
+
+        runConcurrently(new Callable<Void>() {
+            @Override
+            public Void call() {
+                boolean remover = counter.getAndIncrement() % 2 == 0;
+                for (int i = 0; i < 1000; i++) {
+                    if (remover) {
+                        context.remove(dronePoint);
+                    } else {
+                        context.get(dronePoint).setMetadata(DeploymentNameKey.class, AnnotationMocks.DEPLOYMENT_1);
+                    }
+                }
+                return null;
+            }
+        });
+        context.get(dronePoint).setMetadata(DeploymentNameKey.class, AnnotationMocks.DEPLOYMENT_1);
+
+        Assert.assertEquals(1, context.find(MockDrone.class).size());
+        Assert.assertEquals(1, context.find(MockDrone.class)
+            .filter(new LifecycleFilter(DronePoint.Lifecycle.CLASS)).size());
+        Assert.assertEquals(1, context.find(MockDrone.class)
+            .filter(new DeploymentFilter(AnnotationMocks.DEPLOYMENT_1)).size());
+    }
+
+    private <T> List<Future<T>> runConcurrently(final Callable<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> results = new ArrayList<Future<T>>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(new Callable<T>() {
+                    @Override
+                    public T call() throws Exception {
+                        // parallel runners propagate Arquillian contexts to the threads running tests
+                        ApplicationContext applicationContext = getManager().getContext(ApplicationContext.class);
+                        applicationContext.activate();
+                        try {
+                            start.await();
+                            return task.call();
+                        } finally {
+                            applicationContext.deactivate();
+                        }
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<T> result : results) {
+                result.get();
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
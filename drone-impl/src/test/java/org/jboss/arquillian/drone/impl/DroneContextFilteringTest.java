@@ -172,4 +172,47 @@ public class DroneContextFilteringTest extends AbstractTestTestBase {
             .filter(new LifecycleFilter(DronePoint.Lifecycle.DEPLOYMENT))
             .single(), is(differentDeploymentDronePoint));
     }
+
+    @Test
+    public void testSubclassedFilterIsNotAnsweredFromIndex() {
+        LifecycleFilter anyLifecycleFilter = new LifecycleFilter(DronePoint.Lifecycle.CLASS) {
+            @Override
+            public boolean accepts(DroneContext context, DronePoint<?> dronePoint) {
+                return true;
+            }
+        };
+        DeploymentFilter anyDeploymentFilter = new DeploymentFilter(AnnotationMocks.DEPLOYMENT_1) {
+            @Override
+            public boolean accepts(DroneContext context, DronePoint<?> dronePoint) {
+                return true;
+            }
+        };
+
+        assertThat(context.find(MockDrone.class).filter(anyLifecycleFilter).size(), is(6));
+        assertThat(context.find(MockDrone.class).filter(anyDeploymentFilter).size(), is(6));
+    }
+
+    @Test
+    public void testFilteringReflectsChanges() {
+        context.remove(defaultMethodDronePoint);
+        assertThat(context.find(MockDrone.class)
+            .filter(new LifecycleFilter(DronePoint.Lifecycle.METHOD))
+            .single(), is(differentMethodDronePoint));
+        assertThat(context.find(Object.class).size(), is(5));
+
+        context.get(defaultClassDronePoint).setMetadata(DeploymentNameKey.class, AnnotationMocks.DEPLOYMENT_1);
+        context.get(defaultDeploymentDronePoint).removeMetadata(DeploymentNameKey.class);
+        assertThat(context.find(MockDrone.class)
+            .filter(new DeploymentFilter(AnnotationMocks.DEPLOYMENT_1))
+            .single(), is(defaultClassDronePoint));
+
+        context.remove(differentClassDronePoint);
+        assertThat(context.find(MockDrone.class)
+            .filter(new DeploymentFilter(AnnotationMocks.DEPLOYMENT_2))
+            .single(), is(differentDeploymentDronePoint));
+
+        assertThat(context.find(String.class)
+            .filter(new LifecycleFilter(DronePoint.Lifecycle.CLASS))
+            .size(), is(0));
+    }
 }
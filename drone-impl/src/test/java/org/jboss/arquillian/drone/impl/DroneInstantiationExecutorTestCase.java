@@ -0,0 +1,139 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.impl;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.jboss.arquillian.core.api.threading.ContextSnapshot;
+import org.jboss.arquillian.drone.impl.mockdrone.MockDrone;
+import org.jboss.arquillian.drone.spi.DronePoint;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+/**
+ * Tests executor used to create drone instances
+ */
+public class DroneInstantiationExecutorTestCase {
+
+    @Test
+    public void creationsAreQueuedWhenThreadsAreBusy() throws Exception {
+        DroneInstantiationExecutor executor = new DroneInstantiationExecutor(1, false);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            Future<String> first = executor.submit(new Callable<String>() {
+                @Override
+                public String call() throws Exception {
+                    started.countDown();
+                    release.await(10, TimeUnit.SECONDS);
+                    return "first";
+                }
+            }, null);
+            Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            Future<String> second = executor.submit(new Callable<String>() {
+                @Override
+                public String call() throws Exception {
+                    return "second";
+                }
+            }, null);
+
+            Assert.assertEquals("One creation is in progress", 1, executor.getActiveCount());
+            Assert.assertEquals("One creation is waiting for a thread", 1, executor.getQueueDepth());
+
+            release.countDown();
+            Assert.assertEquals("first", first.get(10, TimeUnit.SECONDS));
+            Assert.assertEquals("second", second.get(10, TimeUnit.SECONDS));
+            Assert.assertEquals(2, executor.getCompletedCount());
+            Assert.assertEquals(0, executor.getQueueDepth());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void abandonedInstantiationWaitingForThreadIsNotRunning() throws Exception {
+        DroneInstantiationExecutor executor = new DroneInstantiationExecutor(1, false);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            Future<String> first = executor.submit(new Callable<String>() {
+                @Override
+                public String call() throws Exception {
+                    started.countDown();
+                    release.await(10, TimeUnit.SECONDS);
+                    return "first";
+                }
+            }, null);
+            Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            DroneInstantiation<MockDrone> queued = new DroneInstantiation<MockDrone>(
+                new DronePointImpl<MockDrone>(MockDrone.class, DronePoint.Lifecycle.CLASS,
+                    AnnotationMocks.defaultQualifier()),
+                new CachingCallableImpl<MockDrone>() {
+                    @Override
+                    protected MockDrone createInstance() {
+                        return new MockDrone("queued");
+                    }
+                });
+            queued.setFuture(executor.submit(queued, null));
+            Assert.assertEquals(1, executor.getQueueDepth());
+            queued.abandon(null);
+
+            Assert.assertFalse("Cancelled instantiation never runs", queued.isAbandonedAndRunning());
+            Assert.assertEquals("Cancelled instantiation does not wait for a thread", 0, executor.getQueueDepth());
+            release.countDown();
+            Assert.assertEquals("first", first.get(10, TimeUnit.SECONDS));
+            Assert.assertFalse(queued.isAbandonedAndRunning());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void contextSnapshotIsActivatedForCreation() throws Exception {
+        DroneInstantiationExecutor executor = new DroneInstantiationExecutor(0, true);
+        ContextSnapshot snapshot = Mockito.mock(ContextSnapshot.class);
+        try {
+            Future<String> future = executor.submit(new Callable<String>() {
+                @Override
+                public String call() throws Exception {
+                    throw new IllegalStateException("failed");
+                }
+            }, snapshot);
+
+            try {
+                future.get(10, TimeUnit.SECONDS);
+                Assert.fail("Creation should have failed");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+
+            InOrder inOrder = Mockito.inOrder(snapshot);
+            inOrder.verify(snapshot).activate();
+            inOrder.verify(snapshot).deactivate();
+            Assert.assertEquals(1, executor.getFailedCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
+import org.jboss.arquillian.core.api.annotation.ApplicationScoped;
+import org.jboss.arquillian.core.spi.ServiceLoader;
+import org.jboss.arquillian.drone.api.annotation.Drone;
+import org.jboss.arquillian.drone.impl.mockdrone.MockDrone;
+import org.jboss.arquillian.drone.impl.mockdrone.MockDroneFactory;
+import org.jboss.arquillian.drone.spi.Configurator;
+import org.jboss.arquillian.drone.spi.Destructor;
+import org.jboss.arquillian.drone.spi.Instantiator;
+import org.jboss.arquillian.drone.spi.event.AfterDroneDestroyed;
+import org.jboss.arquillian.drone.spi.event.AfterDroneInstantiated;
+import org.jboss.arquillian.drone.spi.event.BeforeDroneInstantiated;
+import org.jboss.arquillian.test.spi.TestEnricher;
+import org.jboss.arquillian.test.spi.context.ClassContext;
+import org.jboss.arquillian.test.spi.event.suite.AfterClass;
+import org.jboss.arquillian.test.spi.event.suite.BeforeClass;
+import org.jboss.arquillian.test.spi.event.suite.BeforeSuite;
+import org.jboss.arquillian.test.test.AbstractTestTestBase;
+import org.jboss.shrinkwrap.descriptor.api.Descriptors;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * Tests that class scoped drones are started right in {@link BeforeClass} when eager instantiation is enabled
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class EagerInstantiationTestCase extends AbstractTestTestBase {
+
+    @Mock
+    private ServiceLoader serviceLoader;
+
+    private TestEnricher testEnricher;
+
+    @Override
+    protected void addExtensions(List<Class<?>> extensions) {
+        extensions.add(DroneLifecycleManager.class);
+        extensions.add(DroneRegistrar.class);
+        extensions.add(DroneConfigurator.class);
+        extensions.add(DroneTestEnricher.class);
+        extensions.add(DroneDestructor.class);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private void setMocks(String eagerInstantiation) {
+        ArquillianDescriptor desc = Descriptors.create(ArquillianDescriptor.class)
+            .extension("drone").property("eagerInstantiation", eagerInstantiation);
+
+        testEnricher = new DroneTestEnricher();
+        getManager().inject(testEnricher);
+
+        bind(ApplicationScoped.class, ServiceLoader.class, serviceLoader);
+        bind(ApplicationScoped.class, ArquillianDescriptor.class, desc);
+        Mockito.when(serviceLoader.all(Configurator.class)).thenReturn(
+            Arrays.<Configurator>asList(new MockDroneFactory()));
+        Mockito.when(serviceLoader.all(Instantiator.class)).thenReturn(
+            Arrays.<Instantiator>asList(new MockDroneFactory()));
+        Mockito.when(serviceLoader.all(Destructor.class)).thenReturn(
+            Arrays.<Destructor>asList(new MockDroneFactory()));
+    }
+
+    @Test
+    public void classDronesAreStartedInBeforeClass() throws Exception {
+        setMocks("true");
+        getManager().getContext(ClassContext.class).activate(EagerClass.class);
+
+        fire(new BeforeSuite());
+        fire(new BeforeClass(EagerClass.class));
+
+        assertEventFired(BeforeDroneInstantiated.class, 2);
+        assertEventFired(AfterDroneInstantiated.class, 0);
+
+        EagerClass instance = new EagerClass();
+        testEnricher.enrich(instance);
+
+        assertEventFired(BeforeDroneInstantiated.class, 2);
+        assertEventFired(AfterDroneInstantiated.class, 2);
+        Assert.assertNotNull("First drone was injected", instance.first);
+        Assert.assertNotNull("Second drone was injected", instance.second);
+
+        fire(new AfterClass(EagerClass.class));
+        assertEventFired(AfterDroneDestroyed.class, 2);
+    }
+
+    @Test
+    public void startedDronesAreDestroyedWithoutEnrichment() throws Exception {
+        setMocks("true");
+        getManager().getContext(ClassContext.class).activate(EagerClass.class);
+
+        fire(new BeforeSuite());
+        fire(new BeforeClass(EagerClass.class));
+        fire(new AfterClass(EagerClass.class));
+
+        assertEventFired(AfterDroneInstantiated.class, 2);
+        assertEventFired(AfterDroneDestroyed.class, 2);
+    }
+
+    @Test
+    public void classDronesAreStartedLazilyByDefault() throws Exception {
+        setMocks("false");
+        getManager().getContext(ClassContext.class).activate(EagerClass.class);
+
+        fire(new BeforeSuite());
+        fire(new BeforeClass(EagerClass.class));
+
+        assertEventFired(BeforeDroneInstantiated.class, 0);
+
+        testEnricher.enrich(new EagerClass());
+
+        assertEventFired(BeforeDroneInstantiated.class, 2);
+        assertEventFired(AfterDroneInstantiated.class, 2);
+    }
+
+    static class EagerClass {
+        @Drone
+        MockDrone first;
+
+        @Drone
+        @Different
+        MockDrone second;
+    }
+}
@@ -23,6 +23,7 @@ import java.lang.annotation.Target;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
 import org.jboss.arquillian.core.api.annotation.ApplicationScoped;
 import org.jboss.arquillian.core.spi.ServiceLoader;
@@ -33,6 +34,7 @@ import org.jboss.arquillian.drone.impl.mockdrone.MockDroneFactory;
 import org.jboss.arquillian.drone.spi.Configurator;
 import org.jboss.arquillian.drone.spi.Destructor;
 import org.jboss.arquillian.drone.spi.DroneContext;
+import org.jboss.arquillian.drone.spi.DronePoint;
 import org.jboss.arquillian.drone.spi.DroneRegistry;
 import org.jboss.arquillian.drone.spi.Instantiator;
 import org.jboss.arquillian.drone.spi.command.PrepareDrone;
@@ -117,6 +119,32 @@ public class InjectionPointsTest extends AbstractTestTestBase {
             true);
     }
 
+    @Test
+    public void cachedInjectionPointsAreRegisteredOnEachRun() throws Exception {
+        getManager().getContext(ClassContext.class).activate(DummyClass.class);
+        fire(new BeforeSuite());
+
+        DroneContext context = getManager()
+            .getContext(ApplicationContext.class).getObjectStore().get(DroneContext.class);
+
+        Set<DronePoint<?>> firstRun = InjectionPoints.allInClass(context, DummyClass.class);
+        for (DronePoint<?> dronePoint : firstRun) {
+            context.remove(dronePoint);
+        }
+
+        Set<DronePoint<?>> secondRun = InjectionPoints.allInClass(context, DummyClass.class);
+        Assert.assertEquals(firstRun, secondRun);
+        for (DronePoint<?> dronePoint : secondRun) {
+            Assert.assertTrue("Drone point was registered again " + dronePoint, context.contains(dronePoint));
+        }
+
+        fire(new BeforeClass(DummyClass.class));
+        fire(new AfterClass(DummyClass.class));
+        fire(new BeforeClass(DummyClass.class));
+
+        assertEventFired(PrepareDrone.class, 4);
+    }
+
     private void runCustomAnnotationHasNoEffectTest(Class<?> testClass, String beforeClassMethodName,
         String testMethodName, boolean createdInBeforeClass)
         throws Exception {
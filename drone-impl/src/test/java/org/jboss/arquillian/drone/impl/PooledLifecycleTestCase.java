@@ -0,0 +1,159 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
+import org.jboss.arquillian.core.api.annotation.ApplicationScoped;
+import org.jboss.arquillian.core.spi.ServiceLoader;
+import org.jboss.arquillian.drone.api.annotation.Drone;
+import org.jboss.arquillian.drone.api.annotation.lifecycle.PooledLifecycle;
+import org.jboss.arquillian.drone.impl.mockdrone.MockDrone;
+import org.jboss.arquillian.drone.impl.mockdrone.MockDroneFactory;
+import org.jboss.arquillian.drone.impl.mockdrone.MockDroneResetter;
+import org.jboss.arquillian.drone.spi.Configurator;
+import org.jboss.arquillian.drone.spi.Destructor;
+import org.jboss.arquillian.drone.spi.Instantiator;
+import org.jboss.arquillian.drone.spi.Resetter;
+import org.jboss.arquillian.drone.spi.event.AfterDroneDestroyed;
+import org.jboss.arquillian.drone.spi.event.AfterDroneInstantiated;
+import org.jboss.arquillian.drone.spi.event.AfterDronePrepared;
+import org.jboss.arquillian.test.spi.TestEnricher;
+import org.jboss.arquillian.test.spi.context.ClassContext;
+import org.jboss.arquillian.test.spi.event.suite.AfterClass;
+import org.jboss.arquillian.test.spi.event.suite.AfterSuite;
+import org.jboss.arquillian.test.spi.event.suite.BeforeClass;
+import org.jboss.arquillian.test.spi.event.suite.BeforeSuite;
+import org.jboss.arquillian.test.test.AbstractTestTestBase;
+import org.jboss.shrinkwrap.descriptor.api.Descriptors;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * Tests that drones with pooled lifecycle are reset instead of being destroyed between test classes
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class PooledLifecycleTestCase extends AbstractTestTestBase {
+
+    @Mock
+    private ServiceLoader serviceLoader;
+
+    private TestEnricher testEnricher;
+
+    @Override
+    protected void addExtensions(List<Class<?>> extensions) {
+        extensions.add(DroneLifecycleManager.class);
+        extensions.add(DroneRegistrar.class);
+        extensions.add(DroneConfigurator.class);
+        extensions.add(DroneTestEnricher.class);
+        extensions.add(DroneDestructor.class);
+        extensions.add(DroneResetter.class);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private void setMocks(Resetter... resetters) {
+        ArquillianDescriptor desc = Descriptors.create(ArquillianDescriptor.class);
+
+        testEnricher = new DroneTestEnricher();
+        getManager().inject(testEnricher);
+
+        bind(ApplicationScoped.class, ServiceLoader.class, serviceLoader);
+        bind(ApplicationScoped.class, ArquillianDescriptor.class, desc);
+        Mockito.when(serviceLoader.all(Configurator.class)).thenReturn(
+            Arrays.<Configurator>asList(new MockDroneFactory()));
+        Mockito.when(serviceLoader.all(Instantiator.class)).thenReturn(
+            Arrays.<Instantiator>asList(new MockDroneFactory()));
+        Mockito.when(serviceLoader.all(Destructor.class)).thenReturn(
+            Arrays.<Destructor>asList(new MockDroneFactory()));
+        Mockito.when(serviceLoader.all(Resetter.class)).thenReturn(Arrays.asList(resetters));
+    }
+
+    @Test
+    public void pooledDroneIsReusedByNextClass() throws Exception {
+        MockDroneResetter resetter = new MockDroneResetter();
+        setMocks(resetter);
+
+        fire(new BeforeSuite());
+
+        FirstPooledClass first = new FirstPooledClass();
+        runClass(first);
+
+        Assert.assertEquals("Pooled drone was reset after the first class", 1, resetter.getResetCount());
+        assertEventFired(AfterDroneDestroyed.class, 0);
+
+        SecondPooledClass second = new SecondPooledClass();
+        runClass(second);
+
+        assertEventFired(AfterDronePrepared.class, 1);
+        assertEventFired(AfterDroneInstantiated.class, 1);
+        Assert.assertSame("Pooled drone instance was reused", first.drone, second.drone);
+        Assert.assertEquals("Pooled drone was reset after the second class", 2, resetter.getResetCount());
+
+        fire(new AfterSuite());
+        assertEventFired(AfterDroneDestroyed.class, 1);
+    }
+
+    @Test
+    public void pooledDroneIsDestroyedWithoutResetter() throws Exception {
+        setMocks();
+
+        fire(new BeforeSuite());
+
+        FirstPooledClass first = new FirstPooledClass();
+        runClass(first);
+
+        assertEventFired(AfterDroneDestroyed.class, 1);
+
+        SecondPooledClass second = new SecondPooledClass();
+        runClass(second);
+
+        assertEventFired(AfterDroneInstantiated.class, 2);
+        assertEventFired(AfterDroneDestroyed.class, 2);
+        Assert.assertNotSame("New drone instance was created", first.drone, second.drone);
+
+        fire(new AfterSuite());
+        assertEventFired(AfterDroneDestroyed.class, 2);
+    }
+
+    private void runClass(Object testInstance) {
+        Class<?> testClass = testInstance.getClass();
+        getManager().getContext(ClassContext.class).activate(testClass);
+
+        fire(new BeforeClass(testClass));
+        testEnricher.enrich(testInstance);
+        fire(new AfterClass(testClass));
+
+        getManager().getContext(ClassContext.class).deactivate();
+    }
+
+    static class FirstPooledClass {
+        @Drone
+        @PooledLifecycle
+        MockDrone drone;
+    }
+
+    static class SecondPooledClass {
+        @Drone
+        @PooledLifecycle
+        MockDrone drone;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
+import org.jboss.arquillian.core.api.annotation.ApplicationScoped;
+import org.jboss.arquillian.core.spi.ServiceLoader;
+import org.jboss.arquillian.drone.api.annotation.Drone;
+import org.jboss.arquillian.drone.impl.mockdrone.MockDrone;
+import org.jboss.arquillian.drone.impl.mockdrone.MockDroneConfiguration;
+import org.jboss.arquillian.drone.impl.mockdrone.MockDroneFactory;
+import org.jboss.arquillian.drone.spi.Configurator;
+import org.jboss.arquillian.drone.spi.Destructor;
+import org.jboss.arquillian.drone.spi.Instantiator;
+import org.jboss.arquillian.drone.spi.event.AfterDroneDestroyed;
+import org.jboss.arquillian.test.spi.TestEnricher;
+import org.jboss.arquillian.test.spi.context.ClassContext;
+import org.jboss.arquillian.test.spi.event.suite.AfterClass;
+import org.jboss.arquillian.test.spi.event.suite.AfterSuite;
+import org.jboss.arquillian.test.spi.event.suite.BeforeClass;
+import org.jboss.arquillian.test.spi.event.suite.BeforeSuite;
+import org.jboss.arquillian.test.test.AbstractTestTestBase;
+import org.jboss.shrinkwrap.descriptor.api.Descriptors;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * Tests that instances created after their instantiation timed out are destroyed instead of being leaked
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class TimedOutInstantiationTestCase extends AbstractTestTestBase {
+
+    @Mock
+    private ServiceLoader serviceLoader;
+
+    private TestEnricher testEnricher;
+
+    private SlowFactory factory;
+
+    @Override
+    protected void addExtensions(List<Class<?>> extensions) {
+        extensions.add(DroneLifecycleManager.class);
+        extensions.add(DroneRegistrar.class);
+        extensions.add(DroneConfigurator.class);
+        extensions.add(DroneTestEnricher.class);
+        extensions.add(DroneDestructor.class);
+        extensions.add(DroneInstantiationReaper.class);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private void setMocks() {
+        ArquillianDescriptor desc = Descriptors.create(ArquillianDescriptor.class)
+            .extension("drone").property("instantiationTimeoutInSeconds", "1");
+
+        testEnricher = new DroneTestEnricher();
+        getManager().inject(testEnricher);
+        factory = new SlowFactory();
+
+        bind(ApplicationScoped.class, ServiceLoader.class, serviceLoader);
+        bind(ApplicationScoped.class, ArquillianDescriptor.class, desc);
+        Mockito.when(serviceLoader.all(Configurator.class)).thenReturn(
+            Arrays.<Configurator>asList(new MockDroneFactory()));
+        Mockito.when(serviceLoader.all(Instantiator.class)).thenReturn(
+            Arrays.<Instantiator>asList(factory));
+        Mockito.when(serviceLoader.all(Destructor.class)).thenReturn(
+            Arrays.<Destructor>asList(factory));
+    }
+
+    @Test
+    public void lateInstanceIsDestroyed() throws Exception {
+        setMocks();
+        getManager().getContext(ClassContext.class).activate(SlowClass.class);
+
+        fire(new BeforeSuite());
+        fire(new BeforeClass(SlowClass.class));
+
+        try {
+            testEnricher.enrich(new SlowClass());
+            Assert.fail("Drone instantiation should have timed out");
+        } catch (RuntimeException e) {
+            Assert.assertTrue("Timeout was reported, was " + e, DroneTimeoutException.isCausedByTimeoutException(e));
+        }
+
+        factory.release.countDown();
+        Assert.assertTrue("Late instance was destroyed", factory.destroyed.await(5, TimeUnit.SECONDS));
+
+        // timed out drone is not handed to destructor again
+        fire(new AfterClass(SlowClass.class));
+        assertEventFired(AfterDroneDestroyed.class, 0);
+
+        fire(new AfterSuite());
+        Assert.assertEquals("Instance was destroyed exactly once", 1, factory.destroyCount.get());
+    }
+
+    static class SlowClass {
+        @Drone
+        MockDrone slow;
+    }
+
+    private static class SlowFactory implements Instantiator<MockDrone, MockDroneConfiguration>,
+        Destructor<MockDrone> {
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch destroyed = new CountDownLatch(1);
+        private final AtomicInteger destroyCount = new AtomicInteger();
+
+        @Override
+        public int getPrecedence() {
+            return 0;
+        }
+
+        @Override
+        public MockDrone createInstance(MockDroneConfiguration configuration) {
+            // creation that does not react to cancellation
+            boolean released = false;
+            while (!released) {
+                try {
+                    released = release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    // ignored on purpose
+                }
+            }
+            return new MockDrone(configuration.getField());
+        }
+
+        @Override
+        public void destroyInstance(MockDrone instance) {
+            destroyCount.incrementAndGet();
+            destroyed.countDown();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.impl.mockdrone;
+
+import java.lang.annotation.Annotation;
+import org.jboss.arquillian.drone.spi.Resetter;
+
+public class MockDroneResetter implements Resetter<MockDrone> {
+
+    private int resetCount;
+
+    public int getPrecedence() {
+        return 0;
+    }
+
+    @Override
+    public boolean canReset(Class<?> droneType, Class<? extends Annotation> qualifier) {
+        return MockDrone.class.isAssignableFrom(droneType);
+    }
+
+    @Override
+    public boolean resetInstance(MockDrone instance) {
+        resetCount++;
+        return true;
+    }
+
+    public int getResetCount() {
+        return resetCount;
+    }
+}
@@ -16,6 +16,8 @@
  */
 package org.jboss.arquillian.drone.spi;
 
+import java.util.function.Consumer;
+
 /**
  * Defines a contract for destroying instances of the Drone Driver
  *
@@ -34,4 +36,37 @@ public interface Destructor<T> extends Sortable {
      *     The instance to be destroyed
      */
     void destroyInstance(T instance);
+
+    /**
+     * Destroys an instance of the driver in two steps. This method is called in the test thread and does the part of
+     * the destruction which has to run there, e.g. firing events or storing Arquillian instances. The returned rest of
+     * the destruction, e.g. closing the browser, might be run by Drone in a background thread.
+     * <p>
+     * By default, the instance is destroyed by {@link #destroyInstance(Object)} right away and nothing is left.
+     *
+     * @param instance
+     *     The instance to be destroyed
+     *
+     * @return The rest of the destruction which can be run in any thread, or {@code null} if there is none
+     */
+    default Runnable prepareDestroyInstance(T instance) {
+        destroyInstance(instance);
+        return null;
+    }
+
+    /**
+     * Prepares destruction of an instance which is de-enhanced and destroyed entirely in a background thread. This
+     * method is called in the test thread before the instance is de-enhanced, so it can only do the work which does not
+     * depend on the instance, e.g. looking up Arquillian instances. The returned destruction is then called with the
+     * de-enhanced instance, possibly in a background thread.
+     * <p>
+     * By default, {@code null} is returned, so the instance is de-enhanced in the test thread and destroyed by
+     * {@link #prepareDestroyInstance(Object)}.
+     *
+     * @return The destruction of the de-enhanced instance which can be run in any thread, or {@code null} if the
+     * instance has to be prepared for the destruction in the test thread
+     */
+    default Consumer<T> prepareDestroyInBackground() {
+        return null;
+    }
 }
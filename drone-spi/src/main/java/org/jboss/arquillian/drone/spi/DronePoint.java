@@ -67,6 +67,12 @@ public interface DronePoint<DRONE> {
          * Deployment lifecycle means the drone will be prepared in {@link BeforeClass} and destroyed in
          * {@link BeforeUnDeploy}.
          */
-        DEPLOYMENT
+        DEPLOYMENT,
+
+        /**
+         * Pooled lifecycle means the drone will be prepared in {@link BeforeClass}, reset and kept for reuse by other
+         * test classes in {@link AfterClass} and destroyed in {@link AfterSuite}.
+         */
+        POOLED
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.spi;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Defines a contract for resetting instances of the Drone Driver into a clean state, so they can be reused by another
+ * test class instead of being destroyed. Used for drones with {@link DronePoint.Lifecycle#POOLED} lifecycle.
+ * <p>
+ * Resetters are discovered via SPI. The one with the highest precedence that is able to reset given drone is used.
+ *
+ * @param <T>
+ *     Type of the driver that the resetter is able to reset
+ */
+public interface Resetter<T> extends Sortable {
+
+    /**
+     * Returns {@code true} when this {@link Resetter} is able to reset given type.
+     *
+     * @param droneType
+     *     the field or parameter type defined in test
+     * @param qualifier
+     *     the qualifier associated with the injected type
+     *
+     * @return {@code true} when this {@link Resetter} is able to reset given type, {@code false} otherwise
+     */
+    boolean canReset(Class<?> droneType, Class<? extends Annotation> qualifier);
+
+    /**
+     * Resets an instance of the driver, for instance by clearing all cookies and closing all additional windows.
+     *
+     * @param instance
+     *     The instance to be reset
+     *
+     * @return {@code true} if the instance was reset and can be reused, {@code false} if it has to be destroyed
+     */
+    boolean resetInstance(T instance);
+}
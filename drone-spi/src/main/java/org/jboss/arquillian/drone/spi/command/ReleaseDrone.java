@@ -0,0 +1,31 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.spi.command;
+
+import org.jboss.arquillian.drone.spi.DronePoint;
+
+/**
+ * Command event that will trigger the release of a pooled drone. The drone instance is reset and stays in
+ * {@link org.jboss.arquillian.drone.spi.DroneContext}, so it can be reused. If it cannot be reset, it is destroyed
+ * via {@link DestroyDrone}.
+ */
+public class ReleaseDrone extends InjectionPointCommand {
+
+    public ReleaseDrone(DronePoint<?> dronePoint) {
+        super(dronePoint);
+    }
+}
@@ -44,6 +44,13 @@ public class DeploymentFilter implements DronePointFilter<Object> {
         this.pattern = Pattern.compile(regex);
     }
 
+    /**
+     * Returns pattern deployment names are matched against
+     */
+    public Pattern getPattern() {
+        return pattern;
+    }
+
     @Override
     public boolean accepts(DroneContext context, DronePoint<?> dronePoint) {
         String deploymentName = context.get(dronePoint).getMetadata(DeploymentNameKey.class);
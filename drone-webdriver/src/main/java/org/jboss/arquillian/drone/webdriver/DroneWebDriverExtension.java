@@ -23,6 +23,7 @@ import org.jboss.arquillian.drone.spi.Configurator;
 import org.jboss.arquillian.drone.spi.Destructor;
 import org.jboss.arquillian.drone.spi.DroneInstanceEnhancer;
 import org.jboss.arquillian.drone.spi.Instantiator;
+import org.jboss.arquillian.drone.spi.Resetter;
 import org.jboss.arquillian.drone.webdriver.augmentation.AugmentingEnhancer;
 import org.jboss.arquillian.drone.webdriver.binary.process.SeleniumServerExecutor;
 import org.jboss.arquillian.drone.webdriver.factory.BrowserCapabilitiesList;
@@ -34,10 +35,14 @@ import org.jboss.arquillian.drone.webdriver.factory.InternetExplorerDriverFactor
 import org.jboss.arquillian.drone.webdriver.factory.RemoteWebDriverFactory;
 import org.jboss.arquillian.drone.webdriver.factory.SafariDriverFactory;
 import org.jboss.arquillian.drone.webdriver.factory.WebDriverFactory;
+import org.jboss.arquillian.drone.webdriver.factory.local.LocalDriverServicesExtension;
+import org.jboss.arquillian.drone.webdriver.factory.remote.http.SharedHttpClientFactoryExtension;
 import org.jboss.arquillian.drone.webdriver.factory.remote.reusable.ReusableRemoteWebDriverExtension;
 import org.jboss.arquillian.drone.webdriver.factory.remote.reusable.ReusedSessionPermanentFileStorage;
 import org.jboss.arquillian.drone.webdriver.factory.remote.reusable.ReusedSessionPermanentStorage;
+import org.jboss.arquillian.drone.webdriver.factory.remote.reusable.ReusedSessionWarmPool;
 import org.jboss.arquillian.drone.webdriver.impl.BrowserCapabilitiesRegistrar;
+import org.jboss.arquillian.drone.webdriver.reset.WebDriverResetter;
 import org.jboss.arquillian.drone.webdriver.spi.BrowserCapabilities;
 import org.jboss.arquillian.drone.webdriver.window.WindowResizer;
 
@@ -81,9 +86,13 @@ public class DroneWebDriverExtension implements LoadableExtension {
         builder.service(BrowserCapabilities.class, BrowserCapabilitiesList.ChromeHeadless.class);
 
         builder.observer(ReusableRemoteWebDriverExtension.class);
+        builder.observer(ReusedSessionWarmPool.class);
+        builder.observer(LocalDriverServicesExtension.class);
+        builder.observer(SharedHttpClientFactoryExtension.class);
         builder.service(ReusedSessionPermanentStorage.class, ReusedSessionPermanentFileStorage.class);
 
         builder.service(DroneInstanceEnhancer.class, AugmentingEnhancer.class);
+        builder.service(Resetter.class, WebDriverResetter.class);
         builder.observer(WindowResizer.class);
         builder.observer(SeleniumServerExecutor.class);
     }
@@ -0,0 +1,279 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.binary.process;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jboss.arquillian.drone.webdriver.utils.UrlUtils;
+import org.openqa.selenium.grid.Main;
+
+/**
+ * A Selenium Server running in a separate process.
+ * <p>
+ * The server is started in the background and its {@code /status} endpoint is polled until the server accepts
+ * requests, so only the code which needs the server waits for it. The output of the server is copied to the standard
+ * output. The process is stopped by {@link #stop()}, or when the JVM exits.
+ */
+public class SeleniumServer {
+
+    private static final Logger log = Logger.getLogger(SeleniumServer.class.getName());
+
+    private static final long POLL_INTERVAL_IN_MILLIS = 200;
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    private final URL url;
+
+    private final List<String> args;
+
+    private final boolean hub;
+
+    private final CompletableFuture<URL> ready = new CompletableFuture<URL>();
+
+    private final Thread shutdownHook = new Thread(this::destroyProcess, "drone-selenium-server-shutdown");
+
+    // guards fields below
+    private final Object lock = new Object();
+
+    private Process process;
+
+    private boolean stopped;
+
+    /**
+     * @param url address of the server, a free port is picked if the port is 0
+     * @param args arguments of the server, e.g. {@code standalone} or {@code hub}; port is set from the address
+     */
+    public SeleniumServer(URL url, List<String> args) {
+        this.url = url.getPort() == 0 ? withPort(url, freePort()) : url;
+        this.args = new ArrayList<String>(args);
+        this.hub = !args.isEmpty() && "hub".equals(args.get(0));
+    }
+
+    /**
+     * Starts the server in the background
+     *
+     * @return future which is completed with the address of the server once it is ready
+     */
+    public CompletableFuture<URL> start() {
+        Thread starter = new Thread(this::run, "drone-selenium-server-" + threadCount.incrementAndGet());
+        starter.setDaemon(true);
+        starter.start();
+        return ready;
+    }
+
+    /**
+     * Waits until the server is ready
+     *
+     * @param timeoutInMillis how long to wait
+     *
+     * @return address of the server
+     *
+     * @throws IllegalStateException if the server did not start in time or failed to start
+     */
+    public URL awaitReady(long timeoutInMillis) {
+        try {
+            return ready.get(timeoutInMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Selenium Server on " + url + " is not ready in " + timeoutInMillis
+                + " ms", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Selenium Server on " + url + " failed to start", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for Selenium Server on " + url, e);
+        }
+    }
+
+    public URL getUrl() {
+        return url;
+    }
+
+    public CompletableFuture<URL> getReady() {
+        return ready;
+    }
+
+    /**
+     * Returns whether the server process started by this instance is running, {@code false} if the process has not
+     * been started yet or if the server on the address was started by someone else
+     */
+    public boolean isRunning() {
+        synchronized (lock) {
+            return process != null && process.isAlive();
+        }
+    }
+
+    /**
+     * Stops the server process
+     */
+    public void stop() {
+        synchronized (lock) {
+            stopped = true;
+        }
+        destroyProcess();
+        ready.completeExceptionally(new IllegalStateException("Selenium Server on " + url + " was stopped"));
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // JVM is already shutting down
+        }
+    }
+
+    private void run() {
+        try {
+            List<String> command = new ArrayList<String>();
+            command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(Main.class.getName());
+            command.addAll(args);
+            command.add("--port");
+            command.add(Integer.toString(url.getPort()));
+            if (!hub) {
+                command.add("--selenium-manager");
+                command.add("true");
+                command.add("--enable-managed-downloads");
+                command.add("true");
+            }
+
+            Process started;
+            synchronized (lock) {
+                if (stopped) {
+                    return;
+                }
+                log.info("Starting server with: " + command.subList(4, command.size()));
+                started = new ProcessBuilder(command).redirectErrorStream(true).start();
+                process = started;
+                copyOutput(started.getInputStream());
+                Runtime.getRuntime().addShutdownHook(shutdownHook);
+            }
+
+            URL status = new URL(url.getProtocol(), url.getHost(), url.getPort(), "/status");
+            while (!ready.isDone()) {
+                if (!started.isAlive()) {
+                    // e.g. a parallel test run has started the server on the same address first
+                    if (isReady(status)) {
+                        log.log(Level.INFO, "Selenium Server on {0} is already running", url);
+                        UrlUtils.invalidate(url);
+                        ready.complete(url);
+                        return;
+                    }
+                    throw new IllegalStateException("Selenium Server exited with code " + started.exitValue());
+                }
+                if (isReady(status)) {
+                    log.log(Level.INFO, "Selenium Server on {0} is ready", url);
+                    UrlUtils.invalidate(url);
+                    ready.complete(url);
+                    return;
+                }
+                Thread.sleep(POLL_INTERVAL_IN_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ready.completeExceptionally(e);
+        } catch (Exception e) {
+            ready.completeExceptionally(e);
+        }
+    }
+
+    private boolean isReady(URL status) {
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) status.openConnection();
+            connection.setConnectTimeout(1000);
+            connection.setReadTimeout(1000);
+            // the server might still be waiting for browser slots, but it already queues new sessions
+            return connection.getResponseCode() == HttpURLConnection.HTTP_OK;
+        } catch (IOException e) {
+            return false;
+        } finally {
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    private void destroyProcess() {
+        Process toDestroy;
+        synchronized (lock) {
+            toDestroy = process;
+            process = null;
+        }
+        if (toDestroy == null) {
+            return;
+        }
+        toDestroy.destroy();
+        try {
+            if (!toDestroy.waitFor(10, TimeUnit.SECONDS)) {
+                toDestroy.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            toDestroy.destroyForcibly();
+        }
+        UrlUtils.invalidate(url);
+        log.log(Level.FINE, "Selenium Server on {0} was stopped", url);
+    }
+
+    private void copyOutput(InputStream output) {
+        Thread copier = new Thread(() -> {
+            PrintStream out = System.out;
+            byte[] buffer = new byte[4096];
+            int read;
+            try (InputStream in = output) {
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                    out.flush();
+                }
+            } catch (IOException e) {
+                // the process was destroyed
+            }
+        }, Thread.currentThread().getName() + "-output");
+        copier.setDaemon(true);
+        copier.start();
+    }
+
+    private static URL withPort(URL url, int port) {
+        try {
+            return new URL(url.getProtocol(), url.getHost(), port, url.getFile());
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to find a free port for Selenium Server", e);
+        }
+    }
+}
@@ -1,36 +1,99 @@
 package org.jboss.arquillian.drone.webdriver.binary.process;
 
-import java.util.Arrays;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Stream;
+import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
+import org.jboss.arquillian.core.api.Instance;
+import org.jboss.arquillian.core.api.InstanceProducer;
+import org.jboss.arquillian.core.api.annotation.ApplicationScoped;
+import org.jboss.arquillian.core.api.annotation.Inject;
 import org.jboss.arquillian.core.api.annotation.Observes;
-import org.openqa.selenium.grid.Main;
+import org.jboss.arquillian.drone.configuration.ConfigurationMapper;
+import org.jboss.arquillian.drone.webdriver.configuration.WebDriverConfiguration;
+import org.jboss.arquillian.drone.webdriver.factory.RemoteWebDriverFactory;
+import org.jboss.arquillian.drone.webdriver.utils.UrlUtils;
+import org.jboss.arquillian.test.spi.event.suite.AfterSuite;
+import org.jboss.arquillian.test.spi.event.suite.BeforeSuite;
 
 /**
  * Is responsible for launching and stopping selenium server binary
+ * <p>
+ * Servers of remote browsers with a localhost address are started in the background when the suite starts, so
+ * the browser instantiation waits only until the server is ready. With {@code localGridNodes} set, a hub with the
+ * given number of nodes is started instead. The servers are shared by all test classes and stopped when the suite
+ * ends.
  */
 public class SeleniumServerExecutor {
     private Logger log = Logger.getLogger(SeleniumServerExecutor.class.toString());
 
+    @Inject
+    private Instance<ArquillianDescriptor> descriptor;
+
+    @Inject
+    @ApplicationScoped
+    private InstanceProducer<SeleniumServers> seleniumServers;
+
+    /**
+     * Starts servers of all remote browsers declared in the descriptor which are not running yet
+     */
+    public void startSeleniumServers(@Observes BeforeSuite event) {
+        // servers might have been started or stopped since the previous suite
+        UrlUtils.clearCache();
+
+        ArquillianDescriptor arquillianDescriptor = descriptor.get();
+        if (arquillianDescriptor == null) {
+            return;
+        }
+        for (String qualifier : WebDriverConfiguration.getDeclaredQualifiers(arquillianDescriptor)) {
+            WebDriverConfiguration configuration = ConfigurationMapper.fromArquillianDescriptor(arquillianDescriptor,
+                new WebDriverConfiguration(null), qualifier);
+            if (!configuration.isRemote() && !configuration.isRemoteReusable()) {
+                continue;
+            }
+            URL remoteAddress = new RemoteWebDriverFactory().getRemoteAddress(configuration);
+            if (getSeleniumServers().get(remoteAddress) == null && UrlUtils.isLocalhost(remoteAddress)
+                && !UrlUtils.isReachable(remoteAddress)) {
+                log.log(Level.INFO, "Starting Selenium Server on {0} for @{1} browsers in the background",
+                    new Object[] {remoteAddress, qualifier});
+                if (configuration.getLocalGridNodes() > 0) {
+                    getSeleniumServers().getOrStartGrid(remoteAddress, configuration.getLocalGridNodes(),
+                        configuration.getLocalGridMaxSessions());
+                } else {
+                    getSeleniumServers().getOrStart(remoteAddress, configuration.getSeleniumServerArgs());
+                }
+            }
+        }
+    }
+
     /**
-     * Runs an instance of Selenium Server
+     * Runs an instance of Selenium Server, or reuses the one which is already starting, and waits until it is ready
      */
     public void startSeleniumServer(@Observes StartSeleniumServer startSeleniumServer) {
-        int port = startSeleniumServer.getUrl().getPort();
-        String[] seleniumServerArgs = startSeleniumServer.getSeleniumServerArgs() == null ?
-            new String[] { "standalone" } : startSeleniumServer.getSeleniumServerArgs().split("[,\\s]");
-        boolean isHub = "hub".equals(seleniumServerArgs[0]);
-
-        Stream.Builder<String> builder = Stream.<String>builder();
-        Arrays.stream(seleniumServerArgs).forEach(builder::add);
-        builder.add("--port").add(Integer.toString(port));
-        if (!isHub) {
-            builder.add("--selenium-manager").add("true")
-                .add("--enable-managed-downloads").add("true");
+        SeleniumServer server;
+        if (startSeleniumServer.getLocalGridNodes() > 0) {
+            server = getSeleniumServers().getOrStartGrid(startSeleniumServer.getUrl(),
+                startSeleniumServer.getLocalGridNodes(), startSeleniumServer.getLocalGridMaxSessions());
+        } else {
+            server = getSeleniumServers().getOrStart(startSeleniumServer.getUrl(),
+                startSeleniumServer.getSeleniumServerArgs());
         }
+        server.awaitReady(TimeUnit.SECONDS.toMillis(startSeleniumServer.getStartTimeoutInSeconds()));
+    }
 
-        String[] allArgs = builder.build().toArray(String[]::new);
-        log.info("Starting server with: " + Arrays.asList(allArgs));
-        Main.main(allArgs);
+    // drones are destroyed first, so their sessions are already closed
+    public void stopSeleniumServers(@Observes(precedence = -100) AfterSuite event) {
+        SeleniumServers servers = seleniumServers.get();
+        if (servers != null) {
+            servers.stopAll();
+        }
+    }
+
+    private SeleniumServers getSeleniumServers() {
+        if (seleniumServers.get() == null) {
+            seleniumServers.set(new SeleniumServers());
+        }
+        return seleniumServers.get();
     }
 }
@@ -0,0 +1,189 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.binary.process;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jboss.arquillian.drone.webdriver.utils.Validate;
+
+/**
+ * Selenium Servers started by Drone, a server is shared by all the browsers using the same address
+ */
+public class SeleniumServers {
+
+    /**
+     * Memory reserved for one browser session when the capacity of a local grid is derived
+     */
+    static final long MEMORY_PER_SESSION = 1024L * 1024 * 1024;
+
+    private static final Logger log = Logger.getLogger(SeleniumServers.class.getName());
+
+    private final Map<String, SeleniumServer> servers = new ConcurrentHashMap<String, SeleniumServer>();
+
+    // guards registration of grid nodes against stopping of all servers
+    private final Object nodesLock = new Object();
+
+    /**
+     * Returns the server running on the given address, the server is started in the background if there is none
+     *
+     * @param url address of the server
+     * @param seleniumServerArgs arguments of the server separated by spaces or commas, {@code standalone} if empty
+     *
+     * @return the server, which might not be ready yet
+     */
+    public SeleniumServer getOrStart(URL url, String seleniumServerArgs) {
+        return servers.computeIfAbsent(key(url), key -> {
+            SeleniumServer server = new SeleniumServer(url, parseArgs(seleniumServerArgs));
+            server.start();
+            return server;
+        });
+    }
+
+    /**
+     * Returns the hub of a local grid running on the given address, the hub and its nodes are started in
+     * the background if there is none.
+     * <p>
+     * Nodes are started once the hub is ready and only if the hub was started by this instance, so parallel test runs
+     * which start the grid on the same address at once share the grid of the first one. New sessions wait in the
+     * queue of the hub until a node has a free slot. Nodes are not started if the servers are stopped before the hub
+     * is ready.
+     *
+     * @param url address of the hub
+     * @param nodes number of nodes
+     * @param maxSessions maximal number of sessions of the whole grid, derived from the available processors and
+     * memory if it is not positive
+     *
+     * @return the hub, which might not be ready yet
+     */
+    public SeleniumServer getOrStartGrid(URL url, int nodes, int maxSessions) {
+        return servers.computeIfAbsent(key(url), key -> {
+            String publishEvents = "tcp://localhost:" + SeleniumServer.freePort();
+            String subscribeEvents = "tcp://localhost:" + SeleniumServer.freePort();
+            SeleniumServer hub = new SeleniumServer(url, Arrays.asList("hub",
+                "--publish-events", publishEvents.replace("localhost", "*"),
+                "--subscribe-events", subscribeEvents.replace("localhost", "*")));
+
+            int sessions = maxSessions > 0 ? maxSessions : maxSessions(Runtime.getRuntime().availableProcessors(),
+                totalMemory());
+            int sessionsPerNode = Math.max(1, (sessions + nodes - 1) / nodes);
+            hub.start().thenRun(() -> {
+                synchronized (nodesLock) {
+                    // the hub is unregistered once the servers are being stopped
+                    if (!hub.isRunning() || servers.get(key) != hub) {
+                        return;
+                    }
+                    log.log(Level.INFO, "Starting {0} nodes with {1} sessions each for the grid on {2}",
+                        new Object[] {nodes, sessionsPerNode, url});
+                    for (int i = 0; i < nodes; i++) {
+                        List<String> args = new ArrayList<String>(Arrays.asList("node",
+                            "--publish-events", publishEvents, "--subscribe-events", subscribeEvents,
+                            "--max-sessions", Integer.toString(sessionsPerNode)));
+                        if (sessionsPerNode > Runtime.getRuntime().availableProcessors()) {
+                            args.add("--override-max-sessions");
+                            args.add("true");
+                        }
+                        SeleniumServer node = new SeleniumServer(withPort(url, 0), args);
+                        servers.put(key(node.getUrl()), node);
+                        node.start();
+                    }
+                }
+            });
+            return hub;
+        });
+    }
+
+    /**
+     * Returns the server running on the given address or {@code null} if Drone has not started any
+     */
+    public SeleniumServer get(URL url) {
+        return servers.get(key(url));
+    }
+
+    /**
+     * Stops all the servers, including the nodes of grids which are being started
+     */
+    public void stopAll() {
+        List<SeleniumServer> toStop;
+        synchronized (nodesLock) {
+            toStop = new ArrayList<SeleniumServer>(servers.values());
+            servers.clear();
+        }
+        toStop.parallelStream().forEach(server -> {
+            try {
+                server.stop();
+            } catch (RuntimeException e) {
+                log.log(Level.WARNING, "Unable to stop Selenium Server on " + server.getUrl(), e);
+            }
+        });
+    }
+
+    /**
+     * Returns the number of sessions a machine can run at once, one session per processor unless the memory is
+     * not sufficient
+     *
+     * @param processors number of available processors
+     * @param memory total memory in bytes, unknown if not positive
+     */
+    static int maxSessions(int processors, long memory) {
+        long byMemory = memory > 0 ? memory / MEMORY_PER_SESSION : processors;
+        return (int) Math.max(1, Math.min(processors, byMemory));
+    }
+
+    static List<String> parseArgs(String seleniumServerArgs) {
+        List<String> args = new ArrayList<String>();
+        if (!Validate.empty(seleniumServerArgs)) {
+            for (String arg : Arrays.asList(seleniumServerArgs.trim().split("[,\\s]+"))) {
+                if (!arg.isEmpty()) {
+                    args.add(arg);
+                }
+            }
+        }
+        if (args.isEmpty()) {
+            args.add("standalone");
+        }
+        return args;
+    }
+
+    private static long totalMemory() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getTotalPhysicalMemorySize();
+        }
+        return -1;
+    }
+
+    private static URL withPort(URL url, int port) {
+        try {
+            return new URL(url.getProtocol(), url.getHost(), port, "/");
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static String key(URL url) {
+        return url.getHost().toLowerCase() + ":" + url.getPort();
+    }
+}
@@ -2,6 +2,7 @@ package org.jboss.arquillian.drone.webdriver.binary.process;
 
 import java.net.URL;
 import org.jboss.arquillian.core.spi.event.Event;
+import org.jboss.arquillian.drone.webdriver.configuration.WebDriverConfiguration;
 import org.openqa.selenium.Capabilities;
 
 public class StartSeleniumServer implements Event {
@@ -10,6 +11,9 @@ public class StartSeleniumServer implements Event {
     private Capabilities capabilities;
     private URL url;
     private String seleniumServerArgs;
+    private int startTimeoutInSeconds = WebDriverConfiguration.DEFAULT_SELENIUM_SERVER_START_TIMEOUT_IN_SECONDS;
+    private int localGridNodes;
+    private int localGridMaxSessions;
 
     public StartSeleniumServer(String browser, Capabilities capabilities, URL url, String seleniumServerArgs) {
         this.browser = browser;
@@ -49,4 +53,28 @@ public class StartSeleniumServer implements Event {
     public void setUrl(URL url) {
         this.url = url;
     }
+
+    public int getStartTimeoutInSeconds() {
+        return startTimeoutInSeconds;
+    }
+
+    public void setStartTimeoutInSeconds(int startTimeoutInSeconds) {
+        this.startTimeoutInSeconds = startTimeoutInSeconds;
+    }
+
+    public int getLocalGridNodes() {
+        return localGridNodes;
+    }
+
+    public void setLocalGridNodes(int localGridNodes) {
+        this.localGridNodes = localGridNodes;
+    }
+
+    public int getLocalGridMaxSessions() {
+        return localGridMaxSessions;
+    }
+
+    public void setLocalGridMaxSessions(int localGridMaxSessions) {
+        this.localGridMaxSessions = localGridMaxSessions;
+    }
 }
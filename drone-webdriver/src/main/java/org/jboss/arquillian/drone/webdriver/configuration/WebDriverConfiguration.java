@@ -19,10 +19,13 @@ package org.jboss.arquillian.drone.webdriver.configuration;
 import java.lang.annotation.Annotation;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
+import org.jboss.arquillian.config.descriptor.api.ExtensionDef;
 import org.jboss.arquillian.drone.configuration.ConfigurationMapper;
 import org.jboss.arquillian.drone.spi.DroneConfiguration;
 import org.jboss.arquillian.drone.webdriver.factory.BrowserCapabilitiesList;
@@ -38,6 +41,11 @@ public class WebDriverConfiguration implements DroneConfiguration<WebDriverConfi
     public static final String CONFIGURATION_NAME = "webdriver";
     public static final String DEFAULT_BROWSER_CAPABILITIES = new BrowserCapabilitiesList.HtmlUnit().getReadableName();
     public static final String DEFAULT_SELENIUM_SERVER_ARGS = "";
+    public static final int DEFAULT_SELENIUM_SERVER_START_TIMEOUT_IN_SECONDS = 60;
+    public static final int DEFAULT_REUSE_PROBE_TIMEOUT_IN_SECONDS = 5;
+    public static final String DEFAULT_REUSE_CAPABILITY_MATCHING = "exact";
+    public static final long DEFAULT_REUSED_SESSION_TIME_TO_LIVE_IN_SECONDS = 3600 * 48;
+    public static final int DEFAULT_REUSED_SESSION_STORE_SIZE = 100;
     private static final Logger log = Logger.getLogger(WebDriverConfiguration.class.getName());
     public static URL DEFAULT_REMOTE_URL;
 
@@ -61,9 +69,35 @@ public class WebDriverConfiguration implements DroneConfiguration<WebDriverConfi
 
     private String seleniumServerArgs;
 
+    private int seleniumServerStartTimeoutInSeconds = DEFAULT_SELENIUM_SERVER_START_TIMEOUT_IN_SECONDS;
+
+    private int localGridNodes;
+
+    private int localGridMaxSessions;
+
+    private String remoteHttpVersion;
+
+    private int remoteHttpMaxConnections;
+
     // ARQ-1206, ability to delete all cookies in reused browsers
     private boolean reuseCookies;
 
+    private int reuseProbeTimeoutInSeconds = DEFAULT_REUSE_PROBE_TIMEOUT_IN_SECONDS;
+
+    private String reuseCapabilityMatching = DEFAULT_REUSE_CAPABILITY_MATCHING;
+
+    private String reuseIgnoredCapabilities;
+
+    private boolean reuseDriverService;
+
+    private boolean reuseLocalBrowser;
+
+    private long reusedSessionTimeToLiveInSeconds = DEFAULT_REUSED_SESSION_TIME_TO_LIVE_IN_SECONDS;
+
+    private int reusedSessionStoreSize = DEFAULT_REUSED_SESSION_STORE_SIZE;
+
+    private int reusedSessionWarmPoolSize;
+
     private String dimensions;
 
     private boolean enableBidi;
@@ -141,6 +175,46 @@ public class WebDriverConfiguration implements DroneConfiguration<WebDriverConfi
         this.seleniumServerArgs = seleniumServerArgs;
     }
 
+    public int getSeleniumServerStartTimeoutInSeconds() {
+        return seleniumServerStartTimeoutInSeconds;
+    }
+
+    public void setSeleniumServerStartTimeoutInSeconds(int seleniumServerStartTimeoutInSeconds) {
+        this.seleniumServerStartTimeoutInSeconds = seleniumServerStartTimeoutInSeconds;
+    }
+
+    public int getLocalGridNodes() {
+        return localGridNodes;
+    }
+
+    public void setLocalGridNodes(int localGridNodes) {
+        this.localGridNodes = localGridNodes;
+    }
+
+    public int getLocalGridMaxSessions() {
+        return localGridMaxSessions;
+    }
+
+    public void setLocalGridMaxSessions(int localGridMaxSessions) {
+        this.localGridMaxSessions = localGridMaxSessions;
+    }
+
+    public String getRemoteHttpVersion() {
+        return remoteHttpVersion;
+    }
+
+    public void setRemoteHttpVersion(String remoteHttpVersion) {
+        this.remoteHttpVersion = remoteHttpVersion;
+    }
+
+    public int getRemoteHttpMaxConnections() {
+        return remoteHttpMaxConnections;
+    }
+
+    public void setRemoteHttpMaxConnections(int remoteHttpMaxConnections) {
+        this.remoteHttpMaxConnections = remoteHttpMaxConnections;
+    }
+
     @Override
     public String getConfigurationName() {
         return CONFIGURATION_NAME;
@@ -205,4 +279,90 @@ public class WebDriverConfiguration implements DroneConfiguration<WebDriverConfi
     public void setEnableBidi(boolean enableBidi) {
         this.enableBidi = enableBidi;
     }
+
+    public int getReuseProbeTimeoutInSeconds() {
+        return reuseProbeTimeoutInSeconds;
+    }
+
+    public void setReuseProbeTimeoutInSeconds(int reuseProbeTimeoutInSeconds) {
+        this.reuseProbeTimeoutInSeconds = reuseProbeTimeoutInSeconds;
+    }
+
+    public String getReuseCapabilityMatching() {
+        return reuseCapabilityMatching;
+    }
+
+    public void setReuseCapabilityMatching(String reuseCapabilityMatching) {
+        this.reuseCapabilityMatching = reuseCapabilityMatching;
+    }
+
+    public String getReuseIgnoredCapabilities() {
+        return reuseIgnoredCapabilities;
+    }
+
+    public void setReuseIgnoredCapabilities(String reuseIgnoredCapabilities) {
+        this.reuseIgnoredCapabilities = reuseIgnoredCapabilities;
+    }
+
+    public boolean isReuseDriverService() {
+        return reuseDriverService;
+    }
+
+    public void setReuseDriverService(boolean reuseDriverService) {
+        this.reuseDriverService = reuseDriverService;
+    }
+
+    public boolean isReuseLocalBrowser() {
+        return reuseLocalBrowser;
+    }
+
+    public void setReuseLocalBrowser(boolean reuseLocalBrowser) {
+        this.reuseLocalBrowser = reuseLocalBrowser;
+    }
+
+    public long getReusedSessionTimeToLiveInSeconds() {
+        return reusedSessionTimeToLiveInSeconds;
+    }
+
+    public void setReusedSessionTimeToLiveInSeconds(long reusedSessionTimeToLiveInSeconds) {
+        this.reusedSessionTimeToLiveInSeconds = reusedSessionTimeToLiveInSeconds;
+    }
+
+    public int getReusedSessionStoreSize() {
+        return reusedSessionStoreSize;
+    }
+
+    public void setReusedSessionStoreSize(int reusedSessionStoreSize) {
+        this.reusedSessionStoreSize = reusedSessionStoreSize;
+    }
+
+    public int getReusedSessionWarmPoolSize() {
+        return reusedSessionWarmPoolSize;
+    }
+
+    public void setReusedSessionWarmPoolSize(int reusedSessionWarmPoolSize) {
+        this.reusedSessionWarmPoolSize = reusedSessionWarmPoolSize;
+    }
+
+    /**
+     * Returns qualifiers of all WebDriver configurations declared in the descriptor, {@code webdriver} extension is
+     * returned as {@code default} qualifier
+     *
+     * @param descriptor Arquillian descriptor
+     *
+     * @return declared qualifiers in the order of declaration
+     */
+    public static Set<String> getDeclaredQualifiers(ArquillianDescriptor descriptor) {
+        String prefix = CONFIGURATION_NAME + "-";
+        Set<String> qualifiers = new LinkedHashSet<String>();
+        for (ExtensionDef extension : descriptor.getExtensions()) {
+            String name = extension.getExtensionName();
+            if (CONFIGURATION_NAME.equals(name)) {
+                qualifiers.add("default");
+            } else if (name != null && name.startsWith(prefix)) {
+                qualifiers.add(name.substring(prefix.length()));
+            }
+        }
+        return qualifiers;
+    }
 }
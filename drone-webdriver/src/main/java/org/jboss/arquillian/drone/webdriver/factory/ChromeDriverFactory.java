@@ -18,14 +18,18 @@ package org.jboss.arquillian.drone.webdriver.factory;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
+import org.jboss.arquillian.core.api.Instance;
+import org.jboss.arquillian.core.api.annotation.Inject;
 import org.jboss.arquillian.drone.spi.Configurator;
 import org.jboss.arquillian.drone.spi.Destructor;
 import org.jboss.arquillian.drone.spi.DronePoint;
 import org.jboss.arquillian.drone.spi.Instantiator;
 import org.jboss.arquillian.drone.webdriver.configuration.WebDriverConfiguration;
+import org.jboss.arquillian.drone.webdriver.factory.local.LocalDriverServices;
 import org.jboss.arquillian.drone.webdriver.utils.ChromeUtils;
 import org.jboss.arquillian.drone.webdriver.utils.Validate;
 import org.jboss.arquillian.drone.webdriver.window.Dimensions;
@@ -49,6 +53,9 @@ public class ChromeDriverFactory extends AbstractWebDriverFactory<ChromeDriver>
     public static final String HEADLESS_BROWSER_CAPABILITIES = new BrowserCapabilitiesList.ChromeHeadless().getReadableName();
     private static final String CHROME_PRINT_OPTIONS = "chromePrintOptions";
 
+    @Inject
+    private Instance<LocalDriverServices> localDriverServices;
+
     /*
      * (non-Javadoc)
      *
@@ -66,6 +73,36 @@ public class ChromeDriverFactory extends AbstractWebDriverFactory<ChromeDriver>
      */
     @Override
     public void destroyInstance(ChromeDriver instance) {
+        destroyInstance(getLocalDriverServices(), instance);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.jboss.arquillian.drone.spi.Destructor#prepareDestroyInstance(java.lang.Object)
+     */
+    @Override
+    public Runnable prepareDestroyInstance(ChromeDriver instance) {
+        // services are looked up in the test thread, releasing is thread safe
+        LocalDriverServices services = getLocalDriverServices();
+        return () -> destroyInstance(services, instance);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.jboss.arquillian.drone.spi.Destructor#prepareDestroyInBackground()
+     */
+    @Override
+    public Consumer<ChromeDriver> prepareDestroyInBackground() {
+        LocalDriverServices services = getLocalDriverServices();
+        return instance -> destroyInstance(services, instance);
+    }
+
+    private void destroyInstance(LocalDriverServices services, ChromeDriver instance) {
+        if (services != null && services.release(instance)) {
+            return;
+        }
         instance.close();   // necessary to avoid "Connection Reset by peer" errors
         instance.quit();
     }
@@ -79,11 +116,31 @@ public class ChromeDriverFactory extends AbstractWebDriverFactory<ChromeDriver>
     public ChromeDriver createInstance(WebDriverConfiguration configuration) {
         final ChromeOptions options = getChromeOptions(configuration);
 
-        ChromeDriverService chromeDriverService = new ChromeDriverService.Builder()
+        LocalDriverServices services = getLocalDriverServices();
+        if (services != null && LocalDriverServices.isReused(configuration)) {
+            return services.createDriver(configuration, BROWSER_CAPABILITIES, ChromeDriver.class, options,
+                this::createChromeDriverService, options::setBinary,
+                service -> newChromeDriver(configuration, service, options));
+        }
+
+        return newChromeDriver(configuration, createChromeDriverService(), options);
+    }
+
+    private ChromeDriverService createChromeDriverService() {
+        return new ChromeDriverService.Builder()
                 .withLogOutput(System.out).build();
+    }
+
+    private ChromeDriver newChromeDriver(WebDriverConfiguration configuration, ChromeDriverService service,
+        ChromeOptions options) {
         return SecurityActions.newInstance(configuration.getImplementationClass(),
                 new Class<?>[]{ChromeDriverService.class, ChromeOptions.class},
-                new Object[]{chromeDriverService, options}, ChromeDriver.class);
+                new Object[]{service, options}, ChromeDriver.class);
+    }
+
+    // the factory can be used without Arquillian as well
+    private LocalDriverServices getLocalDriverServices() {
+        return localDriverServices == null ? null : localDriverServices.get();
     }
 
     /**
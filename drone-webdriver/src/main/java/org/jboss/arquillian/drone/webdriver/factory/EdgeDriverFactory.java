@@ -1,5 +1,6 @@
 package org.jboss.arquillian.drone.webdriver.factory;
 
+import java.util.function.Consumer;
 import org.jboss.arquillian.drone.spi.Configurator;
 import org.jboss.arquillian.drone.spi.Destructor;
 import org.jboss.arquillian.drone.spi.Instantiator;
@@ -40,6 +41,26 @@ public class EdgeDriverFactory extends AbstractWebDriverFactory<EdgeDriver> impl
         instance.quit();
     }
 
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.jboss.arquillian.drone.spi.Destructor#prepareDestroyInstance(java.lang.Object)
+     */
+    @Override
+    public Runnable prepareDestroyInstance(EdgeDriver instance) {
+        return instance::quit;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.jboss.arquillian.drone.spi.Destructor#prepareDestroyInBackground()
+     */
+    @Override
+    public Consumer<EdgeDriver> prepareDestroyInBackground() {
+        return EdgeDriver::quit;
+    }
+
     /*
      * (non-Javadoc)
      *
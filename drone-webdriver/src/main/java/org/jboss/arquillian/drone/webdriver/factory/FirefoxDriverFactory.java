@@ -18,10 +18,14 @@ package org.jboss.arquillian.drone.webdriver.factory;
 
 import java.io.File;
 import java.util.Map;
+import java.util.function.Consumer;
+import org.jboss.arquillian.core.api.Instance;
+import org.jboss.arquillian.core.api.annotation.Inject;
 import org.jboss.arquillian.drone.spi.Configurator;
 import org.jboss.arquillian.drone.spi.Destructor;
 import org.jboss.arquillian.drone.spi.Instantiator;
 import org.jboss.arquillian.drone.webdriver.configuration.WebDriverConfiguration;
+import org.jboss.arquillian.drone.webdriver.factory.local.LocalDriverServices;
 import org.jboss.arquillian.drone.webdriver.utils.FirefoxPrefsReader;
 import org.jboss.arquillian.drone.webdriver.utils.StringUtils;
 import org.jboss.arquillian.drone.webdriver.utils.Validate;
@@ -44,6 +48,9 @@ public class FirefoxDriverFactory extends AbstractWebDriverFactory<FirefoxDriver
     public static final String FIREFOX_DRIVER_BINARY_PROPERTY = "firefoxDriverBinary";
     private static final String BROWSER_CAPABILITIES = new BrowserCapabilitiesList.Firefox().getReadableName();
 
+    @Inject
+    private Instance<LocalDriverServices> localDriverServices;
+
     /*
      * (non-Javadoc)
      *
@@ -61,6 +68,36 @@ public class FirefoxDriverFactory extends AbstractWebDriverFactory<FirefoxDriver
      */
     @Override
     public void destroyInstance(FirefoxDriver instance) {
+        destroyInstance(getLocalDriverServices(), instance);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.jboss.arquillian.drone.spi.Destructor#prepareDestroyInstance(java.lang.Object)
+     */
+    @Override
+    public Runnable prepareDestroyInstance(FirefoxDriver instance) {
+        // services are looked up in the test thread, releasing is thread safe
+        LocalDriverServices services = getLocalDriverServices();
+        return () -> destroyInstance(services, instance);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.jboss.arquillian.drone.spi.Destructor#prepareDestroyInBackground()
+     */
+    @Override
+    public Consumer<FirefoxDriver> prepareDestroyInBackground() {
+        LocalDriverServices services = getLocalDriverServices();
+        return instance -> destroyInstance(services, instance);
+    }
+
+    private void destroyInstance(LocalDriverServices services, FirefoxDriver instance) {
+        if (services != null && services.release(instance)) {
+            return;
+        }
         instance.quit();
     }
 
@@ -71,13 +108,33 @@ public class FirefoxDriverFactory extends AbstractWebDriverFactory<FirefoxDriver
      */
     @Override
     public FirefoxDriver createInstance(WebDriverConfiguration configuration) {
-        FirefoxOptions firefoxOptions = getFirefoxOptions(configuration, true);
+        final FirefoxOptions firefoxOptions = getFirefoxOptions(configuration, true);
+
+        LocalDriverServices services = getLocalDriverServices();
+        if (services != null && LocalDriverServices.isReused(configuration)) {
+            return services.createDriver(configuration, BROWSER_CAPABILITIES, FirefoxDriver.class, firefoxOptions,
+                this::createFirefoxDriverService, firefoxOptions::setBinary,
+                service -> newFirefoxDriver(configuration, service, firefoxOptions));
+        }
 
-        FirefoxDriverService firefoxDriverService = new GeckoDriverService.Builder()
+        return newFirefoxDriver(configuration, createFirefoxDriverService(), firefoxOptions);
+    }
+
+    private FirefoxDriverService createFirefoxDriverService() {
+        return new GeckoDriverService.Builder()
                 .withLogOutput(System.out).build();
+    }
+
+    private FirefoxDriver newFirefoxDriver(WebDriverConfiguration configuration, FirefoxDriverService service,
+        FirefoxOptions firefoxOptions) {
         return SecurityActions.newInstance(configuration.getImplementationClass(),
                 new Class<?>[]{FirefoxDriverService.class, FirefoxOptions.class},
-                new Object[]{firefoxDriverService, firefoxOptions}, FirefoxDriver.class);
+                new Object[]{service, firefoxOptions}, FirefoxDriver.class);
+    }
+
+    // the factory can be used without Arquillian as well
+    private LocalDriverServices getLocalDriverServices() {
+        return localDriverServices == null ? null : localDriverServices.get();
     }
 
     /**
@@ -18,6 +18,7 @@ package org.jboss.arquillian.drone.webdriver.factory;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 import org.htmlunit.WebClient;
 import org.htmlunit.WebClientOptions;
@@ -64,6 +65,26 @@ public class HtmlUnitDriverFactory extends AbstractWebDriverFactory<DroneHtmlUni
         instance.quit();
     }
 
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.jboss.arquillian.drone.spi.Destructor#prepareDestroyInstance(java.lang.Object)
+     */
+    @Override
+    public Runnable prepareDestroyInstance(DroneHtmlUnitDriver instance) {
+        return instance::quit;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.jboss.arquillian.drone.spi.Destructor#prepareDestroyInBackground()
+     */
+    @Override
+    public Consumer<DroneHtmlUnitDriver> prepareDestroyInBackground() {
+        return DroneHtmlUnitDriver::quit;
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -16,6 +16,7 @@
  */
 package org.jboss.arquillian.drone.webdriver.factory;
 
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.jboss.arquillian.drone.spi.Configurator;
@@ -60,6 +61,26 @@ public class InternetExplorerDriverFactory extends AbstractWebDriverFactory<Inte
         instance.quit();
     }
 
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.jboss.arquillian.drone.spi.Destructor#prepareDestroyInstance(java.lang.Object)
+     */
+    @Override
+    public Runnable prepareDestroyInstance(InternetExplorerDriver instance) {
+        return instance::quit;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.jboss.arquillian.drone.spi.Destructor#prepareDestroyInBackground()
+     */
+    @Override
+    public Consumer<InternetExplorerDriver> prepareDestroyInBackground() {
+        return InternetExplorerDriver::quit;
+    }
+
     /*
      * (non-Javadoc)
      *
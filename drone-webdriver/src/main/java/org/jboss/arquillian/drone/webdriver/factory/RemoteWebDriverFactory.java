@@ -17,6 +17,13 @@
 package org.jboss.arquillian.drone.webdriver.factory;
 
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.jboss.arquillian.core.api.Event;
@@ -30,14 +37,16 @@ import org.jboss.arquillian.drone.spi.Instantiator;
 import org.jboss.arquillian.drone.webdriver.augmentation.AugmentingEnhancer;
 import org.jboss.arquillian.drone.webdriver.binary.process.StartSeleniumServer;
 import org.jboss.arquillian.drone.webdriver.configuration.WebDriverConfiguration;
+import org.jboss.arquillian.drone.webdriver.factory.remote.http.SharedHttpClientFactory;
+import org.jboss.arquillian.drone.webdriver.factory.remote.reusable.CapabilityMatchingPolicy;
 import org.jboss.arquillian.drone.webdriver.factory.remote.reusable.InitializationParameter;
 import org.jboss.arquillian.drone.webdriver.factory.remote.reusable.InitializationParametersMap;
 import org.jboss.arquillian.drone.webdriver.factory.remote.reusable.PersistReusedSessionsEvent;
 import org.jboss.arquillian.drone.webdriver.factory.remote.reusable.ReusableRemoteWebDriver;
 import org.jboss.arquillian.drone.webdriver.factory.remote.reusable.ReusableRemoteWebDriverToDestroy;
 import org.jboss.arquillian.drone.webdriver.factory.remote.reusable.ReusedSession;
+import org.jboss.arquillian.drone.webdriver.factory.remote.reusable.ReusedSessionProbe;
 import org.jboss.arquillian.drone.webdriver.factory.remote.reusable.ReusedSessionStore;
-import org.jboss.arquillian.drone.webdriver.factory.remote.reusable.UnableReuseSessionException;
 import org.jboss.arquillian.drone.webdriver.utils.UrlUtils;
 import org.jboss.arquillian.drone.webdriver.utils.Validate;
 import org.openqa.selenium.Capabilities;
@@ -45,8 +54,10 @@ import org.openqa.selenium.ImmutableCapabilities;
 import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.remote.Browser;
+import org.openqa.selenium.remote.HttpCommandExecutor;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.remote.http.HttpClient;
 
 /**
  * @author <a href="mailto:kpiwko@redhat.com">Karel Piwko</a>
@@ -69,10 +80,12 @@ public class RemoteWebDriverFactory extends AbstractWebDriverFactory<RemoteWebDr
     private Event<PersistReusedSessionsEvent> persistEvent;
     @Inject
     private Event<StartSeleniumServer> startSeleniumServerEvent;
+    @Inject
+    private Instance<SharedHttpClientFactory> sharedHttpClientFactory;
 
     @Inject
     @ApplicationScoped
-    private InstanceProducer<ReusableRemoteWebDriverToDestroy> lastRemoteWebDriverToDestroy;
+    private InstanceProducer<ReusableRemoteWebDriverToDestroy> remoteWebDriversToDestroy;
 
     @Override
     public int getPrecedence() {
@@ -82,39 +95,9 @@ public class RemoteWebDriverFactory extends AbstractWebDriverFactory<RemoteWebDr
     @Override
     public RemoteWebDriver createInstance(WebDriverConfiguration configuration) {
 
-        URL remoteAddress = configuration.getRemoteAddress();
-
-        // default remote address
-        if (Validate.empty(remoteAddress)) {
-            remoteAddress = WebDriverConfiguration.DEFAULT_REMOTE_URL;
-            log.log(Level.INFO, "Property \"remoteAddress\" was not specified, using default value of {0}",
-                WebDriverConfiguration.DEFAULT_REMOTE_URL);
-        }
-
-        Validate.isValidUrl(remoteAddress, "Remote address must be a valid url, " + remoteAddress);
-
+        URL remoteAddress = getRemoteAddress(configuration);
         String browser = configuration.getBrowserName().toLowerCase();
-        if (Validate.empty(browser)) {
-            configuration.setBrowserName(WebDriverConfiguration.DEFAULT_BROWSER_CAPABILITIES);
-            log.log(Level.INFO, "Property \"browser\" was not specified, using default value of {0}",
-                WebDriverConfiguration.DEFAULT_BROWSER_CAPABILITIES);
-        }
-
-        Validate.isEmpty(configuration.getBrowserName(), "The browser is not set.");
-
-        // construct capabilities
-        Capabilities options;
-        if (browser.equals(Browser.CHROME.browserName()) || browser.equals("chromeheadless")) {
-            options = new ChromeDriverFactory().getChromeOptions(configuration);
-        } else if(browser.equals(Browser.FIREFOX.browserName())) {
-            options = new FirefoxDriverFactory().getFirefoxOptions(configuration, true);
-        } else if(browser.equals(Browser.SAFARI.browserName())) {
-            options = new SafariDriverFactory().getOptions(configuration, true);
-        } else if(browser.equals(Browser.EDGE.browserName())) {
-            options = new EdgeDriverFactory().getEdgeOptions(configuration);
-        } else {
-            options = new FirefoxDriverFactory().getFirefoxOptions(configuration, true);
-        }
+        Capabilities options = getRemoteOptions(configuration);
 
         if (!UrlUtils.isReachable(remoteAddress)) {
             if (UrlUtils.isLocalhost(remoteAddress)) {
@@ -133,12 +116,24 @@ public class RemoteWebDriverFactory extends AbstractWebDriverFactory<RemoteWebDr
             }
         }
 
+        SharedHttpClientFactory clientFactory = getSharedHttpClientFactory();
+        if (clientFactory != null) {
+            clientFactory.configure(remoteAddress, configuration.getRemoteHttpVersion(),
+                configuration.getRemoteHttpMaxConnections());
+        }
+
         RemoteWebDriver driver = null;
 
-        if (configuration.isRemoteReusable()) {
-            driver = createReusableDriver(remoteAddress, options);
-        } else {
-            driver = createRemoteDriver(remoteAddress, options);
+        try {
+            if (configuration.isRemoteReusable()) {
+                driver = createReusableDriver(remoteAddress, options, configuration);
+            } else {
+                driver = createRemoteDriver(remoteAddress, options);
+            }
+        } catch (RuntimeException e) {
+            // the server might have gone away, check it again next time
+            UrlUtils.invalidate(remoteAddress);
+            throw e;
         }
         // ARQ-1351
         // marks the driver instance for augmentation by AugmentingEnhancer
@@ -153,6 +148,60 @@ public class RemoteWebDriverFactory extends AbstractWebDriverFactory<RemoteWebDr
         return driver;
     }
 
+    /**
+     * Returns the address of the Selenium Server, the default one is used if the configuration does not specify any
+     *
+     * @param configuration
+     *     A configuration object for Drone extension
+     *
+     * @return The address of the Selenium Server
+     */
+    public URL getRemoteAddress(WebDriverConfiguration configuration) {
+        URL remoteAddress = configuration.getRemoteAddress();
+
+        // default remote address
+        if (Validate.empty(remoteAddress)) {
+            remoteAddress = WebDriverConfiguration.DEFAULT_REMOTE_URL;
+            log.log(Level.INFO, "Property \"remoteAddress\" was not specified, using default value of {0}",
+                WebDriverConfiguration.DEFAULT_REMOTE_URL);
+        }
+
+        Validate.isValidUrl(remoteAddress, "Remote address must be a valid url, " + remoteAddress);
+        return remoteAddress;
+    }
+
+    /**
+     * Returns the options of the browser a remote session is requested with
+     *
+     * @param configuration
+     *     A configuration object for Drone extension
+     *
+     * @return The options of the remote browser
+     */
+    public Capabilities getRemoteOptions(WebDriverConfiguration configuration) {
+        String browser = configuration.getBrowserName().toLowerCase();
+        if (Validate.empty(browser)) {
+            configuration.setBrowserName(WebDriverConfiguration.DEFAULT_BROWSER_CAPABILITIES);
+            log.log(Level.INFO, "Property \"browser\" was not specified, using default value of {0}",
+                WebDriverConfiguration.DEFAULT_BROWSER_CAPABILITIES);
+        }
+
+        Validate.isEmpty(configuration.getBrowserName(), "The browser is not set.");
+
+        // construct capabilities
+        if (browser.equals(Browser.CHROME.browserName()) || browser.equals("chromeheadless")) {
+            return new ChromeDriverFactory().getChromeOptions(configuration);
+        } else if(browser.equals(Browser.FIREFOX.browserName())) {
+            return new FirefoxDriverFactory().getFirefoxOptions(configuration, true);
+        } else if(browser.equals(Browser.SAFARI.browserName())) {
+            return new SafariDriverFactory().getOptions(configuration, true);
+        } else if(browser.equals(Browser.EDGE.browserName())) {
+            return new EdgeDriverFactory().getEdgeOptions(configuration);
+        } else {
+            return new FirefoxDriverFactory().getFirefoxOptions(configuration, true);
+        }
+    }
+
     private void downloadAndStartSeleniumServer(WebDriverConfiguration configuration, String browser,
         URL remoteAddress) throws Exception {
 
@@ -163,9 +212,12 @@ public class RemoteWebDriverFactory extends AbstractWebDriverFactory<RemoteWebDr
                 configuration.setSeleniumServerArgs(WebDriverConfiguration.DEFAULT_SELENIUM_SERVER_ARGS);
             }
 
-            startSeleniumServerEvent.fire(
-                new StartSeleniumServer(browser, capabilities, remoteAddress,
-                    seleniumServerArgs));
+            StartSeleniumServer startSeleniumServer = new StartSeleniumServer(browser, capabilities, remoteAddress,
+                seleniumServerArgs);
+            startSeleniumServer.setStartTimeoutInSeconds(configuration.getSeleniumServerStartTimeoutInSeconds());
+            startSeleniumServer.setLocalGridNodes(configuration.getLocalGridNodes());
+            startSeleniumServer.setLocalGridMaxSessions(configuration.getLocalGridMaxSessions());
+            startSeleniumServerEvent.fire(startSeleniumServer);
     }
 
     /**
@@ -186,17 +238,30 @@ public class RemoteWebDriverFactory extends AbstractWebDriverFactory<RemoteWebDr
 
     @Override
     public void destroyInstance(RemoteWebDriver driver) {
+        Runnable rest = prepareDestroyInstance(driver);
+        if (rest != null) {
+            rest.run();
+        }
+    }
+
+    /**
+     * Stores the session of reusable driver in the test thread, as it fires events and modifies Arquillian instances.
+     * Only quitting of a driver which is not reused is left to be done, possibly in background.
+     */
+    @Override
+    public Runnable prepareDestroyInstance(RemoteWebDriver driver) {
         // there is no sessionId
         // this very likely mean that session was already destroyed
         if (driver.getSessionId() == null) {
-            try {
-                driver.quit();
-            } catch (WebDriverException e) {
-                log.log(Level.WARNING, "@Drone {0} has been already destroyed and can't be destroyed again.",
-                    driver.getClass()
-                        .getSimpleName());
-            }
-            return;
+            return () -> {
+                try {
+                    driver.quit();
+                } catch (WebDriverException e) {
+                    log.log(Level.WARNING, "@Drone {0} has been already destroyed and can't be destroyed again.",
+                        driver.getClass()
+                            .getSimpleName());
+                }
+            };
         }
 
         SessionId sessionId = driver.getSessionId();
@@ -208,10 +273,34 @@ public class RemoteWebDriverFactory extends AbstractWebDriverFactory<RemoteWebDr
             ReusedSession session = ReusedSession.createInstance(sessionId, driverCapabilities);
             sessionStore.get().store(param, session);
             persistEvent.fire(new PersistReusedSessionsEvent());
-            lastRemoteWebDriverToDestroy.set(new ReusableRemoteWebDriverToDestroy(driver));
-        } else {
-            driver.quit();
+            // local resources of the driver are released later, together with other drivers
+            if (remoteWebDriversToDestroy.get() == null) {
+                remoteWebDriversToDestroy.set(new ReusableRemoteWebDriverToDestroy());
+            }
+            remoteWebDriversToDestroy.get().add(driver);
+            return null;
+        }
+        return driver::quit;
+    }
+
+    /**
+     * Sessions of reusable drivers are stored in the test thread, so drivers are de-enhanced and quit in background
+     * only while no reusable session is tracked.
+     */
+    @Override
+    public Consumer<RemoteWebDriver> prepareDestroyInBackground() {
+        InitializationParametersMap reusable = initParams.get();
+        if (reusable != null && !reusable.isEmpty()) {
+            return null;
         }
+        return driver -> {
+            try {
+                driver.quit();
+            } catch (WebDriverException e) {
+                log.log(Level.WARNING, "@Drone {0} has been already destroyed and can't be destroyed again.",
+                    driver.getClass().getSimpleName());
+            }
+        };
     }
 
     @Override
@@ -220,30 +309,48 @@ public class RemoteWebDriverFactory extends AbstractWebDriverFactory<RemoteWebDr
     }
 
     protected RemoteWebDriver createRemoteDriver(URL remoteAddress, Capabilities capabilities) {
-        return new RemoteWebDriver(remoteAddress, capabilities);
+        return new RemoteWebDriver(new HttpCommandExecutor(Collections.emptyMap(), remoteAddress,
+            getHttpClientFactory()), capabilities);
+    }
+
+    /**
+     * Returns the factory of HTTP clients connecting to Selenium Servers, the clients are shared by all the sessions
+     * of the same server
+     */
+    private HttpClient.Factory getHttpClientFactory() {
+        SharedHttpClientFactory clientFactory = getSharedHttpClientFactory();
+        return clientFactory != null ? clientFactory : HttpCommandExecutor.getDefaultClientFactory();
     }
 
-    private RemoteWebDriver createReusableDriver(URL remoteAddress, Capabilities capabilities) {
+    private SharedHttpClientFactory getSharedHttpClientFactory() {
+        // the factory might be created outside of Arquillian
+        return sharedHttpClientFactory == null ? null : sharedHttpClientFactory.get();
+    }
+
+    private RemoteWebDriver createReusableDriver(URL remoteAddress, Capabilities capabilities,
+        WebDriverConfiguration configuration) {
         // construct init params
-        InitializationParameter initParam = new InitializationParameter(remoteAddress, capabilities);
+        final InitializationParameter initParam = new InitializationParameter(remoteAddress, capabilities,
+            CapabilityMatchingPolicy.fromConfiguration(configuration));
+        int probeTimeoutInSeconds = configuration.getReuseProbeTimeoutInSeconds();
+        final ReusedSessionStore store = sessionStore.get();
+        long probeTimeout = TimeUnit.SECONDS.toMillis(probeTimeoutInSeconds > 0 ? probeTimeoutInSeconds
+            : WebDriverConfiguration.DEFAULT_REUSE_PROBE_TIMEOUT_IN_SECONDS);
 
         RemoteWebDriver driver = null;
 
         // try to reuse the session
-        // retrieve the session id
-        ReusedSession stored = sessionStore.get().pull(initParam);
-        // get all the stored sessions for given initParam
-        while (stored != null) {
-            SessionId reusedSessionId = stored.getSessionId();
-            Capabilities reusedCapabilities = stored.getCapabilities();
-            try {
-                driver = ReusableRemoteWebDriver.fromReusedSession(remoteAddress, reusedCapabilities, reusedSessionId);
+        // stored sessions are checked in batches, the ones which cannot be reused are not returned to the store
+        Set<SessionId> probed = new HashSet<SessionId>();
+        List<ReusedSession> candidates = pullCandidates(store, initParam, probed);
+        while (!candidates.isEmpty()) {
+            ReusedSessionProbe probe = new ReusedSessionProbe(remoteAddress,
+                session -> store.store(initParam, session), probeTimeout, getHttpClientFactory());
+            driver = probe.firstLive(candidates);
+            if (driver != null) {
                 break;
-            } catch (UnableReuseSessionException ex) {
-                log.log(Level.WARNING, "Unable to reuse session: {0}", stored.getSessionId());
             }
-
-            stored = sessionStore.get().pull(initParam);
+            candidates = pullCandidates(store, initParam, probed);
         }
 
         if (driver == null) {
@@ -256,4 +363,22 @@ public class RemoteWebDriverFactory extends AbstractWebDriverFactory<RemoteWebDr
 
         return driver;
     }
+
+    private List<ReusedSession> pullCandidates(ReusedSessionStore store, InitializationParameter initParam,
+        Set<SessionId> probed) {
+        List<ReusedSession> candidates = new ArrayList<ReusedSession>();
+        while (candidates.size() < ReusedSessionProbe.MAX_CANDIDATES) {
+            ReusedSession stored = store.pull(initParam);
+            if (stored == null) {
+                break;
+            }
+            // a session released by a late probe was already checked, stop here and give it back to the store
+            if (!probed.add(stored.getSessionId())) {
+                store.store(initParam, stored);
+                break;
+            }
+            candidates.add(stored);
+        }
+        return candidates;
+    }
 }
@@ -16,6 +16,7 @@
  */
 package org.jboss.arquillian.drone.webdriver.factory;
 
+import java.util.function.Consumer;
 import org.jboss.arquillian.drone.spi.Configurator;
 import org.jboss.arquillian.drone.spi.Destructor;
 import org.jboss.arquillian.drone.spi.Instantiator;
@@ -49,6 +50,26 @@ public class SafariDriverFactory extends AbstractWebDriverFactory<SafariDriver>
         instance.quit();
     }
 
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.jboss.arquillian.drone.spi.Destructor#prepareDestroyInstance(java.lang.Object)
+     */
+    @Override
+    public Runnable prepareDestroyInstance(SafariDriver instance) {
+        return instance::quit;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.jboss.arquillian.drone.spi.Destructor#prepareDestroyInBackground()
+     */
+    @Override
+    public Consumer<SafariDriver> prepareDestroyInBackground() {
+        return SafariDriver::quit;
+    }
+
     @Override
     public SafariDriver createInstance(WebDriverConfiguration configuration) {
         SafariDriverService service = new SafariDriverService.Builder()
@@ -59,9 +59,22 @@ public class WebDriverFactory extends AbstractWebDriverFactory<WebDriver> implem
      *
      * @see org.jboss.arquillian.drone.spi.Destructor#destroyInstance(java.lang.Object)
      */
-    @SuppressWarnings("unchecked")
     @Override
     public void destroyInstance(WebDriver instance) {
+        Runnable rest = prepareDestroyInstance(instance);
+        if (rest != null) {
+            rest.run();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.jboss.arquillian.drone.spi.Destructor#prepareDestroyInstance(java.lang.Object)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Runnable prepareDestroyInstance(WebDriver instance) {
 
         @SuppressWarnings("rawtypes")
         Destructor destructor = null;
@@ -80,11 +93,11 @@ public class WebDriverFactory extends AbstractWebDriverFactory<WebDriver> implem
         }
 
         if (destructor != null && !destructor.getClass().equals(this.getClass())) {
-            destructor.destroyInstance(instance);
+            return destructor.prepareDestroyInstance(instance);
         }
         // this is default destructor
         else {
-            instance.quit();
+            return instance::quit;
         }
     }
 
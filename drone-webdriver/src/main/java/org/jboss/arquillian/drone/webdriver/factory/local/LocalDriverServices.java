@@ -0,0 +1,433 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.factory.local;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jboss.arquillian.drone.webdriver.configuration.WebDriverConfiguration;
+import org.jboss.arquillian.drone.webdriver.factory.remote.reusable.CapabilityMatchingPolicy;
+import org.jboss.arquillian.drone.webdriver.reset.WebDriverResetter;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.service.DriverFinder;
+import org.openqa.selenium.remote.service.DriverService;
+
+/**
+ * Keeps driver services, such as ChromeDriver or GeckoDriver processes, alive for the whole suite, so new sessions of
+ * local browsers are opened against a running service.
+ * <p>
+ * Drivers of a shared service are not quit, as that stops the service as well. Their session is deleted instead and
+ * the HTTP client of the driver is closed. Browsers can be kept open as well, in that case their state is reset and
+ * the browser is handed to the next drone with the same configuration.
+ */
+public class LocalDriverServices {
+
+    private static final Logger log = Logger.getLogger(LocalDriverServices.class.getName());
+
+    private static final WebDriverResetter RESETTER = new WebDriverResetter();
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    // maximal number of browsers closed at once
+    private static final int MAX_THREADS = 8;
+
+    // services are created outside the lock, so a slow lookup of one driver does not block drivers of other keys
+    private final Map<String, CompletableFuture<SharedDriverService<?>>> services =
+        new HashMap<String, CompletableFuture<SharedDriverService<?>>>();
+
+    private final Map<String, Deque<RemoteWebDriver>> parked = new HashMap<String, Deque<RemoteWebDriver>>();
+
+    // drivers whose browser is kept open, with the key of their configuration
+    private final Map<RemoteWebDriver, String> browserKeys = new IdentityHashMap<RemoteWebDriver, String>();
+
+    private final Set<RemoteWebDriver> sharedServiceDrivers =
+        Collections.newSetFromMap(new IdentityHashMap<RemoteWebDriver, Boolean>());
+
+    private final Thread shutdownHook;
+
+    private boolean closed;
+
+    public LocalDriverServices() {
+        this.shutdownHook = new Thread(this::close, "drone-local-driver-services-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Returns whether services or browsers should be reused for drivers with given configuration
+     *
+     * @param configuration a configuration object for Drone extension
+     *
+     * @return true if anything is reused
+     */
+    public static boolean isReused(WebDriverConfiguration configuration) {
+        return configuration.isReuseDriverService() || configuration.isReuseLocalBrowser();
+    }
+
+    /**
+     * Creates a driver, or reuses an open browser, as the configuration says
+     *
+     * @param configuration a configuration object for Drone extension
+     * @param browser name of the browser
+     * @param type type of the driver
+     * @param options options of the browser
+     * @param serviceBuilder creates a new service
+     * @param binarySetter sets the browser binary to the options
+     * @param constructor creates a driver using the service and the options
+     * @param <S> type of the service
+     * @param <D> type of the driver
+     *
+     * @return the driver
+     */
+    public <S extends DriverService, D extends RemoteWebDriver> D createDriver(WebDriverConfiguration configuration,
+        String browser, Class<D> type, Capabilities options, Supplier<S> serviceBuilder, Consumer<String> binarySetter,
+        Function<S, D> constructor) {
+        String browserKey = null;
+        if (configuration.isReuseLocalBrowser()) {
+            browserKey = configuration.getImplementationClass() + "#"
+                + CapabilityMatchingPolicy.EXACT.canonicalForm(options.asMap());
+            D reused = pullBrowser(browserKey, type);
+            if (reused != null) {
+                return reused;
+            }
+        }
+
+        S service;
+        if (configuration.isReuseDriverService()) {
+            String binary = getBinary(options);
+            SharedDriverService<S> shared = getService(browser + "#" + options.getBrowserVersion() + "#" + binary,
+                options, serviceBuilder);
+            // the browser is looked up together with the driver executable, so only once for a shared service
+            if (shared.getBrowserPath() != null && binary == null) {
+                binarySetter.accept(shared.getBrowserPath());
+            }
+            service = shared.getService();
+        } else {
+            service = serviceBuilder.get();
+        }
+
+        D driver = constructor.apply(service);
+        register(driver, browserKey, configuration.isReuseDriverService());
+        return driver;
+    }
+
+    /**
+     * Returns a service shared by all the drivers with the same key, the service is created if there is none yet.
+     * <p>
+     * The driver executable, and the browser if there is none, are looked up only once, when the service is created.
+     *
+     * @param key identifies the service, e.g. by the browser and its version
+     * @param options options of the first browser started by the service
+     * @param builder creates the service
+     * @param <S> type of the service
+     *
+     * @return the shared service
+     */
+    @SuppressWarnings("unchecked")
+    public <S extends DriverService> SharedDriverService<S> getService(String key, Capabilities options,
+        Supplier<S> builder) {
+        CompletableFuture<SharedDriverService<?>> created = new CompletableFuture<SharedDriverService<?>>();
+        CompletableFuture<SharedDriverService<?>> existing;
+        synchronized (this) {
+            existing = services.putIfAbsent(key, created);
+        }
+        if (existing != null) {
+            return (SharedDriverService<S>) await(existing);
+        }
+
+        SharedDriverService<S> shared;
+        try {
+            S service = builder.get();
+            String browserPath = null;
+            if (service.getExecutable() == null) {
+                DriverFinder finder = new DriverFinder(service, options);
+                service.setExecutable(finder.getDriverPath());
+                browserPath = finder.hasBrowserPath() ? finder.getBrowserPath() : null;
+            }
+            shared = new SharedDriverService<S>(service, browserPath);
+        } catch (RuntimeException | Error e) {
+            // the next driver tries to create the service again
+            synchronized (this) {
+                services.remove(key, created);
+            }
+            created.completeExceptionally(e);
+            throw e;
+        }
+        created.complete(shared);
+        log.log(Level.FINE, "Created shared driver service {0}", key);
+        return shared;
+    }
+
+    /**
+     * Tracks a created driver
+     *
+     * @param driver the driver
+     * @param browserKey identifies the configuration of the browser if it should be kept open, null otherwise
+     * @param sharedService whether the driver uses a shared service
+     */
+    public synchronized void register(RemoteWebDriver driver, String browserKey, boolean sharedService) {
+        if (browserKey != null) {
+            browserKeys.put(driver, browserKey);
+        }
+        if (sharedService) {
+            sharedServiceDrivers.add(driver);
+        }
+    }
+
+    /**
+     * Returns an open browser with the given configuration, or null if there is none
+     *
+     * @param browserKey identifies the configuration of the browser
+     * @param type type of the driver
+     * @param <T> type of the driver
+     *
+     * @return the driver of an open browser
+     */
+    public <T extends RemoteWebDriver> T pullBrowser(String browserKey, Class<T> type) {
+        while (true) {
+            RemoteWebDriver driver;
+            synchronized (this) {
+                Deque<RemoteWebDriver> queue = parked.get(browserKey);
+                driver = queue == null ? null : queue.pollLast();
+            }
+            if (driver == null) {
+                return null;
+            }
+            try {
+                // checks the browser is still alive
+                driver.getWindowHandle();
+                if (type.isInstance(driver)) {
+                    log.log(Level.FINE, "Reusing browser of session {0}", driver.getSessionId());
+                    return type.cast(driver);
+                }
+            } catch (WebDriverException e) {
+                log.log(Level.FINE, "Browser of session {0} cannot be reused", driver.getSessionId());
+            }
+            dispose(driver, unregister(driver));
+        }
+    }
+
+    /**
+     * Releases a driver which is no longer used by a drone. The browser is either reset and kept open for the next
+     * drone, or its session is deleted without stopping the shared service.
+     *
+     * @param driver the driver to release
+     *
+     * @return true if the driver was released, false if it does not use a shared service and is not kept open, so it
+     * has to be quit by the caller
+     */
+    public boolean release(RemoteWebDriver driver) {
+        String browserKey;
+        boolean sharedService;
+        synchronized (this) {
+            browserKey = closed ? null : browserKeys.get(driver);
+            sharedService = sharedServiceDrivers.contains(driver);
+        }
+
+        if (browserKey != null && RESETTER.resetInstance(driver)) {
+            synchronized (this) {
+                if (!closed) {
+                    parked.computeIfAbsent(browserKey, key -> new ArrayDeque<RemoteWebDriver>()).add(driver);
+                    return true;
+                }
+            }
+        }
+
+        synchronized (this) {
+            unregister(driver);
+        }
+        if (!sharedService) {
+            return false;
+        }
+        deleteSession(driver);
+        return true;
+    }
+
+    /**
+     * Closes all the open browsers and stops all the services
+     */
+    public void close() {
+        List<RemoteWebDriver> drivers = new ArrayList<RemoteWebDriver>();
+        List<CompletableFuture<SharedDriverService<?>>> pending;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (Deque<RemoteWebDriver> queue : parked.values()) {
+                drivers.addAll(queue);
+            }
+            parked.clear();
+            pending = new ArrayList<CompletableFuture<SharedDriverService<?>>>(services.values());
+            services.clear();
+        }
+
+        if (!drivers.isEmpty()) {
+            // threads live only while the browsers are closed
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(drivers.size(), MAX_THREADS),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "drone-local-driver-release-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            try {
+                List<CompletableFuture<Void>> releases = new ArrayList<CompletableFuture<Void>>();
+                for (final RemoteWebDriver driver : drivers) {
+                    final boolean sharedService;
+                    synchronized (this) {
+                        sharedService = unregister(driver);
+                    }
+                    releases.add(CompletableFuture.runAsync(() -> dispose(driver, sharedService), executor));
+                }
+                CompletableFuture.allOf(releases.toArray(new CompletableFuture[releases.size()])).join();
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        for (CompletableFuture<SharedDriverService<?>> service : pending) {
+            // a service which is still being created is stopped once it is created
+            service.thenAccept(LocalDriverServices::stop);
+        }
+
+        if (Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // JVM is already shutting down
+            }
+        }
+    }
+
+    private static void stop(SharedDriverService<?> shared) {
+        try {
+            shared.getService().stop();
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Unable to stop driver service " + shared.getService().getExecutable(), e);
+        }
+    }
+
+    private static SharedDriverService<?> await(CompletableFuture<SharedDriverService<?>> service) {
+        try {
+            return service.join();
+        } catch (CompletionException e) {
+            // creation failed in another thread, its failure is rethrown as is
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    // returns true if the driver used a shared service
+    private boolean unregister(RemoteWebDriver driver) {
+        browserKeys.remove(driver);
+        return sharedServiceDrivers.remove(driver);
+    }
+
+    private void dispose(RemoteWebDriver driver, boolean sharedService) {
+        try {
+            if (sharedService) {
+                deleteSession(driver);
+            } else {
+                driver.quit();
+            }
+        } catch (WebDriverException e) {
+            log.log(Level.FINE, "Browser of session {0} was already closed", driver.getSessionId());
+        }
+    }
+
+    // browser binary set by vendor specific options, such as goog:chromeOptions
+    private static String getBinary(Capabilities options) {
+        for (Object value : options.asMap().values()) {
+            if (value instanceof Map && ((Map<?, ?>) value).get("binary") != null) {
+                return String.valueOf(((Map<?, ?>) value).get("binary"));
+            }
+        }
+        return null;
+    }
+
+    private static void deleteSession(RemoteWebDriver driver) {
+        CommandExecutor commandExecutor = driver.getCommandExecutor();
+        if (!(commandExecutor instanceof HttpCommandExecutor) || driver.getSessionId() == null) {
+            driver.quit();
+            return;
+        }
+        // quitting the driver would stop the shared service, so the session is deleted directly
+        HttpClient client = ((HttpCommandExecutor) commandExecutor).client;
+        try {
+            client.execute(new HttpRequest(HttpMethod.DELETE, "/session/" + driver.getSessionId()));
+        } finally {
+            client.close();
+        }
+    }
+
+    /**
+     * A driver service shared by several drivers
+     *
+     * @param <S> type of the service
+     */
+    public static class SharedDriverService<S extends DriverService> {
+
+        private final S service;
+
+        private final String browserPath;
+
+        SharedDriverService(S service, String browserPath) {
+            this.service = service;
+            this.browserPath = browserPath;
+        }
+
+        public S getService() {
+            return service;
+        }
+
+        /**
+         * Returns the browser found when the service was created, or null if the browser is set by the options
+         *
+         * @return path to the browser binary
+         */
+        public String getBrowserPath() {
+            return browserPath;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.factory.remote.http;
+
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+
+/**
+ * {@link HttpClient.Factory} which shares one HTTP client, and so its connection pool, among all the sessions of
+ * the same Selenium Server.
+ * <p>
+ * Each created client is a lease of the shared one, closing it returns the lease but keeps the shared client and
+ * its kept-alive connections for the next session. The shared clients are closed by {@link #cleanupIdleClients()}
+ * once they are not leased, or by {@link #close()}.
+ */
+public class SharedHttpClientFactory implements HttpClient.Factory {
+
+    private static final Logger log = Logger.getLogger(SharedHttpClientFactory.class.getName());
+
+    private final HttpClient.Factory delegate;
+
+    private final Map<String, Settings> settings = new ConcurrentHashMap<String, Settings>();
+
+    private final Map<String, SharedClient> clients = new ConcurrentHashMap<String, SharedClient>();
+
+    public SharedHttpClientFactory() {
+        this(HttpClient.Factory.createDefault());
+    }
+
+    SharedHttpClientFactory(HttpClient.Factory delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Sets how the clients of the given server connect to it, the settings apply to the clients created later
+     *
+     * @param url address of the server
+     * @param httpVersion HTTP version, e.g. {@code HTTP_1_1} or {@code HTTP_2}, the default one if empty
+     * @param maxConcurrentRequests maximal number of requests sent to the server at once, unlimited if not positive.
+     * A request waiting longer than the read timeout of the client fails with {@link TimeoutException}.
+     */
+    public void configure(URL url, String httpVersion, int maxConcurrentRequests) {
+        String key = key(url);
+        if (key != null) {
+            settings.put(key, new Settings(httpVersion, maxConcurrentRequests));
+        }
+    }
+
+    @Override
+    public HttpClient createClient(ClientConfig config) {
+        String key = config.baseUri() == null ? null : key(config.baseUri());
+        if (key == null) {
+            return delegate.createClient(config);
+        }
+        Settings serverSettings = settings.getOrDefault(key, Settings.DEFAULT);
+        ClientConfig sharedConfig = serverSettings.httpVersion == null ? config
+            : config.version(serverSettings.httpVersion);
+        String clientKey = key + "|" + sharedConfig.version() + "|" + sharedConfig.connectionTimeout() + "|"
+            + sharedConfig.readTimeout();
+
+        SharedClient shared = clients.compute(clientKey, (k, existing) -> {
+            SharedClient client = existing != null ? existing
+                : new SharedClient(delegate.createClient(sharedConfig), key, serverSettings.maxConcurrentRequests,
+                    sharedConfig.readTimeout());
+            client.leases++;
+            return client;
+        });
+        return new LeasedClient(clientKey, shared);
+    }
+
+    /**
+     * Closes the shared clients which are not leased by any session
+     */
+    @Override
+    public void cleanupIdleClients() {
+        for (String key : new ArrayList<String>(clients.keySet())) {
+            clients.computeIfPresent(key, (k, client) -> {
+                if (client.leases > 0) {
+                    return client;
+                }
+                closeQuietly(client);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Closes all the shared clients
+     */
+    public void close() {
+        List<SharedClient> toClose = new ArrayList<SharedClient>(clients.values());
+        clients.clear();
+        toClose.forEach(SharedHttpClientFactory::closeQuietly);
+    }
+
+    int getSharedClientCount() {
+        return clients.size();
+    }
+
+    private void release(String clientKey, SharedClient shared) {
+        clients.computeIfPresent(clientKey, (k, client) -> {
+            if (client == shared) {
+                client.leases--;
+            }
+            return client;
+        });
+    }
+
+    private static void closeQuietly(SharedClient client) {
+        try {
+            client.delegate.close();
+        } catch (RuntimeException e) {
+            log.log(Level.FINE, "Unable to close HTTP client", e);
+        }
+    }
+
+    private static String key(URL url) {
+        try {
+            return key(url.toURI());
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid address " + url, e);
+        }
+    }
+
+    // returns null if the address has no authority, such a client is not shared
+    private static String key(URI uri) {
+        String path = uri.getPath() == null || uri.getPath().isEmpty() ? "/" : uri.getPath();
+        if (!path.endsWith("/")) {
+            path += "/";
+        }
+        if (uri.getHost() == null) {
+            // e.g. host names with underscores are not parsed by URI
+            String authority = uri.getRawAuthority();
+            return authority == null ? null : uri.getScheme() + "://" + authority.toLowerCase(Locale.ROOT) + path;
+        }
+        int port = uri.getPort() != -1 ? uri.getPort() : "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+        return uri.getScheme() + "://" + uri.getHost().toLowerCase(Locale.ROOT) + ":" + port + path;
+    }
+
+    private static final class Settings {
+        private static final Settings DEFAULT = new Settings(null, 0);
+
+        private final String httpVersion;
+        private final int maxConcurrentRequests;
+
+        private Settings(String httpVersion, int maxConcurrentRequests) {
+            this.httpVersion = httpVersion == null || httpVersion.trim().isEmpty() ? null : httpVersion.trim();
+            this.maxConcurrentRequests = maxConcurrentRequests;
+        }
+    }
+
+    private static final class SharedClient {
+        private final HttpClient delegate;
+        private final String server;
+        private final Semaphore permits;
+        private final Duration permitTimeout;
+        // guarded by the map of the shared clients
+        private int leases;
+
+        private SharedClient(HttpClient delegate, String server, int maxConcurrentRequests, Duration permitTimeout) {
+            this.delegate = delegate;
+            this.server = server;
+            this.permits = maxConcurrentRequests > 0 ? new Semaphore(maxConcurrentRequests, true) : null;
+            this.permitTimeout = permitTimeout;
+        }
+
+        private void acquire() {
+            if (permits == null) {
+                return;
+            }
+            try {
+                if (!permits.tryAcquire(permitTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw new TimeoutException("No request to " + server + " finished within " + permitTimeout
+                        + " to make room for another one, the number of concurrent requests is limited by "
+                        + "remoteHttpMaxConnections");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UncheckedIOException(new InterruptedIOException("Interrupted while waiting for a request "
+                    + "slot to " + server));
+            }
+        }
+
+        private void releasePermit() {
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    private final class LeasedClient implements HttpClient {
+        private final String clientKey;
+        private final SharedClient shared;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private LeasedClient(String clientKey, SharedClient shared) {
+            this.clientKey = clientKey;
+            this.shared = shared;
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) throws UncheckedIOException {
+            shared.acquire();
+            try {
+                return shared.delegate.execute(request);
+            } finally {
+                shared.releasePermit();
+            }
+        }
+
+        @Override
+        public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+            shared.acquire();
+            try {
+                return shared.delegate.executeAsync(request).whenComplete((response, e) -> shared.releasePermit());
+            } catch (RuntimeException e) {
+                shared.releasePermit();
+                throw e;
+            }
+        }
+
+        @Override
+        public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            return shared.delegate.openSocket(request, listener);
+        }
+
+        @Override
+        public <T> CompletableFuture<java.net.http.HttpResponse<T>> sendAsyncNative(java.net.http.HttpRequest request,
+            java.net.http.HttpResponse.BodyHandler<T> handler) {
+            return shared.delegate.sendAsyncNative(request, handler);
+        }
+
+        @Override
+        public <T> java.net.http.HttpResponse<T> sendNative(java.net.http.HttpRequest request,
+            java.net.http.HttpResponse.BodyHandler<T> handler) throws java.io.IOException, InterruptedException {
+            return shared.delegate.sendNative(request, handler);
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(clientKey, shared);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.factory.remote.http;
+
+import org.jboss.arquillian.core.api.InstanceProducer;
+import org.jboss.arquillian.core.api.annotation.ApplicationScoped;
+import org.jboss.arquillian.core.api.annotation.Inject;
+import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.test.spi.event.suite.AfterSuite;
+import org.jboss.arquillian.test.spi.event.suite.BeforeSuite;
+
+/**
+ * Provides {@link SharedHttpClientFactory} for the suite and closes its clients when the suite ends
+ */
+public class SharedHttpClientFactoryExtension {
+
+    @Inject
+    @ApplicationScoped
+    private InstanceProducer<SharedHttpClientFactory> sharedHttpClientFactory;
+
+    public void initialize(@Observes BeforeSuite event) {
+        closeClients();
+        sharedHttpClientFactory.set(new SharedHttpClientFactory());
+    }
+
+    // the clients of remote drivers are released first
+    public void close(@Observes(precedence = -110) AfterSuite event) {
+        closeClients();
+    }
+
+    private void closeClients() {
+        SharedHttpClientFactory factory = sharedHttpClientFactory.get();
+        if (factory != null) {
+            factory.close();
+        }
+    }
+}
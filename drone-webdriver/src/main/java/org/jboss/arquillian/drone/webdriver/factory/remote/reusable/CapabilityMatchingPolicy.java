@@ -0,0 +1,201 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.jboss.arquillian.drone.webdriver.configuration.WebDriverConfiguration;
+
+/**
+ * Decides which capabilities have to be equal for a stored session to be reused.
+ * <p>
+ * Capabilities are compared in a canonical form, where the order of keys does not matter. The {@code normalized}
+ * matching compares lists of plain values, e.g. browser arguments, regardless of their order as well. Ignored
+ * capabilities are not compared at all, nested capabilities are addressed by a path such as
+ * {@code goog:chromeOptions.args}.
+ */
+public class CapabilityMatchingPolicy {
+
+    public static final String EXACT_MATCHING = "exact";
+
+    public static final String NORMALIZED_MATCHING = "normalized";
+
+    /**
+     * Requires all the capabilities to be equal, including the order of lists
+     */
+    public static final CapabilityMatchingPolicy EXACT =
+        new CapabilityMatchingPolicy(false, Collections.<String>emptySet());
+
+    private final boolean normalized;
+
+    private final Set<String> ignored;
+
+    /**
+     * @param normalized whether lists of plain values are compared regardless of their order
+     * @param ignored paths of capabilities which are not compared
+     */
+    public CapabilityMatchingPolicy(boolean normalized, Collection<String> ignored) {
+        this.normalized = normalized;
+        this.ignored = Collections.unmodifiableSet(new LinkedHashSet<String>(ignored));
+    }
+
+    /**
+     * Creates a policy from {@code reuseCapabilityMatching} and {@code reuseIgnoredCapabilities} properties
+     *
+     * @param configuration a configuration object for Drone extension
+     *
+     * @return the matching policy
+     *
+     * @throws IllegalArgumentException if the matching is neither exact nor normalized
+     */
+    public static CapabilityMatchingPolicy fromConfiguration(WebDriverConfiguration configuration) {
+        String matching = configuration.getReuseCapabilityMatching();
+        boolean normalized;
+        if (matching == null || matching.trim().isEmpty() || EXACT_MATCHING.equalsIgnoreCase(matching.trim())) {
+            normalized = false;
+        } else if (NORMALIZED_MATCHING.equalsIgnoreCase(matching.trim())) {
+            normalized = true;
+        } else {
+            throw new IllegalArgumentException("Unknown capability matching \"" + matching + "\", expected \""
+                + EXACT_MATCHING + "\" or \"" + NORMALIZED_MATCHING + "\"");
+        }
+
+        List<String> ignored = new ArrayList<String>();
+        String ignoredCapabilities = configuration.getReuseIgnoredCapabilities();
+        if (ignoredCapabilities != null) {
+            for (String path : ignoredCapabilities.split("[\\s,]+")) {
+                if (!path.isEmpty()) {
+                    ignored.add(path);
+                }
+            }
+        }
+
+        if (!normalized && ignored.isEmpty()) {
+            return EXACT;
+        }
+        return new CapabilityMatchingPolicy(normalized, ignored);
+    }
+
+    public boolean isNormalized() {
+        return normalized;
+    }
+
+    public Set<String> getIgnored() {
+        return ignored;
+    }
+
+    /**
+     * Returns the canonical form of capabilities, capabilities which match have the same canonical form. The form is
+     * JSON with sorted keys, so values of different types, e.g. {@code "1"} and {@code 1}, never have the same form.
+     *
+     * @param capabilities capabilities as a map
+     *
+     * @return the canonical form
+     */
+    public String canonicalForm(Map<String, ?> capabilities) {
+        StringBuilder sb = new StringBuilder();
+        appendCanonical(sb, "", capabilities);
+        return sb.toString();
+    }
+
+    private void appendCanonical(StringBuilder sb, String path, Object value) {
+        if (value instanceof Map) {
+            sb.append('{');
+            boolean first = true;
+            for (Map.Entry<String, Object> entry : stringKeys((Map<?, ?>) value).entrySet()) {
+                String entryPath = path.isEmpty() ? entry.getKey() : path + "." + entry.getKey();
+                if (ignored.contains(entryPath)) {
+                    continue;
+                }
+                if (!first) {
+                    sb.append(',');
+                }
+                first = false;
+                appendString(sb, entry.getKey());
+                sb.append(':');
+                appendCanonical(sb, entryPath, entry.getValue());
+            }
+            sb.append('}');
+        } else if (value instanceof Collection) {
+            sb.append('[');
+            boolean first = true;
+            for (String item : items(path, (Collection<?>) value)) {
+                if (!first) {
+                    sb.append(',');
+                }
+                first = false;
+                sb.append(item);
+            }
+            sb.append(']');
+        } else if (value == null || value instanceof Boolean || value instanceof Number) {
+            sb.append(value);
+        } else {
+            // strings as well as enums and other values which are serialized as strings
+            appendString(sb, String.valueOf(value));
+        }
+    }
+
+    private List<String> items(String path, Collection<?> collection) {
+        List<String> items = new ArrayList<String>(collection.size());
+        boolean plain = true;
+        for (Object item : collection) {
+            StringBuilder sb = new StringBuilder();
+            appendCanonical(sb, path, item);
+            items.add(sb.toString());
+            plain &= !(item instanceof Map || item instanceof Collection);
+        }
+        // only lists of plain values are reordered
+        if (normalized && plain) {
+            Collections.sort(items);
+        }
+        return items;
+    }
+
+    private static void appendString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        sb.append('"');
+    }
+
+    private static Map<String, Object> stringKeys(Map<?, ?> map) {
+        Map<String, Object> result = new TreeMap<String, Object>();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            result.put(String.valueOf(entry.getKey()), entry.getValue());
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return (normalized ? NORMALIZED_MATCHING : EXACT_MATCHING) + (ignored.isEmpty() ? "" : " ignoring " + ignored);
+    }
+}
@@ -18,6 +18,9 @@ package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
 
 import java.io.Serializable;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.ImmutableCapabilities;
 
@@ -28,10 +31,19 @@ public class InitializationParameter implements Serializable {
 
     private final ReusableCapabilities capabilities;
 
+    private transient CapabilityMatchingPolicy matchingPolicy;
+
+    private transient String fingerprint;
+
     public InitializationParameter(URL url, Capabilities Capabilities) {
+        this(url, Capabilities, CapabilityMatchingPolicy.EXACT);
+    }
+
+    public InitializationParameter(URL url, Capabilities Capabilities, CapabilityMatchingPolicy matchingPolicy) {
         this.url = url;
         // we need to identify what capabilities cannot be serialized/deserialized and reject those from Initialization key
         this.capabilities = ReusedSession.createReusableCapabilities(Capabilities);
+        this.matchingPolicy = matchingPolicy;
     }
 
     public URL getUrl() {
@@ -42,15 +54,50 @@ public class InitializationParameter implements Serializable {
         return new ImmutableCapabilities(capabilities.getCapabilities());
     }
 
+    public CapabilityMatchingPolicy getMatchingPolicy() {
+        // the policy is not serialized
+        return matchingPolicy == null ? CapabilityMatchingPolicy.EXACT : matchingPolicy;
+    }
+
+    /**
+     * Returns a stable fingerprint of remote address and capabilities. Two parameters that are equal have the same
+     * fingerprint, regardless of the order of capabilities or of the Drone version which created them. Capabilities
+     * are compared as the {@link CapabilityMatchingPolicy} of this parameter says.
+     *
+     * @return SHA-256 of canonical form of this parameter, in hexadecimal notation
+     */
+    public String getFingerprint() {
+        if (fingerprint == null) {
+            StringBuilder canonical = new StringBuilder();
+            canonical.append(url == null ? "" : url.toExternalForm()).append('#');
+            canonical.append(getMatchingPolicy().canonicalForm(capabilities == null ? null
+                : capabilities.getCapabilities()));
+            fingerprint = sha256(canonical.toString());
+        }
+        return fingerprint;
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available in this JVM", e);
+        }
+    }
+
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + ((capabilities == null) ? 0 : capabilities.hashCode());
-        result = prime * result + ((url == null) ? 0 : url.hashCode());
-        return result;
+        return getFingerprint().hashCode();
     }
 
+    /**
+     * Parameters are equal if their capabilities match, see {@link #getFingerprint()}
+     */
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -63,21 +110,7 @@ public class InitializationParameter implements Serializable {
             return false;
         }
         InitializationParameter other = (InitializationParameter) obj;
-        if (capabilities == null) {
-            if (other.capabilities != null) {
-                return false;
-            }
-        } else if (!capabilities.equals(other.capabilities)) {
-            return false;
-        }
-        if (url == null) {
-            if (other.url != null) {
-                return false;
-            }
-        } else if (!url.equals(other.url)) {
-            return false;
-        }
-        return true;
+        return getFingerprint().equals(other.getFingerprint());
     }
 
     @Override
@@ -0,0 +1,260 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
+
+import java.io.IOException;
+import java.io.ObjectStreamException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jboss.arquillian.drone.webdriver.factory.remote.reusable.ReusedSessionStoreImpl.TimeStampedSession;
+
+/**
+ * Reused session store shared by several JVMs through a {@link ReusedSessionJournal}.
+ * <p>
+ * A pull catches up with the journal and records a claim of the pulled session while holding the lock, so a session is
+ * never reused by two JVMs. Stored sessions are kept pending until {@link #flush()} appends them to the journal. The
+ * journal is compacted into the snapshot once it grows over {@link #COMPACTION_THRESHOLD_IN_BYTES} or when
+ * {@link #purge()} removes any session.
+ */
+class JournaledReusedSessionStore implements ReusedSessionStore {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger log = Logger.getLogger(JournaledReusedSessionStore.class.getName());
+
+    static final long COMPACTION_THRESHOLD_IN_BYTES = 64 * 1024;
+
+    private final transient ReusedSessionJournal journal;
+
+    // sessions known to this JVM, in sync with the journal up to offset
+    private transient ReusedSessionStoreImpl local;
+
+    private transient long generation;
+
+    private transient long offset;
+
+    // sessions stored by this JVM which are not in the journal yet
+    private final transient List<PendingSession> pending = new ArrayList<PendingSession>();
+
+    // sessions evicted by this JVM whose removal is not in the journal yet
+    private final transient List<PendingSession> evicted = new ArrayList<PendingSession>();
+
+    private transient long timeToLiveInSeconds = ReusedSessionStoreImpl.DEFAULT_TIME_TO_LIVE_IN_SECONDS;
+
+    private transient int maxSize = ReusedSessionStoreImpl.DEFAULT_MAX_SIZE;
+
+    private JournaledReusedSessionStore(ReusedSessionJournal journal) {
+        this.journal = journal;
+    }
+
+    static JournaledReusedSessionStore open(ReusedSessionJournal journal) throws IOException {
+        final JournaledReusedSessionStore store = new JournaledReusedSessionStore(journal);
+        synchronized (store) {
+            journal.locked(() -> {
+                store.reload();
+                return null;
+            });
+        }
+        return store;
+    }
+
+    @Override
+    public synchronized ReusedSession pull(final InitializationParameter key) {
+        try {
+            return journal.locked(() -> {
+                sync();
+                ReusedSession session = local.pull(key);
+                if (session != null && !removePending(session)) {
+                    offset = journal.append(offset,
+                        Collections.singletonList(ReusedSessionJournal.claimed(key.getFingerprint(),
+                            session.getSessionId())));
+                }
+                return session;
+            });
+        } catch (IOException e) {
+            // without a claim, the session could be reused by another JVM as well
+            log.log(Level.WARNING, "Unable to claim a reused session from " + journal.getSnapshotFile()
+                + ", a new session will be created", e);
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized int count(InitializationParameter key) {
+        try {
+            journal.locked(() -> {
+                sync();
+                return null;
+            });
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Unable to read reused session store " + journal.getSnapshotFile()
+                + ", sessions stored by other JVMs are not counted", e);
+        }
+        return local.count(key);
+    }
+
+    @Override
+    public synchronized void store(InitializationParameter key, ReusedSession session) {
+        TimeStampedSession timeStampedSession = new TimeStampedSession(new Date(), session);
+        local.restore(key.getFingerprint(), timeStampedSession);
+        pending.add(new PendingSession(key.getFingerprint(), timeStampedSession));
+        for (Entry<String, TimeStampedSession> overflow : local.evictOverflow()) {
+            if (!removePending(overflow.getValue().getSession())) {
+                evicted.add(new PendingSession(overflow.getKey(), overflow.getValue()));
+            }
+        }
+
+        log.log(Level.FINE, "Stored session {0} within {1}", new Object[] {
+            session.getSessionId(),
+            key});
+    }
+
+    @Override
+    public synchronized void configure(long timeToLiveInSeconds, int maxSize) {
+        this.timeToLiveInSeconds = timeToLiveInSeconds;
+        this.maxSize = maxSize;
+        local.configure(timeToLiveInSeconds, maxSize);
+    }
+
+    /**
+     * Removes expired and overflowing sessions, the snapshot is rewritten if any session was removed
+     */
+    @Override
+    public synchronized int purge() {
+        try {
+            return journal.locked(() -> {
+                sync();
+                appendPending();
+                int removed = local.purge();
+                if (removed > 0 || offset > COMPACTION_THRESHOLD_IN_BYTES) {
+                    compact();
+                }
+                return removed;
+            });
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Unable to purge reused session store " + journal.getSnapshotFile(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * Appends pending changes to the journal and compacts the journal if it is too large
+     */
+    synchronized void flush() throws IOException {
+        journal.locked(() -> {
+            sync();
+            appendPending();
+            if (offset > COMPACTION_THRESHOLD_IN_BYTES) {
+                compact();
+            }
+            return null;
+        });
+    }
+
+    // the following methods are called while holding the lock
+
+    private void appendPending() throws IOException {
+        List<byte[]> records = new ArrayList<byte[]>();
+        for (PendingSession session : pending) {
+            byte[] record = ReusedSessionJournal.stored(session.fingerprint, session.session);
+            if (record != null) {
+                records.add(record);
+            }
+        }
+        for (PendingSession session : evicted) {
+            records.add(ReusedSessionJournal.claimed(session.fingerprint, session.session.getSession().getSessionId()));
+        }
+        if (!records.isEmpty()) {
+            offset = journal.append(offset, records);
+        }
+        pending.clear();
+        evicted.clear();
+    }
+
+    private void compact() throws IOException {
+        // if the journal is not reset after the snapshot is written, the snapshot is not combined with it
+        long newGeneration = ReusedSessionJournal.newGeneration();
+        journal.writeSnapshot(local, newGeneration);
+        generation = newGeneration;
+        offset = journal.reset(generation);
+    }
+
+    private void reload() throws IOException {
+        local = journal.readSnapshot();
+        local.configure(timeToLiveInSeconds, maxSize);
+        Long snapshotGeneration = journal.readSnapshotGeneration();
+        Long journalGeneration = journal.readGeneration();
+        if (journalGeneration == null
+            || (snapshotGeneration != null && !snapshotGeneration.equals(journalGeneration))) {
+            // there is no journal, or the journal precedes the snapshot and its records are already in the snapshot
+            generation = snapshotGeneration != null ? snapshotGeneration : ReusedSessionJournal.newGeneration();
+            offset = journal.reset(generation);
+        } else {
+            generation = journalGeneration;
+            offset = journal.replay(local, ReusedSessionJournal.HEADER_LENGTH);
+        }
+        for (PendingSession session : pending) {
+            local.restore(session.fingerprint, session.session);
+        }
+        for (PendingSession session : evicted) {
+            local.remove(session.fingerprint, session.session.getSession().getSessionId());
+        }
+    }
+
+    private void sync() throws IOException {
+        Long journalGeneration = journal.readGeneration();
+        Long snapshotGeneration = journal.readSnapshotGeneration();
+        if (journalGeneration == null || journalGeneration != generation
+            || (snapshotGeneration != null && snapshotGeneration != generation)) {
+            // snapshot was rewritten in the meantime
+            reload();
+        } else {
+            offset = journal.replay(local, offset);
+        }
+    }
+
+    private boolean removePending(ReusedSession session) {
+        Iterator<PendingSession> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().session.getSession() == session) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized Object writeReplace() throws ObjectStreamException {
+        return local;
+    }
+
+    private static class PendingSession {
+        private final String fingerprint;
+        private final TimeStampedSession session;
+
+        PendingSession(String fingerprint, TimeStampedSession session) {
+            this.fingerprint = fingerprint;
+            this.session = session;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jboss.arquillian.drone.webdriver.factory.remote.reusable.ReusedSessionStoreImpl.TimeStampedSession;
+
+/**
+ * Reads reused session stores which were written by Java serialization in Drone versions preceding
+ * {@link ReusedSessionStoreFormat}, so that their sessions are migrated instead of discarded.
+ * <p>
+ * Classes of the previous store are mapped to their equivalents defined here, the legacy layout was a map of serialized
+ * {@link InitializationParameter}s to lists of serialized time stamped sessions.
+ */
+final class LegacyReusedSessionStore {
+
+    private static final Logger log = Logger.getLogger(LegacyReusedSessionStore.class.getName());
+
+    private static final String LEGACY_STORE = "org.jboss.arquillian.drone.webdriver.factory.remote.reusable"
+        + ".ReusedSessionStoreImpl";
+
+    private static final long LEGACY_STORE_SERIAL_VERSION_UID = 914857799370645455L;
+
+    private static final Map<String, Class<?>> LEGACY_CLASSES = new HashMap<String, Class<?>>();
+
+    static {
+        LEGACY_CLASSES.put(LEGACY_STORE, Store.class);
+        LEGACY_CLASSES.put(LEGACY_STORE + "$ByteArray", ByteArray.class);
+        LEGACY_CLASSES.put(LEGACY_STORE + "$TimeStampedSession", LegacyTimeStampedSession.class);
+    }
+
+    private static final SerializationWhitelist whitelist = new SerializationWhitelist()
+        .enableClass(Store.class.getName())
+        .enableClass(ByteArray.class.getName())
+        .enableClass(LegacyTimeStampedSession.class.getName())
+        .enableClass(Map.class.getName())
+        .enableClass(HashMap.class.getName())
+        .enableClass(LinkedHashMap.class.getName())
+        .enableClass(List.class.getName())
+        .enableClass(LinkedList.class.getName())
+        .enableClass(Date.class.getName());
+
+    private LegacyReusedSessionStore() {
+    }
+
+    /**
+     * Reads a legacy store and converts it to current {@link ReusedSessionStoreImpl}
+     *
+     * @param input stream positioned at the beginning of a Java serialization stream
+     *
+     * @return migrated store
+     *
+     * @throws IOException if the stream does not contain a legacy store
+     */
+    static ReusedSessionStoreImpl migrate(InputStream input) throws IOException {
+        Store legacy = read(Store.class, input);
+        ReusedSessionStoreImpl store = new ReusedSessionStoreImpl();
+        int migrated = 0;
+        for (Entry<ByteArray, LinkedList<ByteArray>> entry : legacy.rawStore.entrySet()) {
+            InitializationParameter key = entry.getKey().as(InitializationParameter.class);
+            if (key == null) {
+                continue;
+            }
+            for (ByteArray rawSession : entry.getValue()) {
+                LegacyTimeStampedSession timeStamped = rawSession.asLegacy(LegacyTimeStampedSession.class);
+                if (timeStamped == null || timeStamped.rawSession == null || timeStamped.timestamp == null) {
+                    continue;
+                }
+                ReusedSession session = timeStamped.rawSession.as(ReusedSession.class);
+                if (session != null) {
+                    store.restore(key.getFingerprint(), new TimeStampedSession(timeStamped.timestamp, session));
+                    migrated++;
+                }
+            }
+        }
+        log.log(Level.INFO, "Migrated {0} reused sessions from previous format of reused session store", migrated);
+        return store;
+    }
+
+    private static <T> T read(Class<T> type, InputStream input) throws IOException {
+        try {
+            return type.cast(new LegacyObjectInputStream(input).readObject());
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Unable to read legacy reused session store", e);
+        }
+    }
+
+    private static class LegacyObjectInputStream extends SerializationUtils.LookAheadObjectInputStream {
+
+        LegacyObjectInputStream(InputStream inputStream) throws IOException {
+            super(inputStream, whitelist);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            ObjectStreamClass descriptor = super.readClassDescriptor();
+            Class<?> legacyClass = LEGACY_CLASSES.get(descriptor.getName());
+            if (legacyClass == null || (legacyClass == Store.class
+                && descriptor.getSerialVersionUID() != LEGACY_STORE_SERIAL_VERSION_UID)) {
+                return descriptor;
+            }
+            // layout of the legacy classes matches, so their descriptor is used to read the data
+            return ObjectStreamClass.lookup(legacyClass);
+        }
+    }
+
+    // field names and serialVersionUIDs of the following classes must match the legacy store
+
+    private static class Store implements Serializable {
+        private static final long serialVersionUID = LEGACY_STORE_SERIAL_VERSION_UID;
+
+        private Map<ByteArray, LinkedList<ByteArray>> rawStore;
+    }
+
+    private static class ByteArray implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private byte[] raw;
+
+        <T extends Serializable> T as(Class<T> type) {
+            try {
+                return SerializationUtils.deserializeFromBytes(type, raw);
+            } catch (IOException | ClassNotFoundException | ClassCastException e) {
+                log.log(Level.FINE, "Unable to migrate object of " + type.getName(), e);
+                return null;
+            }
+        }
+
+        <T> T asLegacy(Class<T> type) {
+            try {
+                return read(type, new ByteArrayInputStream(raw));
+            } catch (IOException e) {
+                log.log(Level.FINE, "Unable to migrate object of " + type.getName(), e);
+                return null;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(raw);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof ByteArray && Arrays.equals(raw, ((ByteArray) obj).raw);
+        }
+    }
+
+    private static class LegacyTimeStampedSession implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private Date timestamp;
+
+        private ByteArray rawSession;
+    }
+}
@@ -18,6 +18,7 @@ package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
 
 import java.lang.reflect.Field;
 import java.net.URL;
+import java.util.Collections;
 import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.remote.CommandExecutor;
@@ -25,6 +26,7 @@ import org.openqa.selenium.remote.Dialect;
 import org.openqa.selenium.remote.HttpCommandExecutor;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.remote.http.HttpClient;
 
 /**
  * Reusable remote driver provides same functionality like {@link RemoteWebDriver}, but it additionally allows to reuse
@@ -51,8 +53,14 @@ public class ReusableRemoteWebDriver extends RemoteWebDriver {
     }
 
     protected ReusableRemoteWebDriver(URL remoteAddress, Capabilities capabilities, SessionId sessionId) {
+        this(remoteAddress, capabilities, sessionId, HttpCommandExecutor.getDefaultClientFactory());
+    }
+
+    protected ReusableRemoteWebDriver(URL remoteAddress, Capabilities capabilities, SessionId sessionId,
+        HttpClient.Factory clientFactory) {
         super();
-        HttpCommandExecutor httpCommandExecutor = new HttpCommandExecutor(remoteAddress);
+        HttpCommandExecutor httpCommandExecutor = new HttpCommandExecutor(Collections.emptyMap(), remoteAddress,
+            clientFactory);
         setCommandExecutor(httpCommandExecutor);
         setReusedCapabilities(capabilities);
 
@@ -97,9 +105,28 @@ public class ReusableRemoteWebDriver extends RemoteWebDriver {
     public static RemoteWebDriver fromReusedSession(URL remoteAddress, Capabilities capabilities,
         SessionId sessionId)
         throws UnableReuseSessionException {
+        return fromReusedSession(remoteAddress, capabilities, sessionId, HttpCommandExecutor.getDefaultClientFactory());
+    }
+
+    /**
+     * Reuses browser session like {@link #fromReusedSession(URL, Capabilities, SessionId)}, the HTTP client of
+     * the driver is created by the given factory.
+     *
+     * @param remoteAddress
+     *     address of the remote Selenium Server hub
+     * @param capabilities
+     *     fully-initialized capabilities returned from previous {@link RemoteWebDriver} session
+     * @param sessionId
+     *     sessionId from previous {@link RemoteWebDriver} session
+     * @param clientFactory
+     *     factory of the HTTP client connecting to the hub
+     */
+    public static RemoteWebDriver fromReusedSession(URL remoteAddress, Capabilities capabilities,
+        SessionId sessionId, HttpClient.Factory clientFactory)
+        throws UnableReuseSessionException {
 
         RemoteWebDriver driver = new ReusableRemoteWebDriver(remoteAddress, capabilities,
-            sessionId);
+            sessionId, clientFactory);
         checkReusability(sessionId, driver);
         return driver;
     }
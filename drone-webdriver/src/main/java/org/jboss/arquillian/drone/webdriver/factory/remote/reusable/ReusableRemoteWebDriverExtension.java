@@ -16,14 +16,18 @@
  */
 package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
 
+import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
 import org.jboss.arquillian.core.api.Instance;
 import org.jboss.arquillian.core.api.InstanceProducer;
 import org.jboss.arquillian.core.api.annotation.ApplicationScoped;
 import org.jboss.arquillian.core.api.annotation.Inject;
 import org.jboss.arquillian.core.api.annotation.Observes;
 import org.jboss.arquillian.core.spi.ServiceLoader;
+import org.jboss.arquillian.drone.api.annotation.Default;
+import org.jboss.arquillian.drone.webdriver.configuration.WebDriverConfiguration;
 import org.jboss.arquillian.test.spi.annotation.SuiteScoped;
 import org.jboss.arquillian.test.spi.event.suite.AfterClass;
+import org.jboss.arquillian.test.spi.event.suite.AfterSuite;
 import org.jboss.arquillian.test.spi.event.suite.BeforeSuite;
 
 /**
@@ -43,10 +47,19 @@ public class ReusableRemoteWebDriverExtension {
     @ApplicationScoped
     private InstanceProducer<ReusedSessionPermanentStorage> permanentStorage;
 
+    @Inject
+    @ApplicationScoped
+    private InstanceProducer<ReusedSessionStoreWriter> storeWriter;
+
     @Inject
     private Instance<ServiceLoader> serviceLoader;
 
+    @Inject
+    private Instance<ArquillianDescriptor> descriptor;
+
     public void initialize(@Observes BeforeSuite event) {
+        // changes of a previous suite have to be written before the store is loaded again
+        closeStoreWriter();
         initializePermanentStorage();
         initializeStore();
     }
@@ -58,19 +71,60 @@ public class ReusableRemoteWebDriverExtension {
 
     private void initializeStore() {
         ReusedSessionStore store = permanentStorage.get().loadStore();
+        if (store == null) {
+            store = permanentStorage.get().createStore();
+        }
         if (store == null) {
             store = new ReusedSessionStoreImpl();
         }
+        configureStore(store);
         storeInstance.set(store);
+        storeWriter.set(new ReusedSessionStoreWriter(permanentStorage.get(), store,
+            ReusedSessionStoreWriter.DEFAULT_DELAY_IN_MILLIS));
+        // expired and overflowing sessions are removed while the suite starts
+        storeWriter.get().purge();
 
         initParamsMapInstance.set(new InitializationParametersMap());
     }
 
+    private void configureStore(ReusedSessionStore store) {
+        long timeToLive = WebDriverConfiguration.DEFAULT_REUSED_SESSION_TIME_TO_LIVE_IN_SECONDS;
+        int maxSize = WebDriverConfiguration.DEFAULT_REUSED_SESSION_STORE_SIZE;
+        if (descriptor.get() != null) {
+            // the store is shared by all the drones, so the default webdriver configuration applies
+            WebDriverConfiguration configuration = new WebDriverConfiguration(null).configure(descriptor.get(),
+                Default.class);
+            timeToLive = configuration.getReusedSessionTimeToLiveInSeconds();
+            maxSize = configuration.getReusedSessionStoreSize();
+        }
+        store.configure(timeToLive, maxSize);
+    }
+
     public void persistStore(@Observes PersistReusedSessionsEvent event) {
-        permanentStorage.get().writeStore(storeInstance.get());
+        storeWriter.get().requestWrite();
+    }
+
+    public void flushStore(@Observes AfterSuite event) {
+        closeStoreWriter();
+    }
+
+    private void closeStoreWriter() {
+        ReusedSessionStoreWriter writer = storeWriter.get();
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    // drones are destroyed first, their sessions are handed back in the test thread even if drones are destroyed in
+    // background, so their drivers are already tracked
+    public void destroyRemoteWebDrivers(@Observes(precedence = -100) AfterClass event,
+        ReusableRemoteWebDriverToDestroy toDestroy) {
+        toDestroy.destroy();
     }
 
-    public void destroyLastRemoteWebDriver(@Observes AfterClass event, ReusableRemoteWebDriverToDestroy toDestroy) {
+    // suite scoped drones are destroyed after the last class
+    public void destroyRemainingRemoteWebDrivers(@Observes(precedence = -100) AfterSuite event,
+        ReusableRemoteWebDriverToDestroy toDestroy) {
         toDestroy.destroy();
     }
 }
@@ -1,34 +1,143 @@
 package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
+/**
+ * Tracks reusable drivers whose sessions were handed back to {@link ReusedSessionStore}.
+ * <p>
+ * Sessions of these drivers stay alive, so they can be reused, but local resources held by the drivers, such as HTTP
+ * clients and their executors, are closed by {@link #destroy()}. All the pending drivers are closed at once, in
+ * parallel.
+ */
 public class ReusableRemoteWebDriverToDestroy {
 
-    private Logger log = Logger.getLogger(ReusableRemoteWebDriverToDestroy.class.getName());
+    private static final Logger log = Logger.getLogger(ReusableRemoteWebDriverToDestroy.class.getName());
 
-    private boolean destroyed = false;
+    // maximal number of drivers closed at once
+    static final int MAX_THREADS = 8;
 
-    private RemoteWebDriver remoteWebDriver;
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    private final Set<RemoteWebDriver> pending = new LinkedHashSet<RemoteWebDriver>();
+
+    private final AtomicInteger handedBack = new AtomicInteger();
+
+    private final AtomicInteger closed = new AtomicInteger();
+
+    public ReusableRemoteWebDriverToDestroy() {
+    }
 
     public ReusableRemoteWebDriverToDestroy(RemoteWebDriver remoteWebDriver) {
-        this.remoteWebDriver = remoteWebDriver;
+        add(remoteWebDriver);
     }
 
+    /**
+     * @deprecated drivers are tracked together, use {@link #add(RemoteWebDriver)}
+     */
+    @Deprecated
     public void setRemoteWebDriver(RemoteWebDriver remoteWebDriver) {
-        this.remoteWebDriver = remoteWebDriver;
+        add(remoteWebDriver);
+    }
+
+    /**
+     * Tracks a driver whose session was handed back to the store
+     *
+     * @param remoteWebDriver the driver to be closed
+     */
+    public void add(RemoteWebDriver remoteWebDriver) {
+        synchronized (pending) {
+            if (pending.add(remoteWebDriver)) {
+                handedBack.incrementAndGet();
+            }
+        }
     }
 
+    /**
+     * Closes local resources of all the pending drivers, their sessions are kept for reuse
+     */
     public void destroy() {
-        if (!destroyed) {
-            try {
-                remoteWebDriver.quit();
-            } catch (WebDriverException e) {
-                log.log(Level.WARNING, "@Drone {0} has been already destroyed and can't be destroyed again.",
-                    remoteWebDriver.getClass().getSimpleName());
+        List<RemoteWebDriver> drivers;
+        synchronized (pending) {
+            drivers = new ArrayList<RemoteWebDriver>(pending);
+            pending.clear();
+        }
+        if (drivers.isEmpty()) {
+            return;
+        }
+
+        // threads live only while the drivers are closed
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(drivers.size(), MAX_THREADS), runnable -> {
+            Thread thread = new Thread(runnable, "drone-driver-release-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<Void>> releases = new ArrayList<CompletableFuture<Void>>(drivers.size());
+            for (final RemoteWebDriver driver : drivers) {
+                releases.add(CompletableFuture.runAsync(() -> close(driver), executor));
+            }
+            CompletableFuture.allOf(releases.toArray(new CompletableFuture[releases.size()])).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        log.log(Level.FINE, "Released {0} reusable drivers, {1} sessions were handed back to the store and {2} "
+            + "drivers were closed so far", new Object[] {drivers.size(), handedBack.get(), closed.get()});
+    }
+
+    /**
+     * Returns the number of tracked drivers whose sessions were handed back to the store
+     *
+     * @return number of sessions handed back
+     */
+    public int getHandedBackCount() {
+        return handedBack.get();
+    }
+
+    /**
+     * Returns the number of drivers whose local resources were closed
+     *
+     * @return number of closed drivers
+     */
+    public int getClosedCount() {
+        return closed.get();
+    }
+
+    /**
+     * Returns the number of drivers which are not closed yet
+     *
+     * @return number of pending drivers
+     */
+    public int getPendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    private void close(RemoteWebDriver driver) {
+        CommandExecutor commandExecutor = driver.getCommandExecutor();
+        try {
+            // the session must not be quit, only the client talking to it is closed
+            if (commandExecutor instanceof HttpCommandExecutor) {
+                ((HttpCommandExecutor) commandExecutor).client.close();
             }
+            closed.incrementAndGet();
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Unable to close @Drone {0} of session {1}", new Object[] {
+                driver.getClass().getSimpleName(), driver.getSessionId()});
+            log.log(Level.FINE, "Closing failed", e);
         }
     }
 }
@@ -94,6 +94,10 @@ public class ReusedSession implements Serializable {
         return new MutableCapabilities(capabilities.getCapabilities());
     }
 
+    ReusableCapabilities getReusableCapabilities() {
+        return capabilities;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
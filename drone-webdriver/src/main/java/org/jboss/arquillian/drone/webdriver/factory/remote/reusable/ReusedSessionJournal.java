@@ -0,0 +1,371 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.jboss.arquillian.drone.webdriver.factory.remote.reusable.ReusedSessionStoreImpl.TimeStampedSession;
+import org.openqa.selenium.remote.SessionId;
+
+/**
+ * Files backing a reused session store shared by several JVMs: a snapshot in {@link ReusedSessionStoreFormat}, an
+ * append-only journal of changes done since the snapshot was written and a lock file.
+ * <p>
+ * The journal starts with magic "DRSJ", format version (short) and a generation (long), which changes each time the
+ * snapshot is rewritten. It is followed by length prefixed records, which either store a session or claim it. Sessions
+ * evicted from the store are recorded as claimed as well. A record which was not written completely is ignored and
+ * overwritten by the next append.
+ * <p>
+ * All the methods, except of {@link #locked(LockedOperation)}, must be called while holding the lock.
+ */
+final class ReusedSessionJournal {
+
+    private static final Logger log = Logger.getLogger(ReusedSessionJournal.class.getName());
+
+    static final byte[] MAGIC = {'D', 'R', 'S', 'J'};
+
+    static final short VERSION = 1;
+
+    static final int HEADER_LENGTH = MAGIC.length + 2 + 8;
+
+    private static final byte STORED = 'S';
+
+    private static final byte CLAIMED = 'C';
+
+    // file locks are held by the JVM, so threads of a single JVM are serialized separately
+    private static final ConcurrentMap<String, ReentrantLock> JVM_LOCKS = new ConcurrentHashMap<String, ReentrantLock>();
+
+    private static final SecureRandom random = new SecureRandom();
+
+    private final File snapshotFile;
+
+    private final File journalFile;
+
+    private final File lockFile;
+
+    ReusedSessionJournal(File snapshotFile) {
+        this.snapshotFile = snapshotFile;
+        this.journalFile = new File(snapshotFile.getPath() + ".journal");
+        this.lockFile = new File(snapshotFile.getPath() + ".lock");
+    }
+
+    interface LockedOperation<T> {
+        T run() throws IOException;
+    }
+
+    /**
+     * Runs the operation while holding an exclusive lock of the store, both within this JVM and across JVMs
+     */
+    <T> T locked(LockedOperation<T> operation) throws IOException {
+        ReentrantLock jvmLock = JVM_LOCKS.computeIfAbsent(lockFile.getCanonicalPath(), path -> new ReentrantLock());
+        jvmLock.lock();
+        try {
+            if (jvmLock.getHoldCount() > 1) {
+                return operation.run();
+            }
+            FileUtils.forceMkdirParent(lockFile);
+            try (FileChannel channel = FileChannel.open(lockFile.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+                try {
+                    return operation.run();
+                } finally {
+                    lock.release();
+                }
+            }
+        } finally {
+            jvmLock.unlock();
+        }
+    }
+
+    static long newGeneration() {
+        long generation;
+        do {
+            generation = random.nextLong();
+        } while (generation == ReusedSessionStoreFormat.NO_GENERATION);
+        return generation;
+    }
+
+    boolean exists() {
+        return Validate.readable(snapshotFile) || Validate.readable(journalFile);
+    }
+
+    File getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    /**
+     * Reads the snapshot, returns an empty store if there is no snapshot or it cannot be read
+     */
+    ReusedSessionStoreImpl readSnapshot() {
+        if (!Validate.readable(snapshotFile)) {
+            return new ReusedSessionStoreImpl();
+        }
+
+        try (InputStream input = new BufferedInputStream(new FileInputStream(snapshotFile))) {
+            input.mark(ReusedSessionStoreFormat.MAGIC.length);
+            byte[] header = new byte[ReusedSessionStoreFormat.MAGIC.length];
+            int read = IOUtils.read(input, header);
+
+            if (read == header.length && ReusedSessionStoreFormat.isMagic(header)) {
+                return ReusedSessionStoreFormat.readAfterMagic(input);
+            }
+            if (read >= 2 && header[0] == (byte) 0xAC && header[1] == (byte) 0xED) {
+                // Java serialization stream magic, store was written by a previous version of Drone
+                input.reset();
+                return LegacyReusedSessionStore.migrate(input);
+            }
+            log.log(Level.WARNING, "Unable to get reused session store from file storage, format of file {0} is not "
+                + "recognized. Drone will replace it with recent implementation.", snapshotFile);
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Unable to get reused session store from file storage. " + "Drone will replace file "
+                + snapshotFile + " with recent implementation. Cause: ", e);
+        }
+        return new ReusedSessionStoreImpl();
+    }
+
+    /**
+     * Returns generation of the journal the snapshot was written for, or null if there is no snapshot or it does not
+     * know the generation
+     */
+    Long readSnapshotGeneration() {
+        if (!Validate.readable(snapshotFile)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new FileInputStream(snapshotFile))) {
+            byte[] header = new byte[ReusedSessionStoreFormat.MAGIC.length];
+            in.readFully(header);
+            if (!ReusedSessionStoreFormat.isMagic(header)) {
+                return null;
+            }
+            long generation = ReusedSessionStoreFormat.readGenerationAfterMagic(in);
+            return generation == ReusedSessionStoreFormat.NO_GENERATION ? null : generation;
+        } catch (IOException e) {
+            log.log(Level.FINE, "Unable to read generation of reused session store " + snapshotFile, e);
+            return null;
+        }
+    }
+
+    /**
+     * Atomically replaces the snapshot with given store. The journal has to be reset to the same generation right
+     * after, until then the snapshot takes precedence over the journal.
+     */
+    void writeSnapshot(ReusedSessionStoreImpl store, long generation) throws IOException {
+        FileUtils.forceMkdirParent(snapshotFile);
+        // the store is written aside and then moved, so readers never see a partially written file
+        File tmpFile = File.createTempFile(snapshotFile.getName(), ".tmp",
+            snapshotFile.getAbsoluteFile().getParentFile());
+        try {
+            try (OutputStream output = new BufferedOutputStream(new FileOutputStream(tmpFile))) {
+                ReusedSessionStoreFormat.write(store, generation, output);
+            }
+            replace(tmpFile, snapshotFile);
+        } finally {
+            tmpFile.delete();
+        }
+    }
+
+    /**
+     * Returns generation of the journal, or null if there is no valid journal
+     */
+    Long readGeneration() {
+        if (!Validate.readable(journalFile)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new FileInputStream(journalFile))) {
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            for (int i = 0; i < MAGIC.length; i++) {
+                if (magic[i] != MAGIC[i]) {
+                    return null;
+                }
+            }
+            if (in.readShort() != VERSION) {
+                return null;
+            }
+            return in.readLong();
+        } catch (IOException e) {
+            log.log(Level.FINE, "Unable to read journal of reused session store " + journalFile, e);
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the journal by an empty one of given generation
+     *
+     * @return offset of the end of the journal
+     */
+    long reset(long generation) throws IOException {
+        FileUtils.forceMkdirParent(journalFile);
+        File tmpFile = File.createTempFile(journalFile.getName(), ".tmp",
+            journalFile.getAbsoluteFile().getParentFile());
+        try {
+            try (DataOutputStream out = new DataOutputStream(new FileOutputStream(tmpFile))) {
+                out.write(MAGIC);
+                out.writeShort(VERSION);
+                out.writeLong(generation);
+            }
+            replace(tmpFile, journalFile);
+        } finally {
+            tmpFile.delete();
+        }
+        return HEADER_LENGTH;
+    }
+
+    /**
+     * Applies journal records starting at given offset to the store
+     *
+     * @return offset of the end of the last complete record
+     */
+    long replay(ReusedSessionStoreImpl store, long offset) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(journalFile)))) {
+            IOUtils.skipFully(in, offset);
+            long journalLength = journalFile.length();
+            while (true) {
+                byte[] record;
+                try {
+                    int length = in.readInt();
+                    if (length < 0 || length > journalLength - offset - 4) {
+                        // the rest of the journal is dropped by the next append
+                        log.log(Level.WARNING, "Reused session journal {0} contains a corrupt record at offset {1}, "
+                            + "ignoring the rest of it", new Object[] {journalFile, offset});
+                        return offset;
+                    }
+                    record = new byte[length];
+                    in.readFully(record);
+                } catch (EOFException e) {
+                    // end of the journal, or a record which was not written completely
+                    return offset;
+                }
+                try {
+                    apply(store, record);
+                } catch (IOException e) {
+                    log.log(Level.WARNING, "Skipping corrupt record at offset " + offset + " of reused session journal "
+                        + journalFile, e);
+                }
+                offset += 4 + record.length;
+            }
+        }
+    }
+
+    /**
+     * Appends records at given offset, which must be the end of the last complete record
+     *
+     * @return offset of the end of the journal
+     */
+    long append(long offset, List<byte[]> records) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalFile.toPath(), StandardOpenOption.WRITE)) {
+            // drops a record which was not written completely
+            channel.truncate(offset);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            for (byte[] record : records) {
+                out.writeInt(record.length);
+                out.write(record);
+            }
+            out.flush();
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            channel.position(offset);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            return offset + bytes.size();
+        }
+    }
+
+    static byte[] stored(String fingerprint, TimeStampedSession session) throws IOException {
+        byte[] sessionRecord = ReusedSessionStoreFormat.writeSession(session.getSession());
+        if (sessionRecord == null) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(STORED);
+        out.writeUTF(fingerprint);
+        out.writeLong(session.getTimestamp().getTime());
+        out.write(sessionRecord);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    static byte[] claimed(String fingerprint, SessionId sessionId) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(CLAIMED);
+        out.writeUTF(fingerprint);
+        out.writeUTF(sessionId.toString());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private void apply(ReusedSessionStoreImpl store, byte[] record) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        byte type = in.readByte();
+        String fingerprint = in.readUTF();
+        if (type == STORED) {
+            Date timestamp = new Date(in.readLong());
+            byte[] sessionRecord = new byte[in.available()];
+            in.readFully(sessionRecord);
+            ReusedSession session = ReusedSessionStoreFormat.readSession(sessionRecord);
+            if (session != null) {
+                store.restore(fingerprint, new TimeStampedSession(timestamp, session));
+            }
+        } else if (type == CLAIMED) {
+            store.remove(fingerprint, new SessionId(in.readUTF()));
+        } else {
+            log.log(Level.FINE, "Skipping unknown record of type {0} in reused session journal", type);
+        }
+    }
+
+    private static void replace(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -18,13 +18,13 @@ package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InvalidClassException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import org.apache.commons.io.FileUtils;
 
 /**
- * Loads and writes {@link ReusedSessionStore} from/to file.
+ * Loads and writes {@link ReusedSessionStore} from/to file. The store can be shared by several JVMs, it is backed by a
+ * {@link ReusedSessionJournal} and changes are done while holding a file lock. Files written by previous versions of
+ * Drone are migrated when loaded.
  *
  * @author <a href="mailto:lryc@redhat.com">Lukas Fryc</a>
  */
@@ -46,55 +46,57 @@ public class ReusedSessionPermanentFileStorage implements ReusedSessionPermanent
         }
     }
 
-    public ReusedSessionStore loadStore() {
-        try {
-            byte[] readStore = readStore(permanentFile);
+    private final ReusedSessionJournal journal = new ReusedSessionJournal(permanentFile);
 
-            if (readStore == null) {
-                return null;
-            }
-
-            ReusedSessionStore loadedSession =
-                SerializationUtils.deserializeFromBytes(ReusedSessionStore.class, readStore);
-            return loadedSession;
-        } catch (InvalidClassException e) {
-            log.log(Level.WARNING,
-                "Unable to get reused session store from file storage, likely it is due to its internal format change. "
-                    + "Drone will replace file " + permanentFile + " with recent implementation. Cause: ", e);
-            return null;
-        } catch (ClassNotFoundException e) {
-            log.log(Level.WARNING, "Unable to get reused session store from file storage. " + "Drone will replace file "
-                + permanentFile + " with recent implementation. Cause: ", e);
+    public ReusedSessionStore loadStore() {
+        if (!journal.exists()) {
+            log.info("Reused session store is not available at " + permanentFile + ", a new one will be created.");
             return null;
+        }
+
+        try {
+            return JournaledReusedSessionStore.open(journal);
         } catch (IOException e) {
-            log.log(Level.WARNING, "Unable to get reused session store from file storage. " + "Drone will replace file "
-                + permanentFile + " with recent implementation. Cause: ", e);
+            log.log(Level.WARNING, "Unable to get reused session store from file storage " + permanentFile
+                + ", session reuse will not work. Cause: ", e);
             return null;
         }
     }
 
-    public void writeStore(ReusedSessionStore store) {
+    @Override
+    public ReusedSessionStore createStore() {
         try {
-            byte[] serialized = SerializationUtils.serializeToBytes(store);
-            writeStore(permanentFile, serialized);
+            return JournaledReusedSessionStore.open(journal);
         } catch (IOException e) {
-            log.log(Level.SEVERE, "Unable to persist reused session store, session reuse will not work", e);
+            log.log(Level.WARNING, "Unable to create reused session store in file storage " + permanentFile
+                + ", sessions will not be shared with other JVMs. Cause: ", e);
+            return new ReusedSessionStoreImpl();
         }
     }
 
-    private byte[] readStore(File file) throws IOException {
-        if (Validate.readable(file)) {
-            return FileUtils.readFileToByteArray(file);
+    public void writeStore(ReusedSessionStore store) {
+        if (!Validate.writeable(permanentFile)) {
+            log.severe("Reused session store cannot be persisted to file, session reuse will not work");
+            return;
         }
-        log.info("Reused session store is not available at " + file + ", a new one will be created.");
-        return null;
-    }
 
-    private void writeStore(File file, byte[] data) throws IOException {
-        if (Validate.writeable(file)) {
-            FileUtils.writeByteArrayToFile(file, data);
-            return;
+        try {
+            if (store instanceof JournaledReusedSessionStore) {
+                ((JournaledReusedSessionStore) store).flush();
+            } else if (store instanceof ReusedSessionStoreImpl) {
+                // a store which is not backed by the journal replaces whole content of the file storage
+                journal.locked(() -> {
+                    long generation = ReusedSessionJournal.newGeneration();
+                    journal.writeSnapshot((ReusedSessionStoreImpl) store, generation);
+                    journal.reset(generation);
+                    return null;
+                });
+            } else {
+                log.log(Level.SEVERE, "Unable to persist reused session store of type {0}, session reuse will not work",
+                    store == null ? null : store.getClass().getName());
+            }
+        } catch (IOException e) {
+            log.log(Level.SEVERE, "Unable to persist reused session store, session reuse will not work", e);
         }
-        log.severe("Reused session store cannot be persisted to file, session reuse will not work");
     }
 }
@@ -25,5 +25,14 @@ public interface ReusedSessionPermanentStorage {
 
     ReusedSessionStore loadStore();
 
+    /**
+     * Creates an empty store, used when {@link #loadStore()} does not return any
+     *
+     * @return new store
+     */
+    default ReusedSessionStore createStore() {
+        return new ReusedSessionStoreImpl();
+    }
+
     void writeStore(ReusedSessionStore store);
 }
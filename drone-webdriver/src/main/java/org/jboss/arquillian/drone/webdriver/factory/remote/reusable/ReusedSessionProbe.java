@@ -0,0 +1,164 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
+
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.HttpClient;
+
+/**
+ * Checks several stored sessions at once and takes the first one which can be reused.
+ * <p>
+ * Candidates are expected to be already pulled from {@link ReusedSessionStore}, so the ones which cannot be reused or
+ * do not respond in time are evicted. Candidates which respond after another one was taken are released back to the
+ * store.
+ */
+public class ReusedSessionProbe {
+
+    /**
+     * Maximal number of candidates which should be checked at once
+     */
+    public static final int MAX_CANDIDATES = 4;
+
+    private static final Logger log = Logger.getLogger(ReusedSessionProbe.class.getName());
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    private final URL remoteAddress;
+
+    private final Consumer<ReusedSession> release;
+
+    private final long timeoutInMillis;
+
+    private final HttpClient.Factory clientFactory;
+
+    // guards fields below
+    private final Object lock = new Object();
+
+    private int running;
+
+    private boolean closed;
+
+    private RemoteWebDriver driver;
+
+    /**
+     * @param remoteAddress address of the remote Selenium Server hub
+     * @param release called with live sessions which were not taken, possibly from another thread
+     * @param timeoutInMillis how long to wait for a candidate to respond
+     */
+    public ReusedSessionProbe(URL remoteAddress, Consumer<ReusedSession> release, long timeoutInMillis) {
+        this(remoteAddress, release, timeoutInMillis, HttpCommandExecutor.getDefaultClientFactory());
+    }
+
+    /**
+     * @param remoteAddress address of the remote Selenium Server hub
+     * @param release called with live sessions which were not taken, possibly from another thread
+     * @param timeoutInMillis how long to wait for a candidate to respond
+     * @param clientFactory creates HTTP clients of the reused drivers
+     */
+    public ReusedSessionProbe(URL remoteAddress, Consumer<ReusedSession> release, long timeoutInMillis,
+        HttpClient.Factory clientFactory) {
+        this.remoteAddress = remoteAddress;
+        this.release = release;
+        this.timeoutInMillis = timeoutInMillis;
+        this.clientFactory = clientFactory;
+    }
+
+    /**
+     * Checks candidates in parallel and returns a driver for the first one which can be reused
+     *
+     * @param candidates sessions pulled from the store
+     *
+     * @return reused driver, or null if none of the candidates can be reused in time
+     */
+    public RemoteWebDriver firstLive(List<ReusedSession> candidates) {
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        synchronized (lock) {
+            running = candidates.size();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(candidates.size(), runnable -> {
+            Thread thread = new Thread(runnable, "drone-session-probe-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (final ReusedSession candidate : candidates) {
+                executor.execute(() -> probe(candidate));
+            }
+        } finally {
+            // candidates responding after the deadline are still released, the threads end once they are checked
+            executor.shutdown();
+        }
+
+        synchronized (lock) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+            long remaining = timeoutInMillis;
+            try {
+                while (driver == null && running > 0 && remaining > 0) {
+                    lock.wait(remaining);
+                    remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                closed = true;
+            }
+            if (driver == null && running > 0) {
+                log.log(Level.WARNING, "{0} stored sessions did not respond in {1} ms, they are evicted",
+                    new Object[] {running, timeoutInMillis});
+            }
+            return driver;
+        }
+    }
+
+    private void probe(ReusedSession candidate) {
+        RemoteWebDriver reused = null;
+        try {
+            reused = ReusableRemoteWebDriver.fromReusedSession(remoteAddress, candidate.getCapabilities(),
+                candidate.getSessionId(), clientFactory);
+        } catch (UnableReuseSessionException | RuntimeException e) {
+            log.log(Level.WARNING, "Unable to reuse session: {0}, it is evicted", candidate.getSessionId());
+        }
+
+        boolean taken = false;
+        synchronized (lock) {
+            running--;
+            if (reused != null && !closed && driver == null) {
+                driver = reused;
+                taken = true;
+            }
+            lock.notifyAll();
+        }
+
+        if (reused != null && !taken) {
+            // the session stays alive, only the connection of the driver is released
+            ((HttpCommandExecutor) reused.getCommandExecutor()).client.close();
+            release.accept(candidate);
+        }
+    }
+}
@@ -26,4 +26,34 @@ public interface ReusedSessionStore extends Serializable {
     ReusedSession pull(InitializationParameter initParams);
 
     void store(InitializationParameter initParams, ReusedSession session);
+
+    /**
+     * Returns the number of stored sessions which are not expired for the given key
+     *
+     * @param initParams key of the sessions
+     *
+     * @return number of stored sessions
+     */
+    default int count(InitializationParameter initParams) {
+        return 0;
+    }
+
+    /**
+     * Sets how long stored sessions can be reused and how many sessions are kept at most. When the store is full, the
+     * oldest sessions of the least recently used keys are evicted.
+     *
+     * @param timeToLiveInSeconds time after which a stored session is expired
+     * @param maxSize maximal number of stored sessions, zero or less for unlimited
+     */
+    default void configure(long timeToLiveInSeconds, int maxSize) {
+    }
+
+    /**
+     * Removes expired sessions and evicts sessions over the maximal size
+     *
+     * @return number of removed sessions
+     */
+    default int purge() {
+        return 0;
+    }
 }
@@ -0,0 +1,340 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jboss.arquillian.drone.webdriver.factory.remote.reusable.ReusedSessionStoreImpl.TimeStampedSession;
+import org.openqa.selenium.remote.SessionId;
+
+/**
+ * Binary format of {@link ReusedSessionStoreImpl}. The store is written in a single pass as:
+ *
+ * <pre>
+ * magic "DRSS", format version (short), number of keys (int)
+ * for each key: fingerprint (UTF), number of sessions (int)
+ *   for each session: timestamp (long), length of session record (int), session record
+ * </pre>
+ * <p>
+ * A session record contains session id and capabilities, capability values are written as tagged strings, numbers,
+ * booleans, maps and lists. Other values are written using {@link SerializationUtils}. Session records are length
+ * prefixed, so a record which cannot be read is skipped and the rest of the store is kept.
+ * <p>
+ * Stores written by Java serialization in previous versions of Drone are migrated by
+ * {@link LegacyReusedSessionStore}.
+ */
+final class ReusedSessionStoreFormat {
+
+    private static final Logger log = Logger.getLogger(ReusedSessionStoreFormat.class.getName());
+
+    static final byte[] MAGIC = {'D', 'R', 'S', 'S'};
+
+    static final short VERSION = 2;
+
+    // version 1 did not store the generation of the journal
+    private static final short VERSION_WITHOUT_GENERATION = 1;
+
+    /**
+     * Generation of a store which is not accompanied by a journal
+     */
+    static final long NO_GENERATION = 0L;
+
+    private static final byte NULL = 'N';
+    private static final byte STRING = 'S';
+    private static final byte BOOLEAN = 'Z';
+    private static final byte INTEGER = 'I';
+    private static final byte LONG = 'J';
+    private static final byte DOUBLE = 'D';
+    private static final byte MAP = 'M';
+    private static final byte LIST = 'L';
+    private static final byte SERIALIZED = 'O';
+
+    // upper bound of a session record in a store, which is not held in memory as a whole while it is read
+    static final int MAX_RECORD_LENGTH = 64 * 1024 * 1024;
+
+    private ReusedSessionStoreFormat() {
+    }
+
+    static void write(ReusedSessionStoreImpl store, OutputStream output) throws IOException {
+        write(store, NO_GENERATION, output);
+    }
+
+    /**
+     * Writes a store together with generation of the journal which continues it
+     */
+    static void write(ReusedSessionStoreImpl store, long generation, OutputStream output) throws IOException {
+        DataOutputStream out = new DataOutputStream(output);
+        Map<String, List<TimeStampedSession>> sessions = store.validSessions();
+
+        out.write(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(generation);
+        out.writeInt(sessions.size());
+        for (Entry<String, List<TimeStampedSession>> entry : sessions.entrySet()) {
+            List<TimeStampedSession> written = new ArrayList<TimeStampedSession>();
+            List<byte[]> records = new ArrayList<byte[]>();
+            for (TimeStampedSession session : entry.getValue()) {
+                byte[] record = writeSession(session.getSession());
+                if (record != null) {
+                    written.add(session);
+                    records.add(record);
+                }
+            }
+            out.writeUTF(entry.getKey());
+            out.writeInt(records.size());
+            for (int i = 0; i < records.size(); i++) {
+                out.writeLong(written.get(i).getTimestamp().getTime());
+                out.writeInt(records.get(i).length);
+                out.write(records.get(i));
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a store, the stream must be positioned right after {@link #MAGIC}
+     */
+    static ReusedSessionStoreImpl readAfterMagic(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(input);
+        readGenerationAfterMagic(in);
+
+        ReusedSessionStoreImpl store = new ReusedSessionStoreImpl();
+        int keys = in.readInt();
+        for (int i = 0; i < keys; i++) {
+            String fingerprint = in.readUTF();
+            int sessions = in.readInt();
+            for (int j = 0; j < sessions; j++) {
+                Date timestamp = new Date(in.readLong());
+                byte[] record = new byte[readLength(in, MAX_RECORD_LENGTH)];
+                in.readFully(record);
+                ReusedSession session = readSession(record);
+                if (session != null) {
+                    store.restore(fingerprint, new TimeStampedSession(timestamp, session));
+                }
+            }
+        }
+        return store;
+    }
+
+    static ReusedSessionStoreImpl read(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(input);
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        if (!isMagic(magic)) {
+            throw new IOException("Data does not contain a reused session store");
+        }
+        return readAfterMagic(in);
+    }
+
+    /**
+     * Reads version and generation of a store, the stream must be positioned right after {@link #MAGIC}
+     *
+     * @return the generation, {@link #NO_GENERATION} if the store was written without it
+     */
+    static long readGenerationAfterMagic(DataInputStream in) throws IOException {
+        short version = in.readShort();
+        if (version == VERSION_WITHOUT_GENERATION) {
+            return NO_GENERATION;
+        }
+        if (version != VERSION) {
+            throw new IOException("Unsupported reused session store format version " + version
+                + ", supported version is " + VERSION);
+        }
+        return in.readLong();
+    }
+
+    static boolean isMagic(byte[] header) {
+        if (header.length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (header[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static byte[] writeSession(ReusedSession session) {
+        try {
+            ByteArrayOutputStream record = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(record);
+            writeString(out, session.getSessionId().toString());
+            writeValue(out, session.getReusableCapabilities().getCapabilities());
+            out.flush();
+            return record.toByteArray();
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Unable to store reused session " + session.getSessionId() + ", it will be skipped", e);
+            return null;
+        }
+    }
+
+    static ReusedSession readSession(byte[] record) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+            SessionId sessionId = new SessionId(readString(in));
+            Object capabilities = readValue(in);
+            if (!(capabilities instanceof Map)) {
+                throw new IOException("Capabilities are not stored as a map");
+            }
+            ReusableCapabilities reusableCapabilities = new ReusableCapabilities();
+            for (Entry<?, ?> capability : ((Map<?, ?>) capabilities).entrySet()) {
+                reusableCapabilities.setCapability((String) capability.getKey(), capability.getValue());
+            }
+            return new ReusedSession(sessionId, reusableCapabilities);
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            log.log(Level.FINE, "Skipping reused session which cannot be read", e);
+            return null;
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Map && hasStringKeys((Map<?, ?>) value)) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Entry<?, ?> entry : map.entrySet()) {
+                writeString(out, (String) entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            out.writeByte(LIST);
+            out.writeInt(list.size());
+            for (Object item : list) {
+                writeValue(out, item);
+            }
+        } else if (value instanceof Serializable) {
+            byte[] serialized = SerializationUtils.serializeToBytes((Serializable) value);
+            out.writeByte(SERIALIZED);
+            out.writeInt(serialized.length);
+            out.write(serialized);
+        } else {
+            throw new NotSerializableException(value.getClass().getName());
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException, ClassNotFoundException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case BOOLEAN:
+                return in.readBoolean();
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            case MAP:
+                int entries = in.readInt();
+                Map<String, Object> map = new LinkedHashMap<String, Object>();
+                for (int i = 0; i < entries; i++) {
+                    String key = readString(in);
+                    map.put(key, readValue(in));
+                }
+                return map;
+            case LIST:
+                int items = in.readInt();
+                List<Object> list = new ArrayList<Object>();
+                for (int i = 0; i < items; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            case SERIALIZED:
+                byte[] serialized = new byte[readLength(in, in.available())];
+                in.readFully(serialized);
+                return SerializationUtils.deserializeFromBytes(Serializable.class, serialized);
+            default:
+                throw new IOException("Unknown value tag " + tag);
+        }
+    }
+
+    private static boolean hasStringKeys(Map<?, ?> map) {
+        for (Object key : map.keySet()) {
+            if (!(key instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // unlike writeUTF, strings are not limited to 64kB, which capabilities such as encoded extensions easily exceed
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        // strings are read only from records held in memory, so the remaining bytes are known
+        byte[] bytes = new byte[readLength(in, in.available())];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a length of data that follows, the length is validated so a corrupt record does not allocate a huge array
+     *
+     * @param limit maximal valid length
+     *
+     * @throws IOException if the length is negative or exceeds the limit
+     */
+    static int readLength(DataInputStream in, long limit) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > limit) {
+            throw new IOException("Corrupt reused session record, length " + length + " is out of range 0.." + limit);
+        }
+        return length;
+    }
+}
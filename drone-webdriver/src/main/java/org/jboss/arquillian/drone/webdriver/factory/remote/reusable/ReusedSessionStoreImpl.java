@@ -16,21 +16,32 @@
  */
 package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
-import java.util.Arrays;
-import java.util.Calendar;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import org.openqa.selenium.remote.SessionId;
 
 /**
  * Storage for ReusedSession. It allows to work with sessions stored with different versions of Drones in a single place.
+ * <p>
+ * Sessions are indexed by {@link InitializationParameter#getFingerprint()}, so a pull is a single map lookup. When
+ * serialized, the store is written in {@link ReusedSessionStoreFormat}, which skips sessions it cannot read instead of
+ * failing the whole store.
  *
  * @author <a href="mailto:lryc@redhat.com">Lukas Fryc</a>
  * @author <a href="mailto:kpiwko@redhat.com">Karel Piwko</a>
@@ -38,307 +49,277 @@ import java.util.logging.Logger;
 public class ReusedSessionStoreImpl implements ReusedSessionStore {
     private static final Logger log = Logger.getLogger(ReusedSessionStoreImpl.class.getName());
 
-    private static final long serialVersionUID = 914857799370645455L;
+    private static final long serialVersionUID = 2584712307413254022L;
 
     // session is valid for two days
-    private static final int SESSION_VALID_IN_SECONDS = 3600 * 48;
+    static final long DEFAULT_TIME_TO_LIVE_IN_SECONDS = 3600 * 48;
 
-    // represents a "raw" list of reused sessions, storing sessions with timeout information
-    // we cannot use Deque, since it is 1.6+
-    private final Map<ByteArray, LinkedList<ByteArray>> rawStore;
+    static final int DEFAULT_MAX_SIZE = 100;
+
+    // sessions with timeout information, indexed by fingerprint of initialization parameter and ordered from the oldest
+    // keys are in access order, so the least recently used key is the first one
+    private final transient Map<String, LinkedList<TimeStampedSession>> store;
+
+    private transient long timeToLiveInMillis = TimeUnit.SECONDS.toMillis(DEFAULT_TIME_TO_LIVE_IN_SECONDS);
+
+    private transient int maxSize = DEFAULT_MAX_SIZE;
 
     public ReusedSessionStoreImpl() {
-        this.rawStore = new LinkedHashMap<ByteArray, LinkedList<ByteArray>>();
+        this.store = new LinkedHashMap<String, LinkedList<TimeStampedSession>>(16, 0.75f, true);
     }
 
     @Override
-    public ReusedSession pull(InitializationParameter key) {
-        synchronized (rawStore) {
+    public void configure(long timeToLiveInSeconds, int maxSize) {
+        synchronized (store) {
+            this.timeToLiveInMillis = TimeUnit.SECONDS.toMillis(timeToLiveInSeconds);
+            this.maxSize = maxSize;
+        }
+    }
+
+    @Override
+    public int purge() {
+        synchronized (store) {
+            int removed = removeAllExpired();
+            removed += evictOverflow().size();
+            if (removed > 0) {
+                log.log(Level.FINE, "Purged {0} sessions from Session Store", removed);
+            }
+            return removed;
+        }
+    }
 
-            LinkedList<ByteArray> queue = null;
+    @Override
+    public ReusedSession pull(InitializationParameter key) {
+        synchronized (store) {
 
             log.log(Level.FINER, "Pulling key {0} from Session Store", key);
 
-            // find key
-            for (Entry<ByteArray, LinkedList<ByteArray>> entry : rawStore.entrySet()) {
-                InitializationParameter candidate = entry.getKey().as(InitializationParameter.class);
-
-                if (candidate != null && candidate.equals(key)) {
-                    queue = entry.getValue();
-                    break;
-                }
-            }
+            String fingerprint = key.getFingerprint();
+            LinkedList<TimeStampedSession> queue = store.get(fingerprint);
 
             // there is no such queue
-            if (queue == null || queue.isEmpty()) {
+            if (queue == null) {
                 return null;
             }
 
-            // map the view to available queues
-            LinkedList<RawDisposableReusedSession> sessions = getValidSessions(queue);
-            if (sessions == null || sessions.isEmpty()) {
-                return null;
+            removeExpired(queue);
+
+            // get the most recent session and dispose it
+            ReusedSession session = queue.isEmpty() ? null : queue.removeLast().getSession();
+
+            if (queue.isEmpty()) {
+                store.remove(fingerprint);
             }
 
-            // get session and dispose it
-            RawDisposableReusedSession disposableSession = sessions.getLast();
-            disposableSession.dispose();
+            if (session == null) {
+                return null;
+            }
 
-            log.log(Level.FINE, "Reusing session {0} ", disposableSession.getSession().getSessionId());
+            log.log(Level.FINE, "Reusing session {0} ", session.getSessionId());
 
-            return disposableSession.getSession();
+            return session;
         }
     }
 
     @Override
-    public void store(InitializationParameter key, ReusedSession session) {
-        synchronized (rawStore) {
-
-            // update map of raw data
-            ByteArray rawKey = ByteArray.fromObject(key);
-            if (rawKey == null) {
-                log.log(Level.SEVERE,
-                    "Unable to store browser initialization parameter in ReusedSessionStore for browser :{0}",
-                    key.getCapabilities().getBrowserName());
-                return;
+    public int count(InitializationParameter key) {
+        synchronized (store) {
+            LinkedList<TimeStampedSession> queue = store.get(key.getFingerprint());
+            if (queue == null) {
+                return 0;
             }
-
-            LinkedList<ByteArray> rawList = rawStore.get(rawKey);
-            if (rawList == null) {
-                rawList = new LinkedList<ByteArray>();
-                rawStore.put(rawKey, rawList);
+            removeExpired(queue);
+            if (queue.isEmpty()) {
+                store.remove(key.getFingerprint());
             }
-            ByteArray rawSession = ByteArray.fromObject(session);
-            if (rawSession == null) {
-                log.log(Level.SEVERE,
-                    "Unable to store browser initialization parameter in ReusedSessionStore for browser :{0}",
-                    key.getCapabilities().getBrowserName());
-                return;
-            }
-            // add a timestamp to the session and store in the list
-            TimeStampedSession timeStampedSession = new TimeStampedSession(rawSession);
-            rawList.add(ByteArray.fromObject(timeStampedSession));
-
-            log.log(Level.FINE, "Stored session {0} within {1}", new Object[] {
-                timeStampedSession.getSession().getSessionId(),
-                key});
+            return queue.size();
         }
     }
 
-    private LinkedList<RawDisposableReusedSession> getValidSessions(LinkedList<ByteArray> rawQueue) {
-
-        if (rawQueue == null || rawQueue.size() == 0) {
-            return new LinkedList<RawDisposableReusedSession>();
+    @Override
+    public void store(InitializationParameter key, ReusedSession session) {
+        synchronized (store) {
+            restore(key.getFingerprint(), new TimeStampedSession(new Date(), session));
+            evictOverflow();
         }
 
-        LinkedList<RawDisposableReusedSession> sessions = new LinkedList<RawDisposableReusedSession>();
-        Iterator<ByteArray> byteArrayIterator = rawQueue.iterator();
-        while (byteArrayIterator.hasNext()) {
-            TimeStampedSession session = byteArrayIterator.next().as(TimeStampedSession.class);
-            // add session if valid and it can be deserialized
-            ReusedSession reusedSession = session.getSession();
-            if (session.isValid(SESSION_VALID_IN_SECONDS) && reusedSession != null) {
-                sessions.add(new RawDisposableReusedSession(session.getRawSession(), rawQueue, reusedSession));
-            }
-            // remove completely if session is not valid
-            else if (!session.isValid(SESSION_VALID_IN_SECONDS)) {
-                byteArrayIterator.remove();
-            }
-        }
-        return sessions;
+        log.log(Level.FINE, "Stored session {0} within {1}", new Object[] {
+            session.getSessionId(),
+            key});
     }
 
     /**
-     * Wrapper for array of bytes to act as a key/value in a map. This abstraction allows as to have stored sessions for
-     * Drones
-     * with incompatible serialVersionUID, for instance Drones based on different Selenium version.
-     * <p>
-     * This implementation ignores invalid content, it simply returns null when a object cannot be deserialized
-     *
-     * @author <a href="mailto:kpiwko@redhat.com">Karel Piwko</a>
+     * Adds a session with its original timestamp, sessions must be restored from the oldest one
      */
-    static class ByteArray implements Serializable {
-        private static final long serialVersionUID = 1L;
-
-        private byte[] raw = new byte[0];
-
-        static ByteArray fromObject(Serializable object) {
-            ByteArray bytes = new ByteArray();
-            try {
-                bytes.raw = SerializationUtils.serializeToBytes(object);
-                return bytes;
-            } catch (IOException e) {
-                log.log(Level.FINE, "Unable to deserialize object of " + object.getClass().getName(), e);
-            }
-            return null;
-        }
-
-        <T extends Serializable> T as(Class<T> classType) {
-            try {
-                return SerializationUtils.deserializeFromBytes(classType, raw);
-            } catch (ClassNotFoundException e) {
-                log.log(Level.FINE, "Unable to deserialize object of " + classType.getName(), e);
-            } catch (IOException e) {
-                log.log(Level.FINE, "Unable to deserialize object of " + classType.getName(), e);
-            } catch (ClassCastException e) {
-                log.log(Level.FINE, "Unable to deserialize object of " + classType.getName(), e);
+    void restore(String fingerprint, TimeStampedSession session) {
+        synchronized (store) {
+            LinkedList<TimeStampedSession> queue = store.get(fingerprint);
+            if (queue == null) {
+                queue = new LinkedList<TimeStampedSession>();
+                store.put(fingerprint, queue);
             }
-
-            return null;
-        }
-
-        @Override
-        public int hashCode() {
-            final int prime = 31;
-            int result = 1;
-            result = prime * result + Arrays.hashCode(raw);
-            return result;
+            queue.add(session);
         }
+    }
 
-        @Override
-        public boolean equals(Object obj) {
-            if (this == obj) {
-                return true;
-            }
-            if (obj == null) {
+    /**
+     * Removes a session, returns true if it was stored
+     */
+    boolean remove(String fingerprint, SessionId sessionId) {
+        synchronized (store) {
+            LinkedList<TimeStampedSession> queue = store.get(fingerprint);
+            if (queue == null) {
                 return false;
             }
-            if (getClass() != obj.getClass()) {
-                return false;
+            Iterator<TimeStampedSession> iterator = queue.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().getSession().getSessionId().equals(sessionId)) {
+                    iterator.remove();
+                    if (queue.isEmpty()) {
+                        store.remove(fingerprint);
+                    }
+                    return true;
+                }
             }
-            ByteArray other = (ByteArray) obj;
-            if (!Arrays.equals(raw, other.raw)) {
-                return false;
+            return false;
+        }
+    }
+
+    /**
+     * Returns a copy of stored sessions which are still valid, indexed by fingerprint from the least recently used
+     */
+    Map<String, List<TimeStampedSession>> validSessions() {
+        synchronized (store) {
+            removeAllExpired();
+            Map<String, List<TimeStampedSession>> copy = new LinkedHashMap<String, List<TimeStampedSession>>();
+            for (Entry<String, LinkedList<TimeStampedSession>> entry : store.entrySet()) {
+                copy.put(entry.getKey(), new ArrayList<TimeStampedSession>(entry.getValue()));
             }
-            return true;
+            return copy;
         }
     }
 
     /**
-     * Wrapper for ReusedSession. This session is stored in binary format including a timestamp.
-     * <p>
-     * This allows implementation to invalidate a session without actually trying to deserialize it.
+     * Removes the oldest sessions of the least recently used keys until the store fits its maximal size
      *
-     * @author <a href="mailto:kpiwko@redhat.com">Karel Piwko</a>
+     * @return evicted sessions with their fingerprints
      */
-    static class TimeStampedSession implements Serializable {
-        private static final long serialVersionUID = 1L;
-
-        private final Date timestamp;
-
-        private final ByteArray rawSession;
-
-        TimeStampedSession(ByteArray rawSession) {
-            this.timestamp = new Date();
-            this.rawSession = rawSession;
+    List<Entry<String, TimeStampedSession>> evictOverflow() {
+        synchronized (store) {
+            List<Entry<String, TimeStampedSession>> evicted = new ArrayList<Entry<String, TimeStampedSession>>();
+            if (maxSize <= 0) {
+                return evicted;
+            }
+            int size = 0;
+            for (LinkedList<TimeStampedSession> queue : store.values()) {
+                size += queue.size();
+            }
+            Iterator<Entry<String, LinkedList<TimeStampedSession>>> iterator = store.entrySet().iterator();
+            while (size > maxSize && iterator.hasNext()) {
+                Entry<String, LinkedList<TimeStampedSession>> entry = iterator.next();
+                LinkedList<TimeStampedSession> queue = entry.getValue();
+                while (size > maxSize && !queue.isEmpty()) {
+                    evicted.add(new SimpleImmutableEntry<String, TimeStampedSession>(entry.getKey(),
+                        queue.removeFirst()));
+                    size--;
+                }
+                if (queue.isEmpty()) {
+                    iterator.remove();
+                }
+            }
+            return evicted;
         }
+    }
 
-        public boolean isValid(int timeoutInSeconds) {
-
-            Date now = new Date();
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime(timestamp);
-            calendar.add(Calendar.SECOND, timeoutInSeconds);
-
-            return calendar.getTime().after(now);
+    private int removeAllExpired() {
+        int removed = 0;
+        Iterator<LinkedList<TimeStampedSession>> iterator = store.values().iterator();
+        while (iterator.hasNext()) {
+            LinkedList<TimeStampedSession> queue = iterator.next();
+            removed += removeExpired(queue);
+            if (queue.isEmpty()) {
+                iterator.remove();
+            }
         }
+        return removed;
+    }
 
-        public ReusedSession getSession() {
-            return rawSession.as(ReusedSession.class);
+    private int removeExpired(LinkedList<TimeStampedSession> queue) {
+        // sessions are ordered by their timestamp, so expired ones are at the head of the queue
+        int removed = 0;
+        while (!queue.isEmpty() && !queue.getFirst().isValid(timeToLiveInMillis)) {
+            queue.removeFirst();
+            removed++;
         }
+        return removed;
+    }
 
-        public ByteArray getRawSession() {
-            return rawSession;
+    private Object writeReplace() throws ObjectStreamException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            ReusedSessionStoreFormat.write(this, bytes);
+        } catch (IOException e) {
+            throw new InvalidObjectException("Unable to write reused session store, " + e.getMessage());
         }
+        return new SerializedForm(bytes.toByteArray());
+    }
 
-        @Override
-        public int hashCode() {
-            final int prime = 31;
-            int result = 1;
-            result = prime * result + ((rawSession == null) ? 0 : rawSession.hashCode());
-            result = prime * result + ((timestamp == null) ? 0 : timestamp.hashCode());
-            return result;
-        }
+    /**
+     * Serialized form of the store, which holds the store in {@link ReusedSessionStoreFormat}
+     */
+    static class SerializedForm implements Serializable {
+        private static final long serialVersionUID = 1L;
 
-        @Override
-        public boolean equals(Object obj) {
-            if (this == obj) {
-                return true;
-            }
-            if (obj == null) {
-                return false;
-            }
-            if (getClass() != obj.getClass()) {
-                return false;
-            }
-            TimeStampedSession other = (TimeStampedSession) obj;
-            if (rawSession == null) {
-                if (other.rawSession != null) {
-                    return false;
-                }
-            } else if (!rawSession.equals(other.rawSession)) {
-                return false;
-            }
-            if (timestamp == null) {
-                if (other.timestamp != null) {
-                    return false;
-                }
-            } else if (!timestamp.equals(other.timestamp)) {
-                return false;
-            }
-            return true;
+        private final byte[] data;
+
+        SerializedForm(byte[] data) {
+            this.data = data;
         }
 
-        @Override
-        public String toString() {
-            StringBuilder sb = new StringBuilder();
-            sb.append(timestamp).append(" ").append(getSession());
-            return sb.toString();
+        private Object readResolve() throws ObjectStreamException {
+            try {
+                return ReusedSessionStoreFormat.read(new ByteArrayInputStream(data));
+            } catch (IOException e) {
+                throw new InvalidObjectException("Unable to read reused session store, " + e.getMessage());
+            }
         }
     }
 
     /**
-     * Wrapper for reusable session with ability to dispose data from rawStore.
+     * Wrapper for ReusedSession including a timestamp.
+     * <p>
+     * This allows implementation to invalidate a session without looking at the session itself.
      *
      * @author <a href="mailto:kpiwko@redhat.com">Karel Piwko</a>
      */
-    private static class RawDisposableReusedSession {
-        private final ByteArray key;
+    static class TimeStampedSession {
+
+        private final Date timestamp;
+
         private final ReusedSession session;
-        private final LinkedList<ByteArray> parentList;
 
-        RawDisposableReusedSession(ByteArray key, LinkedList<ByteArray> parentList, ReusedSession session) {
-            this.key = key;
-            this.parentList = parentList;
+        TimeStampedSession(Date timestamp, ReusedSession session) {
+            this.timestamp = timestamp;
             this.session = session;
         }
 
-        /**
-         * Removes current session from queue of relevant raw data
-         */
-        public void dispose() {
-            synchronized (parentList) {
-                Iterator<ByteArray> iterator = parentList.iterator();
-                ReusedSession wrappedKey = key.as(ReusedSession.class);
-                if (wrappedKey == null) {
-                    throw new IllegalStateException(
-                        "Could not dispose a session from the storage, current session cannot be deserialized.");
-                }
+        public boolean isValid(long timeToLiveInMillis) {
+            return timestamp.getTime() + timeToLiveInMillis > System.currentTimeMillis();
+        }
 
-                // find appropriate object from parentList to be removed
-                while (iterator.hasNext()) {
-                    TimeStampedSession candidate = iterator.next().as(TimeStampedSession.class);
-                    // check if both point to the same session
-                    if (candidate != null && candidate.getSession() != null && candidate.getSession()
-                        .equals(wrappedKey)) {
-                        iterator.remove();
-                    }
-                }
-            }
+        public Date getTimestamp() {
+            return timestamp;
         }
 
         public ReusedSession getSession() {
             return session;
         }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(timestamp).append(" ").append(session);
+            return sb.toString();
+        }
     }
 }
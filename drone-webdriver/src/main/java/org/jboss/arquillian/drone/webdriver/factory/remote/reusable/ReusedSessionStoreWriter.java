@@ -0,0 +1,155 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Write-behind persister of a {@link ReusedSessionStore}. Write requests are merged and written to
+ * {@link ReusedSessionPermanentStorage} by a background thread after a short delay, so that destroying a reusable
+ * browser does not rewrite the store file on the test thread.
+ * <p>
+ * Pending writes are written by {@link #flush()}, which is called at the end of the suite, and by a shutdown hook in
+ * case the JVM exits before.
+ */
+class ReusedSessionStoreWriter {
+
+    private static final Logger log = Logger.getLogger(ReusedSessionStoreWriter.class.getName());
+
+    static final long DEFAULT_DELAY_IN_MILLIS = 500;
+
+    private final ReusedSessionPermanentStorage storage;
+
+    private final ReusedSessionStore store;
+
+    private final long delayInMillis;
+
+    private final ScheduledExecutorService executor;
+
+    private final Thread shutdownHook;
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    // guards scheduled and closed
+    private final Object lock = new Object();
+
+    // serializes writes to the storage
+    private final Object writeLock = new Object();
+
+    private ScheduledFuture<?> scheduled;
+
+    private boolean closed;
+
+    ReusedSessionStoreWriter(ReusedSessionPermanentStorage storage, ReusedSessionStore store, long delayInMillis) {
+        this.storage = storage;
+        this.store = store;
+        this.delayInMillis = delayInMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "drone-session-store-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.shutdownHook = new Thread(this::flush, "drone-session-store-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Requests the store to be written. The write happens later, merged with any other requests done in the meantime.
+     */
+    void requestWrite() {
+        dirty.set(true);
+        synchronized (lock) {
+            if (closed) {
+                write();
+            } else if (scheduled == null) {
+                scheduled = executor.schedule(this::writeScheduled, delayInMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Purges the store in background and writes it if any session was removed
+     */
+    void purge() {
+        executor.execute(() -> {
+            try {
+                if (store.purge() > 0) {
+                    dirty.set(true);
+                    write();
+                }
+            } catch (RuntimeException e) {
+                log.log(Level.WARNING, "Unable to purge reused session store", e);
+            }
+        });
+    }
+
+    /**
+     * Writes the store if there is a pending write request. When this method returns, all the changes requested to be
+     * written before its call are written.
+     */
+    void flush() {
+        synchronized (lock) {
+            if (scheduled != null) {
+                scheduled.cancel(false);
+                scheduled = null;
+            }
+        }
+        write();
+    }
+
+    /**
+     * Flushes pending writes and stops the background thread. Write requests after close are written synchronously.
+     */
+    void close() {
+        synchronized (lock) {
+            closed = true;
+        }
+        flush();
+        executor.shutdown();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // JVM is already shutting down
+        }
+    }
+
+    private void writeScheduled() {
+        synchronized (lock) {
+            scheduled = null;
+        }
+        write();
+    }
+
+    private void write() {
+        synchronized (writeLock) {
+            if (!dirty.getAndSet(false)) {
+                return;
+            }
+            try {
+                storage.writeStore(store);
+            } catch (RuntimeException e) {
+                log.log(Level.WARNING, "Unable to persist reused session store", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jboss.arquillian.config.descriptor.api.ArquillianDescriptor;
+import org.jboss.arquillian.core.api.Event;
+import org.jboss.arquillian.core.api.Instance;
+import org.jboss.arquillian.core.api.annotation.Inject;
+import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.drone.configuration.ConfigurationMapper;
+import org.jboss.arquillian.drone.webdriver.binary.process.SeleniumServer;
+import org.jboss.arquillian.drone.webdriver.binary.process.SeleniumServers;
+import org.jboss.arquillian.drone.webdriver.configuration.WebDriverConfiguration;
+import org.jboss.arquillian.drone.webdriver.factory.RemoteWebDriverFactory;
+import org.jboss.arquillian.drone.webdriver.factory.remote.http.SharedHttpClientFactory;
+import org.jboss.arquillian.drone.webdriver.utils.UrlUtils;
+import org.jboss.arquillian.test.spi.event.suite.BeforeSuite;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.HttpClient;
+
+/**
+ * Creates sessions of remote reusable browsers when the suite starts, so the first tests find a session in
+ * {@link ReusedSessionStore} right away.
+ * <p>
+ * The number of sessions is set by {@code reusedSessionWarmPoolSize} for every qualifier declared in the descriptor as
+ * {@code <extension qualifier="webdriver-qualifier">}. Stored sessions are counted in, so only the missing ones are
+ * created. All the sessions are created in parallel.
+ */
+public class ReusedSessionWarmPool {
+
+    /**
+     * Maximal number of sessions which are created at once
+     */
+    static final int MAX_THREADS = 8;
+
+    private static final Logger log = Logger.getLogger(ReusedSessionWarmPool.class.getName());
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    @Inject
+    private Instance<ArquillianDescriptor> descriptor;
+
+    @Inject
+    private Instance<ReusedSessionStore> sessionStore;
+
+    @Inject
+    private Instance<SeleniumServers> seleniumServers;
+
+    @Inject
+    private Instance<SharedHttpClientFactory> sharedHttpClientFactory;
+
+    @Inject
+    private Event<PersistReusedSessionsEvent> persistEvent;
+
+    // the store has to be initialized by ReusableRemoteWebDriverExtension first
+    public void warmUp(@Observes(precedence = -10) BeforeSuite event) {
+        ArquillianDescriptor arquillianDescriptor = descriptor.get();
+        ReusedSessionStore store = sessionStore.get();
+        if (arquillianDescriptor == null || store == null) {
+            return;
+        }
+
+        Map<InitializationParameter, Integer> missing = new LinkedHashMap<InitializationParameter, Integer>();
+        for (String qualifier : WebDriverConfiguration.getDeclaredQualifiers(arquillianDescriptor)) {
+            WebDriverConfiguration configuration = ConfigurationMapper.fromArquillianDescriptor(arquillianDescriptor,
+                new WebDriverConfiguration(null), qualifier);
+            if (!configuration.isRemoteReusable() || configuration.getReusedSessionWarmPoolSize() <= 0) {
+                continue;
+            }
+
+            RemoteWebDriverFactory factory = new RemoteWebDriverFactory();
+            URL remoteAddress = factory.getRemoteAddress(configuration);
+            awaitSeleniumServer(remoteAddress, configuration);
+            if (!UrlUtils.isReachable(remoteAddress)) {
+                log.log(Level.WARNING, "The URL: {0} is not reachable, sessions of @{1} browsers are not created "
+                    + "in advance", new Object[] {remoteAddress, qualifier});
+                continue;
+            }
+
+            InitializationParameter initParam = new InitializationParameter(remoteAddress,
+                factory.getRemoteOptions(configuration), CapabilityMatchingPolicy.fromConfiguration(configuration));
+            // qualifiers with the same configuration share stored sessions
+            int count = configuration.getReusedSessionWarmPoolSize() - store.count(initParam);
+            Integer previous = missing.get(initParam);
+            if (previous == null || previous < count) {
+                missing.put(initParam, count);
+            }
+        }
+
+        if (fill(store, missing, this::createSession) > 0) {
+            persistEvent.fire(new PersistReusedSessionsEvent());
+        }
+    }
+
+    // a server started by Drone in the background has to be ready before the sessions are created
+    private void awaitSeleniumServer(URL remoteAddress, WebDriverConfiguration configuration) {
+        SeleniumServer server = seleniumServers.get() == null ? null : seleniumServers.get().get(remoteAddress);
+        if (server != null) {
+            try {
+                server.awaitReady(TimeUnit.SECONDS.toMillis(configuration.getSeleniumServerStartTimeoutInSeconds()));
+            } catch (IllegalStateException e) {
+                log.log(Level.WARNING, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Creates the missing sessions in parallel and stores them, sessions which cannot be created are skipped
+     *
+     * @param store store the sessions are added to
+     * @param missing number of sessions to create per key
+     * @param sessionFactory creates a session for the key
+     *
+     * @return number of stored sessions
+     */
+    static int fill(ReusedSessionStore store, Map<InitializationParameter, Integer> missing,
+        Function<InitializationParameter, ReusedSession> sessionFactory) {
+        List<InitializationParameter> tasks = new ArrayList<InitializationParameter>();
+        for (Map.Entry<InitializationParameter, Integer> entry : missing.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                tasks.add(entry.getKey());
+            }
+        }
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(tasks.size(), MAX_THREADS), runnable -> {
+            Thread thread = new Thread(runnable, "drone-session-warm-up-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<ReusedSession>> sessions = new ArrayList<Future<ReusedSession>>(tasks.size());
+            for (final InitializationParameter initParam : tasks) {
+                sessions.add(executor.submit(() -> {
+                    ReusedSession session = sessionFactory.apply(initParam);
+                    store.store(initParam, session);
+                    return session;
+                }));
+            }
+
+            int stored = 0;
+            for (Future<ReusedSession> session : sessions) {
+                try {
+                    session.get();
+                    stored++;
+                } catch (ExecutionException e) {
+                    log.log(Level.WARNING, "Unable to create a session in advance", e.getCause());
+                }
+            }
+            log.log(Level.FINE, "Created {0} sessions in advance", stored);
+            return stored;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ReusedSession createSession(InitializationParameter initParam) {
+        HttpClient.Factory clientFactory = sharedHttpClientFactory.get() != null ? sharedHttpClientFactory.get()
+            : HttpCommandExecutor.getDefaultClientFactory();
+        HttpCommandExecutor executor = new HttpCommandExecutor(Collections.emptyMap(), initParam.getUrl(),
+            clientFactory);
+        try {
+            RemoteWebDriver driver = new RemoteWebDriver(executor, initParam.getCapabilities());
+            return ReusedSession.createInstance(driver.getSessionId(), driver.getCapabilities());
+        } finally {
+            // the session is kept for reuse, only the connection of the driver is released, also when the session
+            // was not created
+            executor.client.close();
+        }
+    }
+}
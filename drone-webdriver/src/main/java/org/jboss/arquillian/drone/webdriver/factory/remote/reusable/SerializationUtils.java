@@ -83,8 +83,8 @@ public class SerializationUtils {
         whitelist.enableClass(ReusedSession.class.getName());
         whitelist.enableClass(ReusedSessionStore.class.getName());
         whitelist.enableClass(ReusedSessionStoreImpl.class.getName());
-        whitelist.enableClass(ReusedSessionStoreImpl.ByteArray.class.getName());
-        whitelist.enableClass(ReusedSessionStoreImpl.TimeStampedSession.class.getName());
+        whitelist.enableClass(ReusedSessionStoreImpl.SerializedForm.class.getName());
+        whitelist.enableClass(JournaledReusedSessionStore.class.getName());
         whitelist.enableClass(InitializationParameter.class.getName());
     }
 
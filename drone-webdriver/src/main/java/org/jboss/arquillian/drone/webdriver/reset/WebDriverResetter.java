@@ -0,0 +1,110 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.reset;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jboss.arquillian.drone.spi.Resetter;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+/**
+ * Resets WebDriver instances with pooled lifecycle, so they can be reused by the next test class. Closes all windows
+ * but the first one, clears cookies, local and session storage and navigates to {@code about:blank}.
+ * <p>
+ * WebDriver deletes only the cookies visible to the current page, so cookies of all the domains are cleared through
+ * DevTools for Chromium based browsers. For other browsers, cookies of other domains are kept, and for all browsers
+ * only the storage of the current origin is cleared.
+ */
+public class WebDriverResetter implements Resetter<WebDriver> {
+
+    private static final Logger log = Logger.getLogger(WebDriverResetter.class.getName());
+
+    static final String BLANK_PAGE = "about:blank";
+
+    private static final String CLEAR_STORAGE_SCRIPT =
+        "try { window.localStorage.clear(); } catch (e) {} try { window.sessionStorage.clear(); } catch (e) {}";
+
+    @Override
+    public int getPrecedence() {
+        return 0;
+    }
+
+    @Override
+    public boolean canReset(Class<?> droneType, Class<? extends Annotation> qualifier) {
+        return WebDriver.class.isAssignableFrom(droneType);
+    }
+
+    @Override
+    public boolean resetInstance(WebDriver driver) {
+        try {
+            closeAdditionalWindows(driver);
+            clearAllCookies(driver);
+            driver.manage().deleteAllCookies();
+            clearStorage(driver);
+            driver.get(BLANK_PAGE);
+            return true;
+        } catch (WebDriverException e) {
+            log.log(Level.WARNING, "Unable to reset " + driver.getClass().getName() + ", it will not be reused", e);
+            return false;
+        }
+    }
+
+    private void closeAdditionalWindows(WebDriver driver) {
+        Set<String> windowHandles = driver.getWindowHandles();
+        if (windowHandles.isEmpty()) {
+            throw new WebDriverException("There is no open window left");
+        }
+
+        Iterator<String> iterator = windowHandles.iterator();
+        String firstWindow = iterator.next();
+        while (iterator.hasNext()) {
+            driver.switchTo().window(iterator.next());
+            driver.close();
+        }
+        driver.switchTo().window(firstWindow);
+    }
+
+    private void clearAllCookies(WebDriver driver) {
+        if (!(driver instanceof HasCdp)) {
+            return;
+        }
+        try {
+            ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Collections.<String, Object>emptyMap());
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            log.log(Level.FINE, "Unable to clear cookies of all domains of {0}, only cookies of the current page are "
+                + "deleted", driver.getClass().getName());
+        }
+    }
+
+    private void clearStorage(WebDriver driver) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return;
+        }
+        try {
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            log.log(Level.FINE, "Unable to clear storage of {0}, not supported", driver.getClass().getName());
+        }
+    }
+}
@@ -31,6 +31,8 @@ public class GitHubLastUpdateCache {
 
     private static final String LAST_MODIFIED_PROPERTY = "lastModified";
 
+    private static final String ETAG_PROPERTY = "eTag";
+
     private static final Path DEFAULT_CACHE_DIRECTORY = ARQUILLIAN_DRONE_CACHE_DIRECTORY.resolve("gh_cache");
 
     private final Gson gson = new GsonBuilder().registerTypeAdapter(new TypeToken<ZonedDateTime>() {
@@ -72,6 +74,17 @@ public class GitHubLastUpdateCache {
         return lastModification;
     }
 
+    /**
+     * Returns the ETag the stored asset was served with, or {@code null} if there is none
+     */
+    public String eTagOf(String uniqueKey) {
+        if (!cacheFileExists(uniqueKey)) {
+            return null;
+        }
+        final JsonElement eTag = deserializeCachedFile(uniqueKey).get(ETAG_PROPERTY);
+        return eTag == null || eTag.isJsonNull() ? null : eTag.getAsString();
+    }
+
     public <T> T load(String uniqueKey, Class<T> type) {
         final JsonObject asset = deserializeCachedFile(uniqueKey).getAsJsonObject(ASSET_PROPERTY);
         return gson.fromJson(asset, type);
@@ -82,8 +95,18 @@ public class GitHubLastUpdateCache {
     }
 
     public <T> void store(T asset, String uniqueKey, ZonedDateTime dateTime) {
+        store(asset, uniqueKey, dateTime, null);
+    }
+
+    /**
+     * Stores the asset together with its ETag, so the next request can revalidate it
+     */
+    public <T> void store(T asset, String uniqueKey, ZonedDateTime dateTime, String eTag) {
         final File cachedFilePath = createCachedFilePath(uniqueKey).toFile();
         final JsonObject jsonObject = combineAsJson(asset, dateTime);
+        if (eTag != null) {
+            jsonObject.addProperty(ETAG_PROPERTY, eTag);
+        }
         try (FileOutputStream fileOutputStream = new FileOutputStream(cachedFilePath, false)) {
             fileOutputStream.write(jsonObject.toString().getBytes());
         } catch (IOException e) {
@@ -1,21 +1,34 @@
 package org.jboss.arquillian.drone.webdriver.utils;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.util.EntityUtils;
 
+/**
+ * Sends GET requests through a pooled client shared by the whole JVM, so the connections, including their TLS
+ * sessions, are reused by subsequent requests to the same host. The pool is sized by the {@code http.maxConnections}
+ * system property, 5 connections per host by default.
+ */
 public class HttpClient {
 
     public static final String UTF_8 = "UTF-8";
@@ -35,20 +48,57 @@ public class HttpClient {
     }
 
     public Response get(String url, Map<String, String> headers, String charset) throws IOException {
-        try (CloseableHttpClient client = createHttpClient()) {
-            final HttpGet request = new HttpGet(url);
-            addHeaders(headers, request);
-            String message = "Sending request: " + request + " with headers: " + Arrays.asList(request.getAllHeaders());
-            log.log(PropertySecurityAction.isArquillianDebug() ? Level.INFO : Level.FINE, message);
-            final HttpResponse response = client.execute(request);
+        final HttpGet request = createRequest(url, headers);
+        try (CloseableHttpResponse response = SharedClient.INSTANCE.execute(request)) {
             return Response.from(response, charset);
         }
     }
 
-    private CloseableHttpClient createHttpClient() {
-        final HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
-        httpClientBuilder.useSystemProperties();
-        return httpClientBuilder.build();
+    /**
+     * Sends a conditional request revalidating the asset stored in the cache under the given key. The request
+     * carries the ETag and the last modification date of the stored asset, if the asset has not been changed, the
+     * response {@link Response#isNotModified() is not modified} and the stored asset can be loaded from the cache.
+     *
+     * @param url URL of the asset
+     * @param headers additional request headers
+     * @param cache cache of the asset
+     * @param uniqueKey key of the asset in the cache
+     *
+     * @return the response
+     */
+    public Response getIfModified(String url, Map<String, String> headers, GitHubLastUpdateCache cache,
+        String uniqueKey) throws IOException {
+        final Map<String, String> conditionalHeaders = new HashMap<>(headers);
+        if (cache.cacheFileExists(uniqueKey)) {
+            final String eTag = cache.eTagOf(uniqueKey);
+            if (eTag != null) {
+                conditionalHeaders.put(HttpHeaders.IF_NONE_MATCH, eTag);
+            }
+            conditionalHeaders.put(HttpHeaders.IF_MODIFIED_SINCE, DateTimeFormatter.RFC_1123_DATE_TIME
+                .format(cache.lastModificationOf(uniqueKey).withZoneSameInstant(ZoneOffset.UTC)));
+        }
+        return get(url, conditionalHeaders, UTF_8);
+    }
+
+    /**
+     * Sends a request whose response body is not read into memory, e.g. to download large files. The returned
+     * response has to be closed to return the connection to the pool.
+     *
+     * @param url URL to be requested
+     * @param headers additional request headers
+     *
+     * @return the response with the body as a stream
+     */
+    public StreamingResponse getStream(String url, Map<String, String> headers) throws IOException {
+        return new StreamingResponse(SharedClient.INSTANCE.execute(createRequest(url, headers)));
+    }
+
+    private HttpGet createRequest(String url, Map<String, String> headers) {
+        final HttpGet request = new HttpGet(url);
+        addHeaders(headers, request);
+        String message = "Sending request: " + request + " with headers: " + Arrays.asList(request.getAllHeaders());
+        log.log(PropertySecurityAction.isArquillianDebug() ? Level.INFO : Level.FINE, message);
+        return request;
     }
 
     private void addHeaders(Map<String, String> headers, HttpGet request) {
@@ -93,6 +143,13 @@ public class HttpClient {
             return new Response(statusCode, payload, headers);
         }
 
+        /**
+         * Returns whether a conditional request found the requested resource unchanged
+         */
+        public boolean isNotModified() {
+            return statusCode == HttpStatus.SC_NOT_MODIFIED;
+        }
+
         public boolean hasPayload() {
             return this.payload != null && !this.payload.isEmpty();
         }
@@ -109,4 +166,60 @@ public class HttpClient {
             return statusCode;
         }
     }
+
+    /**
+     * Response whose body is read as a stream
+     */
+    public static class StreamingResponse implements Closeable {
+
+        private final CloseableHttpResponse response;
+
+        StreamingResponse(CloseableHttpResponse response) {
+            this.response = response;
+        }
+
+        public int getStatusCode() {
+            return response.getStatusLine() == null ? 0 : response.getStatusLine().getStatusCode();
+        }
+
+        public String getHeader(String header) {
+            final Header first = response.getFirstHeader(header);
+            return first == null ? null : first.getValue();
+        }
+
+        /**
+         * Returns the body of the response, or {@code null} if there is none
+         */
+        public InputStream getContent() throws IOException {
+            final HttpEntity entity = response.getEntity();
+            return entity == null ? null : entity.getContent();
+        }
+
+        @Override
+        public void close() throws IOException {
+            response.close();
+        }
+    }
+
+    // the client is created with the first request
+    private static final class SharedClient {
+
+        private static final CloseableHttpClient INSTANCE = create();
+
+        private static CloseableHttpClient create() {
+            final CloseableHttpClient client = HttpClientBuilder.create()
+                .useSystemProperties()
+                .evictExpiredConnections()
+                .evictIdleConnections(30, TimeUnit.SECONDS)
+                .build();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    client.close();
+                } catch (IOException e) {
+                    // the JVM is exiting anyway
+                }
+            }, "drone-http-client-shutdown"));
+            return client;
+        }
+    }
 }
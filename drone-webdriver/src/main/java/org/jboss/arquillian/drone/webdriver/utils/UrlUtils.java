@@ -24,6 +24,10 @@ import java.net.Socket;
 import java.net.SocketException;
 import java.net.URL;
 import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import org.jboss.arquillian.drone.webdriver.configuration.WebDriverConfiguration;
 
 /**
@@ -31,6 +35,15 @@ import org.jboss.arquillian.drone.webdriver.configuration.WebDriverConfiguration
  */
 public class UrlUtils {
 
+    /**
+     * How long the reachability of an address is cached
+     */
+    public static final long REACHABILITY_TTL_IN_MILLIS = 5000;
+
+    private static final Map<String, Reachability> reachability = new ConcurrentHashMap<String, Reachability>();
+
+    private static final Map<String, Boolean> localhosts = new ConcurrentHashMap<String, Boolean>();
+
     /**
      * Tries to open connection to the default URL of Selenium Server (localhost:4444) to check whether
      * Selenium Hub is started
@@ -40,22 +53,66 @@ public class UrlUtils {
     }
 
     /**
-     * Tries to open connection to the given {@link URL} to check it is reachable
+     * Tries to open connection to the given {@link URL} to check it is reachable. The result is cached for
+     * {@link #REACHABILITY_TTL_IN_MILLIS}, so browsers connecting to the same server do not check it again.
      */
     public static boolean isReachable(URL url) {
+        String key = hostAndPort(url);
+        while (true) {
+            Reachability cached = reachability.get(key);
+            if (cached != null && !cached.isExpired()) {
+                // waits for a check of another thread which is still running
+                return cached.result.join();
+            }
+            // the address is connected outside of the map, so checks of other addresses are not blocked
+            Reachability check = new Reachability();
+            if (cached == null ? reachability.putIfAbsent(key, check) == null
+                : reachability.replace(key, cached, check)) {
+                return check.run(url, key);
+            }
+        }
+    }
+
+    /**
+     * Forgets the cached reachability of the given {@link URL}, e.g. when a connection to it failed or a server was
+     * started or stopped on it
+     */
+    public static void invalidate(URL url) {
+        reachability.remove(hostAndPort(url));
+    }
+
+    /**
+     * Forgets all cached reachability and localhost checks
+     */
+    public static void clearCache() {
+        reachability.clear();
+        localhosts.clear();
+    }
+
+    /**
+     * Checks whether the given {@link URL} is a localhost address
+     */
+    public static boolean isLocalhost(URL url) {
+        String host = url.getHost().toLowerCase();
+        Boolean cached = localhosts.get(host);
+        if (cached == null) {
+            // the name is resolved outside of the map, a concurrent check of the same host just resolves it again
+            cached = checkLocalhost(url);
+            localhosts.putIfAbsent(host, cached);
+        }
+        return cached;
+    }
 
+    private static boolean checkReachable(URL url) {
         try (Socket socket = new Socket()) {
-            socket.connect(new InetSocketAddress(url.getHost(), url.getPort()), 1000);
+            socket.connect(new InetSocketAddress(url.getHost(), port(url)), 1000);
             return true;
         } catch (IOException e) {
             return false; // Either timeout or unreachable or failed DNS lookup.
         }
     }
 
-    /**
-     * Checks whether the given {@link URL} is a localhost address
-     */
-    public static boolean isLocalhost(URL url) {
+    private static boolean checkLocalhost(URL url) {
         try {
             // Check if the address is a valid special local or loop back
             InetAddress address = InetAddress.getByName(url.getHost());
@@ -73,4 +130,37 @@ public class UrlUtils {
             return false;
         }
     }
+
+    private static String hostAndPort(URL url) {
+        return url.getHost().toLowerCase() + ":" + port(url);
+    }
+
+    private static int port(URL url) {
+        return url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+    }
+
+    private static final class Reachability {
+        private final CompletableFuture<Boolean> result = new CompletableFuture<Boolean>();
+        private volatile long checkedAt;
+
+        private boolean run(URL url, String key) {
+            boolean reachable;
+            try {
+                reachable = checkReachable(url);
+            } catch (RuntimeException e) {
+                reachability.remove(key, this);
+                result.completeExceptionally(e);
+                throw e;
+            }
+            checkedAt = System.nanoTime();
+            result.complete(reachable);
+            return reachable;
+        }
+
+        // a check which is still running never expires
+        private boolean isExpired() {
+            return result.isDone()
+                && System.nanoTime() - checkedAt >= TimeUnit.MILLISECONDS.toNanos(REACHABILITY_TTL_IN_MILLIS);
+        }
+    }
 }
@@ -3,11 +3,15 @@ package org.jboss.arquillian.drone.webdriver.binary.process;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import org.awaitility.Awaitility;
+import org.jboss.arquillian.drone.webdriver.utils.UrlUtils;
+import org.jboss.arquillian.test.spi.event.suite.AfterSuite;
 import org.jboss.arquillian.test.test.AbstractTestTestBase;
+import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.contrib.java.lang.system.SystemOutRule;
@@ -55,6 +59,61 @@ public class SeleniumServerTestCase extends AbstractTestTestBase {
         verifyLogContainsRegex(".*\\[Hub.execute.*Started Selenium Hub.*");
     }
 
+    @Test
+    public void should_share_selenium_server_and_stop_it_after_suite() throws Exception {
+
+        final URL url = getUrl(5599);
+        // the event bus must not collide with the hub of other tests
+        final String seleniumServerArgs = "hub --publish-events tcp://*:5597 --subscribe-events tcp://*:5598";
+
+        fire(new StartSeleniumServer("chrome", new MutableCapabilities(), url, seleniumServerArgs));
+        SeleniumServer server = getManager().resolve(SeleniumServers.class).get(url);
+        Assert.assertTrue("Server is ready", server.getReady().isDone());
+        Assert.assertTrue("Server is reachable", UrlUtils.isReachable(url));
+
+        fire(new StartSeleniumServer("chrome", new MutableCapabilities(), url, seleniumServerArgs));
+        Assert.assertSame("Running server is reused", server, getManager().resolve(SeleniumServers.class).get(url));
+
+        fire(new AfterSuite());
+        Assert.assertNull("Server is not registered", getManager().resolve(SeleniumServers.class).get(url));
+        Assert.assertFalse("Server is stopped", UrlUtils.isReachable(url));
+    }
+
+    @Test
+    public void should_split_selenium_server_args() {
+        Assert.assertEquals(Arrays.asList("standalone"), SeleniumServers.parseArgs(null));
+        Assert.assertEquals(Arrays.asList("standalone"), SeleniumServers.parseArgs(" "));
+        Assert.assertEquals(Arrays.asList("hub", "--max-threads", "2"),
+            SeleniumServers.parseArgs("hub, --max-threads 2"));
+    }
+
+    @Test
+    public void should_derive_local_grid_size_from_processors_and_memory() {
+        Assert.assertEquals(4, SeleniumServers.maxSessions(4, 16 * SeleniumServers.MEMORY_PER_SESSION));
+        Assert.assertEquals(2, SeleniumServers.maxSessions(4, 2 * SeleniumServers.MEMORY_PER_SESSION));
+        Assert.assertEquals(4, SeleniumServers.maxSessions(4, -1));
+        Assert.assertEquals(1, SeleniumServers.maxSessions(4, 100));
+    }
+
+    @Test
+    public void should_start_local_grid_as_hub() throws Exception {
+
+        final URL url = getUrl(5600);
+
+        StartSeleniumServer startSeleniumServer = new StartSeleniumServer("chrome", new MutableCapabilities(), url,
+            null);
+        startSeleniumServer.setLocalGridNodes(1);
+        startSeleniumServer.setLocalGridMaxSessions(2);
+        fire(startSeleniumServer);
+
+        verifyLogContainsRegex(".*\\[Hub.execute.*Started Selenium Hub.*");
+        SeleniumServer hub = getManager().resolve(SeleniumServers.class).get(url);
+        Assert.assertTrue("Hub is running", hub.isRunning());
+
+        fire(new AfterSuite());
+        Assert.assertFalse("Hub is stopped", hub.isRunning());
+    }
+
     private URL getUrl(int port) throws MalformedURLException {
         return new URL(String.format("http://localhost:%d/wd/hub/", port));
     }
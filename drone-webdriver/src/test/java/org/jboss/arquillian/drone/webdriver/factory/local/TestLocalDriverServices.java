@@ -0,0 +1,141 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.factory.local;
+
+import com.sun.net.httpserver.HttpServer;
+import java.net.InetSocketAddress;
+import java.io.File;
+import java.net.URL;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.Test;
+import org.mockito.Answers;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.remote.service.DriverService;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestLocalDriverServices {
+
+    @Test
+    public void when_driver_uses_shared_service_then_only_its_session_is_deleted() throws Exception {
+        // given
+        List<String> requests = new CopyOnWriteArrayList<String>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+            byte[] body = "{\"value\":null}".getBytes("UTF-8");
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        LocalDriverServices services = new LocalDriverServices();
+        try {
+            RemoteWebDriver driver = mock(RemoteWebDriver.class);
+            when(driver.getSessionId()).thenReturn(new SessionId("1"));
+            when(driver.getCommandExecutor()).thenReturn(
+                new HttpCommandExecutor(new URL("http://localhost:" + server.getAddress().getPort())));
+            services.register(driver, null, true);
+            // when
+            boolean released = services.release(driver);
+            // then
+            assertTrue(released);
+            assertEquals(Collections.singletonList("DELETE /session/1"), requests);
+            verify(driver, never()).quit();
+        } finally {
+            services.close();
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void when_browser_is_kept_open_then_it_is_reset_and_reused() throws Exception {
+        // given
+        LocalDriverServices services = new LocalDriverServices();
+        RemoteWebDriver driver = mock(RemoteWebDriver.class, Answers.RETURNS_DEEP_STUBS);
+        when(driver.getWindowHandles()).thenReturn(Collections.singleton("main"));
+        services.register(driver, "chrome", false);
+        // when
+        assertTrue(services.release(driver));
+        // then
+        verify(driver).get("about:blank");
+        assertNull(services.pullBrowser("firefox", RemoteWebDriver.class));
+        assertSame(driver, services.pullBrowser("chrome", RemoteWebDriver.class));
+        assertNull(services.pullBrowser("chrome", RemoteWebDriver.class));
+
+        // when released again and services are closed
+        assertTrue(services.release(driver));
+        services.close();
+        // then
+        verify(driver).quit();
+    }
+
+    @Test
+    public void when_driver_is_not_registered_then_caller_quits_it() {
+        LocalDriverServices services = new LocalDriverServices();
+        try {
+            assertFalse(services.release(mock(RemoteWebDriver.class)));
+        } finally {
+            services.close();
+        }
+    }
+
+    @Test
+    public void when_service_cannot_be_created_then_next_driver_creates_it_again() {
+        // given
+        LocalDriverServices services = new LocalDriverServices();
+        DriverService service = mock(DriverService.class);
+        when(service.getExecutable()).thenReturn(new File("chromedriver").getAbsolutePath());
+        try {
+            try {
+                services.getService("chrome", new ImmutableCapabilities(), () -> {
+                    throw new IllegalStateException("driver not found");
+                });
+                fail("Failure of the builder should be propagated");
+            } catch (IllegalStateException e) {
+                // expected
+            }
+            // when
+            LocalDriverServices.SharedDriverService<DriverService> shared =
+                services.getService("chrome", new ImmutableCapabilities(), () -> service);
+            // then
+            assertSame(service, shared.getService());
+            assertSame(shared, services.getService("chrome", new ImmutableCapabilities(), () -> {
+                throw new AssertionError("shared service should not be created twice");
+            }));
+        } finally {
+            services.close();
+        }
+        verify(service, times(1)).stop();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.factory.remote.http;
+
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestSharedHttpClientFactory {
+
+    @Test
+    public void clientIsSharedBySessionsOfTheSameServer() throws Exception {
+        HttpClient.Factory delegate = mock(HttpClient.Factory.class);
+        HttpClient client = mock(HttpClient.class);
+        when(delegate.createClient(any(ClientConfig.class))).thenReturn(client);
+        SharedHttpClientFactory factory = new SharedHttpClientFactory(delegate);
+
+        HttpClient first = factory.createClient(config("http://localhost:4444/wd/hub"));
+        HttpClient second = factory.createClient(config("http://LOCALHOST:4444/wd/hub/"));
+        first.execute(new HttpRequest(HttpMethod.GET, "/status"));
+        second.execute(new HttpRequest(HttpMethod.GET, "/status"));
+
+        verify(delegate, times(1)).createClient(any(ClientConfig.class));
+        verify(client, times(2)).execute(any(HttpRequest.class));
+        Assert.assertEquals(1, factory.getSharedClientCount());
+
+        factory.createClient(config("http://localhost:5555/wd/hub"));
+        Assert.assertEquals("Another server gets another client", 2, factory.getSharedClientCount());
+    }
+
+    @Test
+    public void closedLeaseKeepsClientUntilIdleClientsAreCleanedUp() throws Exception {
+        HttpClient.Factory delegate = mock(HttpClient.Factory.class);
+        HttpClient client = mock(HttpClient.class);
+        when(delegate.createClient(any(ClientConfig.class))).thenReturn(client);
+        SharedHttpClientFactory factory = new SharedHttpClientFactory(delegate);
+
+        HttpClient first = factory.createClient(config("http://localhost:4444/wd/hub"));
+        HttpClient second = factory.createClient(config("http://localhost:4444/wd/hub"));
+        first.close();
+        first.close();
+        factory.cleanupIdleClients();
+        verify(client, never()).close();
+
+        second.close();
+        factory.createClient(config("http://localhost:4444/wd/hub")).close();
+        verify(delegate, times(1)).createClient(any(ClientConfig.class));
+
+        factory.cleanupIdleClients();
+        verify(client, times(1)).close();
+        Assert.assertEquals(0, factory.getSharedClientCount());
+    }
+
+    @Test
+    public void serverSettingsAreApplied() throws Exception {
+        HttpClient.Factory delegate = mock(HttpClient.Factory.class);
+        when(delegate.createClient(any(ClientConfig.class))).thenReturn(mock(HttpClient.class));
+        SharedHttpClientFactory factory = new SharedHttpClientFactory(delegate);
+
+        factory.configure(new URL("http://localhost:4444/wd/hub"), "HTTP_2", 0);
+        factory.createClient(config("http://localhost:4444/wd/hub"));
+
+        ArgumentCaptor<ClientConfig> captor = ArgumentCaptor.forClass(ClientConfig.class);
+        verify(delegate).createClient(captor.capture());
+        Assert.assertEquals("HTTP_2", captor.getValue().version());
+    }
+
+    @Test
+    public void concurrentCommandsAreBounded() throws Exception {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(2);
+        HttpClient client = mock(HttpClient.class);
+        when(client.execute(any(HttpRequest.class))).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            started.countDown();
+            Thread.sleep(50);
+            running.decrementAndGet();
+            return new HttpResponse();
+        });
+        HttpClient.Factory delegate = mock(HttpClient.Factory.class);
+        when(delegate.createClient(any(ClientConfig.class))).thenReturn(client);
+        SharedHttpClientFactory factory = new SharedHttpClientFactory(delegate);
+        factory.configure(new URL("http://localhost:4444/wd/hub"), null, 2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < 6; i++) {
+                HttpClient lease = factory.createClient(config("http://localhost:4444/wd/hub"));
+                futures.add(executor.submit(() -> lease.execute(new HttpRequest(HttpMethod.GET, "/status"))));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertTrue(started.await(0, TimeUnit.SECONDS));
+        Assert.assertEquals("At most 2 commands run at once", 2, maxRunning.get());
+    }
+
+    @Test
+    public void addressWithoutParsedHostIsKeyedByAuthority() throws Exception {
+        HttpClient.Factory delegate = mock(HttpClient.Factory.class);
+        when(delegate.createClient(any(ClientConfig.class))).thenReturn(mock(HttpClient.class));
+        SharedHttpClientFactory factory = new SharedHttpClientFactory(delegate);
+
+        factory.configure(new URL("http://selenium_hub:4444/wd/hub"), null, 1);
+        factory.createClient(config("http://selenium_hub:4444/wd/hub"));
+        factory.createClient(config("http://selenium_hub:4444/wd/hub"));
+        factory.createClient(ClientConfig.defaultConfig().baseUri(new URI("file:/tmp/selenium")));
+
+        verify(delegate, times(2)).createClient(any(ClientConfig.class));
+        Assert.assertEquals("Address without authority is not shared", 1, factory.getSharedClientCount());
+    }
+
+    @Test
+    public void commandWaitingLongerThanReadTimeoutFails() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        HttpClient client = mock(HttpClient.class);
+        when(client.execute(any(HttpRequest.class))).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return new HttpResponse();
+        });
+        HttpClient.Factory delegate = mock(HttpClient.Factory.class);
+        when(delegate.createClient(any(ClientConfig.class))).thenReturn(client);
+        SharedHttpClientFactory factory = new SharedHttpClientFactory(delegate);
+        factory.configure(new URL("http://localhost:4444/wd/hub"), null, 1);
+        ClientConfig config = config("http://localhost:4444/wd/hub").readTimeout(Duration.ofMillis(100));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            HttpClient first = factory.createClient(config);
+            Future<?> running = executor.submit(() -> first.execute(new HttpRequest(HttpMethod.GET, "/status")));
+            verify(client, timeout(5000)).execute(any(HttpRequest.class));
+            try {
+                factory.createClient(config).execute(new HttpRequest(HttpMethod.GET, "/status"));
+                Assert.fail("Command waiting for a free request slot should time out");
+            } catch (TimeoutException e) {
+                Assert.assertTrue(e.getMessage(), e.getMessage().contains("remoteHttpMaxConnections"));
+            }
+            release.countDown();
+            running.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static ClientConfig config(String url) throws Exception {
+        return ClientConfig.defaultConfig().baseUrl(new URL(url));
+    }
+}
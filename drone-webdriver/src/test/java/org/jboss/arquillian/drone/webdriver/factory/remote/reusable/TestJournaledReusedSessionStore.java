@@ -0,0 +1,171 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.remote.SessionId;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Every store opened here stands for a separate JVM sharing the same file storage
+ */
+public class TestJournaledReusedSessionStore {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File storeFile;
+
+    private InitializationParameter key;
+
+    @Before
+    public void initialize() throws IOException {
+        storeFile = new File(folder.getRoot(), "session-store");
+        ImmutableCapabilities capabilities = new ImmutableCapabilities("browserName", "firefox");
+        key = new InitializationParameter(new URL("http://localhost:4444/wd/hub"), capabilities);
+    }
+
+    @Test
+    public void when_session_is_pulled_by_one_store_then_other_store_cannot_pull_it() throws IOException {
+        // given
+        JournaledReusedSessionStore first = open();
+        JournaledReusedSessionStore second = open();
+        JournaledReusedSessionStore third = open();
+        ReusedSession session = new ReusedSession(new SessionId("shared"), new ImmutableCapabilities());
+        // when
+        first.store(key, session);
+        first.flush();
+        // then
+        assertEquals(session, second.pull(key));
+        assertNull(third.pull(key));
+        assertNull(first.pull(key));
+    }
+
+    @Test
+    public void when_two_stores_write_then_sessions_of_both_are_kept() throws IOException {
+        // given
+        JournaledReusedSessionStore first = open();
+        JournaledReusedSessionStore second = open();
+        // when
+        first.store(key, new ReusedSession(new SessionId("1"), new ImmutableCapabilities()));
+        second.store(key, new ReusedSession(new SessionId("2"), new ImmutableCapabilities()));
+        first.flush();
+        second.flush();
+        // then
+        JournaledReusedSessionStore reader = open();
+        assertEquals(new SessionId("2"), reader.pull(key).getSessionId());
+        assertEquals(new SessionId("1"), reader.pull(key).getSessionId());
+        assertNull(reader.pull(key));
+    }
+
+    @Test
+    public void when_journal_is_compacted_then_other_stores_reload_the_snapshot() throws IOException {
+        // given
+        JournaledReusedSessionStore writer = open();
+        JournaledReusedSessionStore reader = open();
+        int stored = 0;
+        // when
+        // the snapshot is written only when the journal is compacted
+        while (!storeFile.exists() && stored < 10000) {
+            writer.store(key, new ReusedSession(new SessionId(String.valueOf(stored++)), new ImmutableCapabilities()));
+            writer.flush();
+        }
+        // then
+        assertTrue("snapshot was written", storeFile.exists());
+        ReusedSession pulled = reader.pull(key);
+        assertNotNull(pulled);
+        assertEquals(new SessionId(String.valueOf(stored - 1)), pulled.getSessionId());
+    }
+
+    @Test
+    public void when_session_is_evicted_then_other_stores_do_not_see_it() throws IOException {
+        // given
+        JournaledReusedSessionStore writer = open();
+        writer.configure(ReusedSessionStoreImpl.DEFAULT_TIME_TO_LIVE_IN_SECONDS, 1);
+        InitializationParameter otherKey = new InitializationParameter(new URL("http://localhost:4444/wd/hub"),
+            new ImmutableCapabilities("browserName", "chrome"));
+        // when
+        writer.store(key, new ReusedSession(new SessionId("1"), new ImmutableCapabilities()));
+        writer.flush();
+        writer.store(otherKey, new ReusedSession(new SessionId("2"), new ImmutableCapabilities()));
+        writer.flush();
+        // then
+        JournaledReusedSessionStore reader = open();
+        assertNull(reader.pull(key));
+        assertEquals(new SessionId("2"), reader.pull(otherKey).getSessionId());
+    }
+
+    @Test
+    public void when_journal_contains_corrupt_record_then_it_is_ignored_and_replaced() throws IOException {
+        // given
+        JournaledReusedSessionStore writer = open();
+        writer.store(key, new ReusedSession(new SessionId("1"), new ImmutableCapabilities()));
+        writer.flush();
+        // when
+        try (DataOutputStream out = new DataOutputStream(
+            new FileOutputStream(storeFile.getPath() + ".journal", true))) {
+            out.writeInt(Integer.MAX_VALUE);
+            out.writeInt(42);
+        }
+        JournaledReusedSessionStore reader = open();
+        writer.store(key, new ReusedSession(new SessionId("2"), new ImmutableCapabilities()));
+        writer.flush();
+        // then
+        assertEquals(new SessionId("2"), reader.pull(key).getSessionId());
+        assertEquals(new SessionId("1"), reader.pull(key).getSessionId());
+        assertNull(reader.pull(key));
+    }
+
+    @Test
+    public void when_compaction_stops_after_snapshot_is_written_then_old_journal_is_not_replayed() throws IOException {
+        // given
+        JournaledReusedSessionStore writer = open();
+        writer.store(key, new ReusedSession(new SessionId("journaled"), new ImmutableCapabilities()));
+        writer.flush();
+        // when
+        // the snapshot already contains the journaled session, but it was claimed before the compaction
+        final ReusedSessionJournal journal = new ReusedSessionJournal(storeFile);
+        final ReusedSessionStoreImpl compacted = new ReusedSessionStoreImpl();
+        compacted.store(key, new ReusedSession(new SessionId("compacted"), new ImmutableCapabilities()));
+        journal.locked(() -> {
+            journal.writeSnapshot(compacted, ReusedSessionJournal.newGeneration());
+            return null;
+        });
+        // then
+        JournaledReusedSessionStore reader = open();
+        assertEquals(new SessionId("compacted"), reader.pull(key).getSessionId());
+        assertNull(reader.pull(key));
+        assertNull(writer.pull(key));
+    }
+
+    private JournaledReusedSessionStore open() throws IOException {
+        return JournaledReusedSessionStore.open(new ReusedSessionJournal(storeFile));
+    }
+}
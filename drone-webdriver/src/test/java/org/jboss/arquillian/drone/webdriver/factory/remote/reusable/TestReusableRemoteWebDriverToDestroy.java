@@ -0,0 +1,72 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
+
+import java.net.URL;
+import org.junit.Test;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestReusableRemoteWebDriverToDestroy {
+
+    @Test
+    public void when_drivers_are_destroyed_then_all_are_closed_without_quitting_sessions() throws Exception {
+        // given
+        RemoteWebDriver first = driver("1");
+        RemoteWebDriver second = driver("2");
+        ReusableRemoteWebDriverToDestroy toDestroy = new ReusableRemoteWebDriverToDestroy();
+        toDestroy.add(first);
+        toDestroy.add(second);
+        toDestroy.add(second);
+        // when
+        toDestroy.destroy();
+        // then
+        assertEquals(2, toDestroy.getHandedBackCount());
+        assertEquals(2, toDestroy.getClosedCount());
+        assertEquals(0, toDestroy.getPendingCount());
+        verify(first, never()).quit();
+        verify(second, never()).quit();
+    }
+
+    @Test
+    public void when_drivers_were_destroyed_then_they_are_not_closed_again() throws Exception {
+        // given
+        ReusableRemoteWebDriverToDestroy toDestroy = new ReusableRemoteWebDriverToDestroy(driver("1"));
+        toDestroy.destroy();
+        // when
+        toDestroy.add(driver("2"));
+        toDestroy.destroy();
+        toDestroy.destroy();
+        // then
+        assertEquals(2, toDestroy.getHandedBackCount());
+        assertEquals(2, toDestroy.getClosedCount());
+    }
+
+    private static RemoteWebDriver driver(String sessionId) throws Exception {
+        RemoteWebDriver driver = mock(RemoteWebDriver.class);
+        when(driver.getSessionId()).thenReturn(new SessionId(sessionId));
+        when(driver.getCommandExecutor()).thenReturn(new HttpCommandExecutor(new URL("http://localhost:4444/wd/hub")));
+        return driver;
+    }
+}
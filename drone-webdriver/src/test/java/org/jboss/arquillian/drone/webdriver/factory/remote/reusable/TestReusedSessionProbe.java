@@ -0,0 +1,56 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.Test;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.remote.SessionId;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TestReusedSessionProbe {
+
+    @Test
+    public void when_no_candidate_can_be_reused_then_all_are_evicted() throws IOException {
+        // given
+        URL unreachable = new URL("http://localhost:" + freePort() + "/wd/hub");
+        List<ReusedSession> released = new CopyOnWriteArrayList<ReusedSession>();
+        ReusedSessionProbe probe = new ReusedSessionProbe(unreachable, released::add, 30000);
+        List<ReusedSession> candidates = Arrays.asList(
+            new ReusedSession(new SessionId("1"), new ImmutableCapabilities()),
+            new ReusedSession(new SessionId("2"), new ImmutableCapabilities()));
+        // when
+        long start = System.currentTimeMillis();
+        // then
+        assertNull(probe.firstLive(candidates));
+        assertTrue("probe did not wait for the deadline", System.currentTimeMillis() - start < 30000);
+        assertTrue("no session was released to the store", released.isEmpty());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -18,12 +18,18 @@ package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 import org.openqa.selenium.ImmutableCapabilities;
 import org.openqa.selenium.remote.SessionId;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
 
 /**
@@ -110,4 +116,130 @@ public class TestReusedSessionStoreImpl {
         assertEquals(session2, store.pull(key2));
         assertEquals(session1, store.pull(key1));
     }
+
+    @Test
+    public void when_two_sessions_are_stored_under_same_key_then_the_most_recent_is_pulled_first() {
+        // given
+        ReusedSessionStoreImpl store = new ReusedSessionStoreImpl();
+        ReusedSession session3 = new ReusedSession(new SessionId("3"), new ImmutableCapabilities());
+        // when
+        store.store(key1, session1);
+        store.store(key1, session3);
+        // then
+        assertEquals(session3, store.pull(key1));
+        assertEquals(session1, store.pull(key1));
+        assertNull(store.pull(key1));
+    }
+
+    @Test
+    public void when_capabilities_are_equal_then_fingerprint_is_equal() throws MalformedURLException {
+        // given
+        URL url = new URL("http://localhost:8080/1/");
+        InitializationParameter first = new InitializationParameter(url,
+            new ImmutableCapabilities("browserName", "firefox", "acceptInsecureCerts", true));
+        InitializationParameter second = new InitializationParameter(url,
+            new ImmutableCapabilities("acceptInsecureCerts", true, "browserName", "firefox"));
+        InitializationParameter other = new InitializationParameter(url,
+            new ImmutableCapabilities("browserName", "chrome", "acceptInsecureCerts", true));
+        // then
+        assertEquals(first.getFingerprint(), second.getFingerprint());
+        assertNotEquals(first.getFingerprint(), other.getFingerprint());
+        assertNotEquals(key1.getFingerprint(), key2.getFingerprint());
+    }
+
+    @Test
+    public void when_capabilities_differ_in_ignored_capabilities_then_session_is_reused() throws MalformedURLException {
+        // given
+        URL url = new URL("http://localhost:8080/1/");
+        CapabilityMatchingPolicy policy =
+            new CapabilityMatchingPolicy(false, Arrays.asList("goog:loggingPrefs", "goog:chromeOptions.binary"));
+        InitializationParameter stored = new InitializationParameter(url, new ImmutableCapabilities("browserName",
+            "chrome", "goog:loggingPrefs", map("browser", "ALL"), "goog:chromeOptions",
+            map("binary", "/usr/bin/chrome")), policy);
+        InitializationParameter requested = new InitializationParameter(url, new ImmutableCapabilities("browserName",
+            "chrome", "goog:chromeOptions", map("binary", "/opt/chrome")), policy);
+        ReusedSessionStoreImpl store = new ReusedSessionStoreImpl();
+        // when
+        store.store(stored, session1);
+        // then
+        assertEquals(stored, requested);
+        assertEquals(session1, store.pull(requested));
+        assertNotEquals(new InitializationParameter(url, stored.getCapabilities()),
+            new InitializationParameter(url, requested.getCapabilities()));
+    }
+
+    @Test
+    public void when_matching_is_normalized_then_order_of_arguments_does_not_matter() throws MalformedURLException {
+        // given
+        URL url = new URL("http://localhost:8080/1/");
+        CapabilityMatchingPolicy policy = new CapabilityMatchingPolicy(true, Collections.<String>emptyList());
+        ImmutableCapabilities first = new ImmutableCapabilities("browserName", "chrome", "goog:chromeOptions",
+            map("args", new ArrayList<Object>(Arrays.asList("--headless", "--no-sandbox"))));
+        ImmutableCapabilities second = new ImmutableCapabilities("browserName", "chrome", "goog:chromeOptions",
+            map("args", new ArrayList<Object>(Arrays.asList("--no-sandbox", "--headless"))));
+        // then
+        assertEquals(new InitializationParameter(url, first, policy).getFingerprint(),
+            new InitializationParameter(url, second, policy).getFingerprint());
+        assertNotEquals(new InitializationParameter(url, first).getFingerprint(),
+            new InitializationParameter(url, second).getFingerprint());
+    }
+
+    @Test
+    public void when_values_differ_in_type_or_separators_then_canonical_forms_differ() {
+        // given
+        Map<String, Object> twoValues = new HashMap<String, Object>();
+        twoValues.put("a", "1");
+        twoValues.put("b", "2");
+        CapabilityMatchingPolicy normalized =
+            new CapabilityMatchingPolicy(true, Collections.singletonList("ignored"));
+        // then
+        for (CapabilityMatchingPolicy policy : Arrays.asList(CapabilityMatchingPolicy.EXACT, normalized)) {
+            assertNotEquals(policy.canonicalForm(map("a", "1,b=2")), policy.canonicalForm(twoValues));
+            assertNotEquals(policy.canonicalForm(map("a", "null")), policy.canonicalForm(map("a", null)));
+            assertNotEquals(policy.canonicalForm(map("a", "1")), policy.canonicalForm(map("a", 1)));
+            assertNotEquals(policy.canonicalForm(map("a", "true")), policy.canonicalForm(map("a", true)));
+            assertNotEquals(policy.canonicalForm(map("a", Arrays.asList("x,y"))),
+                policy.canonicalForm(map("a", Arrays.asList("x", "y"))));
+            assertNotEquals(policy.canonicalForm(map("a", Arrays.asList("1", 2))),
+                policy.canonicalForm(map("a", Arrays.asList(1, "2"))));
+            assertNotEquals(policy.canonicalForm(map("a", "{\"b\":1}")), policy.canonicalForm(map("a", map("b", 1))));
+        }
+    }
+
+    @Test
+    public void when_sessions_expire_then_purge_removes_them() {
+        // given
+        ReusedSessionStoreImpl store = new ReusedSessionStoreImpl();
+        store.configure(0, 0);
+        // when
+        store.store(key1, session1);
+        store.store(key2, session2);
+        // then
+        assertEquals(2, store.purge());
+        assertNull(store.pull(key1));
+        assertNull(store.pull(key2));
+    }
+
+    @Test
+    public void when_store_is_full_then_least_recently_used_key_is_evicted() {
+        // given
+        ReusedSessionStoreImpl store = new ReusedSessionStoreImpl();
+        ReusedSession session3 = new ReusedSession(new SessionId("3"), new ImmutableCapabilities());
+        store.configure(ReusedSessionStoreImpl.DEFAULT_TIME_TO_LIVE_IN_SECONDS, 2);
+        // when
+        store.store(key1, session1);
+        store.store(key2, session2);
+        store.store(key1, session3);
+        // then
+        assertNull(store.pull(key2));
+        assertEquals(session3, store.pull(key1));
+        assertEquals(session1, store.pull(key1));
+    }
+
+    // capabilities are kept for reuse only if they are serializable
+    private static Map<String, Object> map(String key, Object value) {
+        Map<String, Object> map = new HashMap<String, Object>();
+        map.put(key, value);
+        return map;
+    }
 }
@@ -18,14 +18,23 @@ package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.UUID;
+import org.apache.commons.io.FileUtils;
 import org.jboss.arquillian.drone.webdriver.factory.BrowserCapabilitiesList;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.openqa.selenium.ImmutableCapabilities;
 import org.openqa.selenium.remote.SessionId;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -36,13 +45,16 @@ import static org.junit.Assert.assertNull;
 @RunWith(MockitoJUnitRunner.class)
 public class TestReusedSessionStoreImplSerialization {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     ReusedSessionPermanentFileStorage fileStore;
 
     @Test
     public void when_store_is_serialized_to_file_then_it_can_be_deserialized_and_reused() throws IOException {
 
         // given
-        File tmpFile = File.createTempFile("drone-webdriver-session-store", "");
+        File tmpFile = folder.newFile("drone-webdriver-session-store");
         System.setProperty(ReusedSessionPermanentFileStorage.FILE_STORE_PROPERTY, tmpFile.getAbsolutePath());
 
         fileStore = new ReusedSessionPermanentFileStorage();
@@ -62,9 +74,7 @@ public class TestReusedSessionStoreImplSerialization {
             ReusedSession restoredSession = restoredStore.pull(key);
             assertEquals(session, restoredSession);
         } finally {
-            if (tmpFile != null && tmpFile.exists()) {
-                tmpFile.delete();
-            }
+            System.clearProperty(ReusedSessionPermanentFileStorage.FILE_STORE_PROPERTY);
         }
     }
 
@@ -72,7 +82,7 @@ public class TestReusedSessionStoreImplSerialization {
     public void when_store_file_does_not_exists_then_null_is_returned() {
 
         // given
-        File nonExistent = new File(UUID.randomUUID().toString());
+        File nonExistent = new File(folder.getRoot(), UUID.randomUUID().toString());
         System.setProperty(ReusedSessionPermanentFileStorage.FILE_STORE_PROPERTY, nonExistent.getAbsolutePath());
         fileStore = new ReusedSessionPermanentFileStorage();
 
@@ -83,4 +93,82 @@ public class TestReusedSessionStoreImplSerialization {
         // then
         assertNull(loadedStore);
     }
+
+    @Test
+    public void when_store_is_written_then_it_has_versioned_header_and_keeps_nested_capabilities() throws IOException {
+
+        // given
+        File tmpFile = folder.newFile("drone-webdriver-session-store");
+        System.setProperty(ReusedSessionPermanentFileStorage.FILE_STORE_PROPERTY, tmpFile.getAbsolutePath());
+
+        fileStore = new ReusedSessionPermanentFileStorage();
+        ReusedSessionStoreImpl store = new ReusedSessionStoreImpl();
+        ImmutableCapabilities capabilities = new ImmutableCapabilities("browserName", "chrome", "goog:chromeOptions",
+            Collections.singletonMap("args", Arrays.asList("--headless", "--no-sandbox")), "pageLoadTimeout", 300L);
+        InitializationParameter key = new InitializationParameter(new URL("http://localhost/"), capabilities);
+        ReusedSession session = new ReusedSession(new SessionId("nested"), capabilities);
+
+        try {
+            // when
+            store.store(key, session);
+            fileStore.writeStore(store);
+
+            // then
+            byte[] header = Arrays.copyOf(FileUtils.readFileToByteArray(tmpFile), 4);
+            assertArrayEquals(ReusedSessionStoreFormat.MAGIC, header);
+            assertEquals(session, fileStore.loadStore().pull(key));
+        } finally {
+            System.clearProperty(ReusedSessionPermanentFileStorage.FILE_STORE_PROPERTY);
+        }
+    }
+
+    @Test
+    public void when_store_was_written_by_previous_version_then_its_sessions_are_migrated() throws IOException {
+
+        // given
+        // sessions in this store are timestamped in 2100, so that they never expire
+        File tmpFile = folder.newFile("drone-webdriver-session-store");
+        try (InputStream legacy = getClass().getResourceAsStream("/reusable/legacy-session-store")) {
+            FileUtils.copyInputStreamToFile(legacy, tmpFile);
+        }
+        System.setProperty(ReusedSessionPermanentFileStorage.FILE_STORE_PROPERTY, tmpFile.getAbsolutePath());
+        fileStore = new ReusedSessionPermanentFileStorage();
+        ImmutableCapabilities capabilities = new ImmutableCapabilities("browserName", "firefox");
+        InitializationParameter key =
+            new InitializationParameter(new URL("http://localhost:4444/wd/hub"), capabilities);
+
+        try {
+            // when
+            ReusedSessionStore migratedStore = fileStore.loadStore();
+
+            // then
+            assertNotNull(migratedStore);
+            ReusedSession migratedSession = migratedStore.pull(key);
+            assertNotNull(migratedSession);
+            assertEquals(new SessionId("legacy-session"), migratedSession.getSessionId());
+        } finally {
+            System.clearProperty(ReusedSessionPermanentFileStorage.FILE_STORE_PROPERTY);
+        }
+    }
+
+    @Test
+    public void when_record_contains_invalid_length_then_session_is_skipped() {
+
+        // given
+        ReusedSession session = new ReusedSession(new SessionId("corrupt"),
+            new ImmutableCapabilities("browserName", "chrome"));
+        byte[] record = ReusedSessionStoreFormat.writeSession(session);
+
+        // when
+        // the record starts with length of session id
+        byte[] tooLong = record.clone();
+        ByteBuffer.wrap(tooLong).putInt(Integer.MAX_VALUE);
+        byte[] negative = record.clone();
+        ByteBuffer.wrap(negative).putInt(-1);
+
+        // then
+        assertEquals(session, ReusedSessionStoreFormat.readSession(record));
+        assertNull(ReusedSessionStoreFormat.readSession(tooLong));
+        assertNull(ReusedSessionStoreFormat.readSession(negative));
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestReusedSessionStoreWriter {
+
+    @Test
+    public void when_write_is_requested_many_times_then_store_is_written_once_on_flush() {
+        // given
+        CountingStorage storage = new CountingStorage();
+        ReusedSessionStoreWriter writer =
+            new ReusedSessionStoreWriter(storage, new ReusedSessionStoreImpl(), TimeUnit.HOURS.toMillis(1));
+        // when
+        for (int i = 0; i < 10; i++) {
+            writer.requestWrite();
+        }
+        // then
+        assertEquals(0, storage.writes.get());
+        writer.flush();
+        assertEquals(1, storage.writes.get());
+        writer.close();
+        assertEquals(1, storage.writes.get());
+    }
+
+    @Test
+    public void when_write_is_requested_then_store_is_written_in_background() throws InterruptedException {
+        // given
+        CountingStorage storage = new CountingStorage();
+        ReusedSessionStoreWriter writer = new ReusedSessionStoreWriter(storage, new ReusedSessionStoreImpl(), 10);
+        // when
+        writer.requestWrite();
+        // then
+        assertTrue("store was written", storage.written.await(5, TimeUnit.SECONDS));
+        writer.close();
+        assertEquals(1, storage.writes.get());
+    }
+
+    private static class CountingStorage implements ReusedSessionPermanentStorage {
+
+        private final AtomicInteger writes = new AtomicInteger();
+
+        private final CountDownLatch written = new CountDownLatch(1);
+
+        @Override
+        public ReusedSessionStore loadStore() {
+            return null;
+        }
+
+        @Override
+        public void writeStore(ReusedSessionStore store) {
+            writes.incrementAndGet();
+            written.countDown();
+        }
+    }
+}
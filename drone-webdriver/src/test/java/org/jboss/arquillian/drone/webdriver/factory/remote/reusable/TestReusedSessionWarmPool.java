@@ -0,0 +1,92 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.factory.remote.reusable;
+
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.SessionId;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestReusedSessionWarmPool {
+
+    @Test
+    public void when_pool_is_filled_then_sessions_are_created_in_parallel_and_stored() throws Exception {
+        // given
+        ReusedSessionStore store = new ReusedSessionStoreImpl();
+        InitializationParameter chrome = new InitializationParameter(new URL("http://localhost:4444/wd/hub"),
+            new ImmutableCapabilities("browserName", "chrome"));
+        InitializationParameter firefox = new InitializationParameter(new URL("http://localhost:4444/wd/hub"),
+            new ImmutableCapabilities("browserName", "firefox"));
+        Map<InitializationParameter, Integer> missing = new LinkedHashMap<InitializationParameter, Integer>();
+        missing.put(chrome, 2);
+        missing.put(firefox, 1);
+        // every session waits until all of them are being created
+        final CountDownLatch started = new CountDownLatch(3);
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        // when
+        int stored = ReusedSessionWarmPool.fill(store, missing, initParam -> {
+            threads.add(Thread.currentThread().getName());
+            started.countDown();
+            try {
+                assertTrue("sessions were not created in parallel", started.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return ReusedSession.createInstance(new SessionId(UUID.randomUUID()), initParam.getCapabilities());
+        });
+        // then
+        assertEquals(3, stored);
+        assertEquals(3, threads.size());
+        assertEquals(2, store.count(chrome));
+        assertEquals(1, store.count(firefox));
+    }
+
+    @Test
+    public void when_session_cannot_be_created_then_it_is_skipped() throws Exception {
+        // given
+        ReusedSessionStore store = new ReusedSessionStoreImpl();
+        InitializationParameter chrome = new InitializationParameter(new URL("http://localhost:4444/wd/hub"),
+            new ImmutableCapabilities("browserName", "chrome"));
+        InitializationParameter firefox = new InitializationParameter(new URL("http://localhost:4444/wd/hub"),
+            new ImmutableCapabilities("browserName", "firefox"));
+        Map<InitializationParameter, Integer> missing = new LinkedHashMap<InitializationParameter, Integer>();
+        missing.put(chrome, 1);
+        missing.put(firefox, 1);
+        // when
+        int stored = ReusedSessionWarmPool.fill(store, missing, initParam -> {
+            if (initParam == firefox) {
+                throw new WebDriverException("browser is not available");
+            }
+            return ReusedSession.createInstance(new SessionId(UUID.randomUUID()), initParam.getCapabilities());
+        });
+        // then
+        assertEquals(1, stored);
+        assertEquals(1, store.count(chrome));
+        assertEquals(0, store.count(firefox));
+    }
+}
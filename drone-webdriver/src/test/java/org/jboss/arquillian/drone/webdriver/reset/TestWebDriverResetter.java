@@ -0,0 +1,61 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.reset;
+
+import java.util.Collections;
+import org.junit.Test;
+import org.mockito.Answers;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+public class TestWebDriverResetter {
+
+    @Test
+    public void when_browser_supports_devtools_then_cookies_of_all_domains_are_cleared() {
+        // given
+        WebDriver driver = mock(WebDriver.class,
+            withSettings().extraInterfaces(HasCdp.class, JavascriptExecutor.class)
+                .defaultAnswer(Answers.RETURNS_DEEP_STUBS));
+        when(driver.getWindowHandles()).thenReturn(Collections.singleton("main"));
+        // when
+        boolean reset = new WebDriverResetter().resetInstance(driver);
+        // then
+        assertTrue(reset);
+        verify((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+        verify(driver.manage()).deleteAllCookies();
+        verify(driver).get(WebDriverResetter.BLANK_PAGE);
+    }
+
+    @Test
+    public void when_browser_does_not_support_devtools_then_cookies_of_current_page_are_deleted() {
+        // given
+        WebDriver driver = mock(WebDriver.class, Answers.RETURNS_DEEP_STUBS);
+        when(driver.getWindowHandles()).thenReturn(Collections.singleton("main"));
+        // when
+        boolean reset = new WebDriverResetter().resetInstance(driver);
+        // then
+        assertTrue(reset);
+        verify(driver.manage()).deleteAllCookies();
+    }
+}
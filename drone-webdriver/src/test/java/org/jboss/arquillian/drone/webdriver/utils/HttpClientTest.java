@@ -0,0 +1,135 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.utils;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class HttpClientTest {
+
+    private static final String ETAG = "\"v1\"";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private HttpServer server;
+
+    private final AtomicInteger notModified = new AtomicInteger();
+
+    private final Set<Integer> clientPorts = new HashSet<>();
+
+    @Before
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/asset", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                byte[] body = "asset".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("ETag", ETAG);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @After
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void storedAssetIsRevalidatedByETag() throws IOException {
+        GitHubLastUpdateCache cache = new GitHubLastUpdateCache(folder.newFolder());
+        HttpClient client = new HttpClient();
+
+        HttpClient.Response first = client.getIfModified(url(), Collections.emptyMap(), cache, "asset");
+        assertEquals(200, first.getStatusCode());
+        assertFalse(first.isNotModified());
+        assertNull(cache.eTagOf("asset"));
+        cache.store(new Asset(first.getPayload()), "asset", ZonedDateTime.now(), first.getHeader("etag"));
+        assertEquals(ETAG, cache.eTagOf("asset"));
+
+        HttpClient.Response second = client.getIfModified(url(), Collections.emptyMap(), cache, "asset");
+        assertTrue(second.isNotModified());
+        assertEquals(1, notModified.get());
+        assertEquals("asset", cache.load("asset", Asset.class).content);
+    }
+
+    @Test
+    public void connectionIsReusedByRequests() throws IOException {
+        HttpClient client = new HttpClient();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("asset", client.get(url()).getPayload());
+        }
+        assertEquals("All requests use the same connection", 1, clientPorts.size());
+    }
+
+    @Test
+    public void responseIsStreamed() throws IOException {
+        try (HttpClient.StreamingResponse response = new HttpClient().getStream(url(), Collections.emptyMap());
+             InputStream content = response.getContent()) {
+            assertEquals(200, response.getStatusCode());
+            assertEquals(ETAG, response.getHeader("ETag"));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[2];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            assertEquals("asset", new String(out.toByteArray(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private String url() {
+        return "http://localhost:" + server.getAddress().getPort() + "/asset";
+    }
+
+    private static class Asset {
+        private String content;
+
+        Asset(String content) {
+            this.content = content;
+        }
+    }
+}
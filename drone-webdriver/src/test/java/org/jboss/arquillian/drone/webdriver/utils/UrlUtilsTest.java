@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.drone.webdriver.utils;
+
+import java.net.ServerSocket;
+import java.net.URL;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for cached reachability checks of UrlUtils
+ */
+public class UrlUtilsTest {
+
+    @After
+    public void clearCache() {
+        UrlUtils.clearCache();
+    }
+
+    @Test
+    public void reachabilityIsCachedUntilInvalidated() throws Exception {
+        URL url;
+        try (ServerSocket server = new ServerSocket(0)) {
+            url = new URL("http://localhost:" + server.getLocalPort() + "/wd/hub");
+            Assert.assertTrue("Server is reachable", UrlUtils.isReachable(url));
+        }
+
+        Assert.assertTrue("Reachability is cached", UrlUtils.isReachable(url));
+
+        UrlUtils.invalidate(url);
+        Assert.assertFalse("Closed server is not reachable", UrlUtils.isReachable(url));
+    }
+
+    @Test
+    public void unreachableAddressIsCached() throws Exception {
+        int port;
+        try (ServerSocket server = new ServerSocket(0)) {
+            port = server.getLocalPort();
+        }
+        URL url = new URL("http://localhost:" + port + "/wd/hub");
+        Assert.assertFalse("Server is not reachable", UrlUtils.isReachable(url));
+
+        try (ServerSocket server = new ServerSocket(port)) {
+            Assert.assertFalse("Unreachability is cached", UrlUtils.isReachable(url));
+            Assert.assertFalse("Cache is shared by all paths of the server",
+                UrlUtils.isReachable(new URL("http://LOCALHOST:" + port + "/status")));
+
+            UrlUtils.invalidate(url);
+            Assert.assertTrue("Started server is reachable", UrlUtils.isReachable(url));
+        }
+    }
+
+    @Test
+    public void failedCheckIsNotCached() throws Exception {
+        URL url = new URL("http://localhost:70000/wd/hub");
+        for (int i = 0; i < 2; i++) {
+            try {
+                UrlUtils.isReachable(url);
+                Assert.fail("Invalid port is rejected");
+            } catch (IllegalArgumentException e) {
+                // expected, the failed check is not left in the cache
+            }
+        }
+    }
+
+    @Test
+    public void localhostIsDetected() throws Exception {
+        Assert.assertTrue(UrlUtils.isLocalhost(new URL("http://localhost:4444/wd/hub")));
+        Assert.assertTrue(UrlUtils.isLocalhost(new URL("http://127.0.0.1:4444/wd/hub")));
+        Assert.assertFalse(UrlUtils.isLocalhost(new URL("http://unknown.host.invalid:4444/wd/hub")));
+    }
+}